@@ -0,0 +1,117 @@
+package com.bank.benchmark.application;
+
+import com.bank.BankApplication;
+import com.bank.application.port.input.*;
+import com.bank.application.port.input.dto.*;
+import com.bank.domain.account.valueobject.AccountNumber;
+import com.bank.domain.account.valueobject.Money;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * 유스케이스를 임베디드 H2 위의 애플리케이션 컨텍스트로 측정한다. (트랜잭션, 잠금, 영속화 포함)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class BankServiceBenchmark {
+
+    private static final Money AMOUNT = Money.of(new BigDecimal("1"));
+
+    /*
+     * pessimistic: 행 잠금, optimistic: @Version 검사 + 재시도
+     */
+    @Param({"pessimistic", "optimistic"})
+    private String concurrencyMode;
+
+    private ConfigurableApplicationContext context;
+    private CreateAccountUseCase createAccountUseCase;
+    private DepositMoneyUseCase depositMoneyUseCase;
+    private WithdrawMoneyUseCase withdrawMoneyUseCase;
+    private TransferMoneyUseCase transferMoneyUseCase;
+    private AccountTransactionRetrieveUseCase accountTransactionRetrieveUseCase;
+    private AccountNumber senderAccountNumber;
+    private AccountNumber receiverAccountNumber;
+    private AccountNumber withdrawalAccountNumber;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // properties() 는 기본값이라 application.yml 에 덮어써진다. 명령행 인자로 넘겨야 우선 적용된다.
+        context = new SpringApplicationBuilder(BankApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(
+                        "--spring.datasource.url=jdbc:h2:mem:benchmark-" + concurrencyMode + ";DB_CLOSE_DELAY=-1",
+                        "--spring.jpa.properties.hibernate.show_sql=false",
+                        "--spring.h2.console.enabled=false",
+                        "--logging.level.root=WARN",
+                        "--bank.concurrency.mode=" + concurrencyMode,
+                        "--bank.outbox.sink.path=build/outbox/benchmark-account-events.jsonl"
+                );
+
+        createAccountUseCase = context.getBean(CreateAccountUseCase.class);
+        depositMoneyUseCase = context.getBean(DepositMoneyUseCase.class);
+        withdrawMoneyUseCase = context.getBean(WithdrawMoneyUseCase.class);
+        transferMoneyUseCase = context.getBean(TransferMoneyUseCase.class);
+        accountTransactionRetrieveUseCase = context.getBean(AccountTransactionRetrieveUseCase.class);
+
+        // 일일 한도(출금 100만원, 이체 300만원) 안에서 측정이 끝나도록 1원 단위로 거래한다.
+        senderAccountNumber = createAccountUseCase.createAccount(new CreateAccountCommand("sender")).accountNumber();
+        receiverAccountNumber = createAccountUseCase.createAccount(new CreateAccountCommand("receiver")).accountNumber();
+        depositMoneyUseCase.deposit(new DepositMoneyCommand(senderAccountNumber, Money.of(new BigDecimal("100000000"))));
+        for (int i = 0; i < 100; i++) {
+            transferMoneyUseCase.transfer(new TransferMoneyCommand(senderAccountNumber, receiverAccountNumber, AMOUNT));
+        }
+        // 출금은 별도 계좌에서 한다. (수취 계좌 잔액은 예열 이체 금액뿐이라 측정 중에 잔액 부족이 된다.)
+        withdrawalAccountNumber = createAccountUseCase.createAccount(new CreateAccountCommand("withdrawal")).accountNumber();
+        depositMoneyUseCase.deposit(new DepositMoneyCommand(withdrawalAccountNumber, Money.of(new BigDecimal("100000000"))));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public CreateAccountResponse createAccount() {
+        return createAccountUseCase.createAccount(new CreateAccountCommand("benchmark"));
+    }
+
+    @Benchmark
+    public DepositMoneyResponse deposit() {
+        return depositMoneyUseCase.deposit(new DepositMoneyCommand(receiverAccountNumber, AMOUNT));
+    }
+
+    @Benchmark
+    public WithdrawMoneyResponse withdraw() {
+        return withdrawMoneyUseCase.withdraw(new WithdrawMoneyCommand(withdrawalAccountNumber, AMOUNT));
+    }
+
+    @Benchmark
+    public TransferMoneyResponse transfer() {
+        return transferMoneyUseCase.transfer(new TransferMoneyCommand(senderAccountNumber, receiverAccountNumber, AMOUNT));
+    }
+
+    /*
+     * 같은 계좌에 대한 동시 이체 (잠금 경합)
+     */
+    @Benchmark
+    @Threads(4)
+    public TransferMoneyResponse contendedTransfer() {
+        return transferMoneyUseCase.transfer(new TransferMoneyCommand(senderAccountNumber, receiverAccountNumber, AMOUNT));
+    }
+
+    @Benchmark
+    public AccountTransactionRetrieveResponse retrieveAccountTransactions() {
+        return accountTransactionRetrieveUseCase.retrieveAccountTransactions(new AccountTransactionRetrieveCommand(senderAccountNumber, 0, 20));
+    }
+
+    @Benchmark
+    public AccountTransactionSliceRetrieveResponse retrieveAccountTransactionSlice() {
+        return accountTransactionRetrieveUseCase.retrieveAccountTransactionSlice(new AccountTransactionSliceRetrieveCommand(senderAccountNumber, null, 20));
+    }
+}
@@ -0,0 +1,115 @@
+package com.bank.benchmark.domain;
+
+import com.bank.domain.account.entity.Account;
+import com.bank.domain.account.entity.AccountStatus;
+import com.bank.domain.account.entity.AccountTransaction;
+import com.bank.domain.account.entity.TransferTransaction;
+import com.bank.domain.account.valueobject.AccountId;
+import com.bank.domain.account.valueobject.AccountNumber;
+import com.bank.domain.account.valueobject.AccountSnapshot;
+import com.bank.domain.account.valueobject.AccountTransactionId;
+import com.bank.domain.account.valueobject.DailyLimitUsage;
+import com.bank.domain.account.valueobject.FeeRate;
+import com.bank.domain.account.valueobject.Money;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * 계좌 도메인 연산을 거래 내역 크기별로 측정한다.
+ * - rehydrate: 거래 내역을 가진 계좌 생성 (일일 한도 사용량 재집계 포함)
+ * - transfer: 이체 (거래 내역 크기와 무관해야 한다.)
+ * - replaySnapshot: 이벤트 저장 모드 복원, 최근 스냅샷 + 이후 거래 (스냅샷 간격으로 제한되어 거래 내역 크기와 무관해야 한다.)
+ */
+@State(Scope.Thread)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AccountBenchmark {
+
+    private static final int TRANSFER_BATCH_SIZE = 10_000;
+    private static final Money UNLIMITED = Money.of(new BigDecimal("1000000000000"));
+    private static final int SNAPSHOT_INTERVAL = 100;
+
+    @Param({"0", "1000", "100000"})
+    private int historySize;
+
+    private AccountId senderAccountId;
+    private AccountId receiverAccountId;
+    private List<AccountTransaction> history;
+    private List<AccountTransaction> eventsSinceSnapshot;
+    private Money amount;
+    private Account account;
+
+    @Setup(Level.Trial)
+    public void setUpHistory() {
+        senderAccountId = AccountId.generateId();
+        receiverAccountId = AccountId.generateId();
+        amount = Money.of(new BigDecimal("1000"));
+
+        ZonedDateTime now = ZonedDateTime.now();
+        history = new ArrayList<>(historySize);
+        for (int i = 0; i < historySize; i++) {
+            history.add(TransferTransaction.builder()
+                    .id(AccountTransactionId.generateId())
+                    .accountId(senderAccountId)
+                    .receiverAccountId(receiverAccountId)
+                    .amount(amount)
+                    .transferFee(Money.of(new BigDecimal("10")))
+                    .balance(UNLIMITED)
+                    .transactionAt(now.minusSeconds(i))
+                    .build());
+        }
+        // 스냅샷 직전(간격 - 1)까지 쌓인 경우가 가장 많이 읽는다.
+        eventsSinceSnapshot = history.subList(0, Math.min(historySize, SNAPSHOT_INTERVAL - 1));
+    }
+
+    /*
+     * 이체는 계좌 상태를 바꾸므로 측정 반복마다 계좌를 새로 만든다. (한도/잔액이 소진되지 않도록 충분히 크게)
+     */
+    @Setup(Level.Iteration)
+    public void setUpAccount() {
+        account = rehydrate();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    public Account rehydrate() {
+        return Account.builder()
+                .id(senderAccountId)
+                .accountNumber(AccountNumber.of("1000-000-000001"))
+                .accountHolderName("benchmark")
+                .balance(UNLIMITED)
+                .status(AccountStatus.ACTIVE)
+                .withdrawLimitAmount(UNLIMITED)
+                .transferLimitAmount(UNLIMITED)
+                .transferFeeRate(FeeRate.of(new BigDecimal("0.01")))
+                .createdAt(ZonedDateTime.now())
+                .transactions(history)
+                .build();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    public AccountSnapshot replaySnapshot() {
+        long eventSequence = historySize - eventsSinceSnapshot.size();
+        AccountSnapshot snapshot = new AccountSnapshot(eventSequence, UNLIMITED, DailyLimitUsage.empty(LocalDate.now()));
+        for (AccountTransaction transaction : eventsSinceSnapshot) {
+            snapshot = snapshot.apply(++eventSequence, transaction);
+        }
+        return snapshot;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 5, batchSize = TRANSFER_BATCH_SIZE)
+    @Measurement(iterations = 20, batchSize = TRANSFER_BATCH_SIZE)
+    public TransferTransaction transfer() {
+        TransferTransaction transaction = account.transfer(receiverAccountId, amount);
+        account.clearNewTransactions();
+        return transaction;
+    }
+}
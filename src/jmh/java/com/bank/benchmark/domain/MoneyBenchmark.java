@@ -0,0 +1,99 @@
+package com.bank.benchmark.domain;
+
+import com.bank.domain.account.entity.AccountClass;
+import com.bank.domain.account.valueobject.FeeRate;
+import com.bank.domain.account.valueobject.FeeSchedule;
+import com.bank.domain.account.valueobject.FeeTier;
+import com.bank.domain.account.valueobject.Money;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * 금액 값 객체 연산 (모든 거래마다 여러 번 호출된다.)
+ * bigDecimal* 는 이전 BigDecimal 기반 구현과 같은 연산으로, long 최소 단위 구현과의 비교 기준이다. (-prof gc 로 할당량 비교)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MoneyBenchmark {
+
+    private Money balance;
+    private Money amount;
+    private FeeRate feeRate;
+    private FeeSchedule feeSchedule;
+    private LocalTime time;
+    private BigDecimal balanceAmount;
+    private BigDecimal amountAmount;
+    private BigDecimal percentage;
+
+    @Setup
+    public void setUp() {
+        balance = Money.of(new BigDecimal("2500000.00"));
+        amount = Money.of(new BigDecimal("12345"));
+        feeRate = FeeRate.of(new BigDecimal("0.01"));
+        // 공통 20 개 금액 구간 + 등급 야간 구간
+        List<FeeTier> tiers = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            tiers.add(new FeeTier(null, null, null, Money.of(BigDecimal.valueOf(i * 10_000L)), 100 - i * 2, Money.ZERO, null, Money.of(new BigDecimal(10_000))));
+        }
+        tiers.add(new FeeTier(AccountClass.PREMIUM, LocalTime.of(22, 0), LocalTime.of(6, 0), Money.ZERO, 0, Money.ZERO, null, null));
+        feeSchedule = FeeSchedule.compile(tiers);
+        time = LocalTime.NOON;
+        balanceAmount = balance.amount();
+        amountAmount = amount.amount();
+        percentage = feeRate.percentage();
+    }
+
+    @Benchmark
+    public Money add() {
+        return balance.add(amount);
+    }
+
+    @Benchmark
+    public Money subtract() {
+        return balance.subtract(amount);
+    }
+
+    @Benchmark
+    public boolean isGreaterThan() {
+        return amount.isGreaterThan(balance);
+    }
+
+    @Benchmark
+    public Money calculateFee() {
+        return feeRate.calculateFee(amount);
+    }
+
+    @Benchmark
+    public Money tieredFee() {
+        return feeSchedule.calculateFee(AccountClass.STANDARD, amount, time, feeRate);
+    }
+
+    /*
+     * 이체 한 건에서 수행하는 금액 연산 묶음 (수수료 계산, 잔액 검증, 잔액 차감)
+     */
+    @Benchmark
+    public Money transferArithmetic() {
+        Money transferFee = feeRate.calculateFee(amount);
+        Money total = amount.add(transferFee);
+        return total.isGreaterThan(balance) ? balance : balance.subtract(total);
+    }
+
+    @Benchmark
+    public BigDecimal bigDecimalCalculateFee() {
+        return amountAmount.multiply(percentage).setScale(2, RoundingMode.HALF_EVEN);
+    }
+
+    @Benchmark
+    public BigDecimal bigDecimalTransferArithmetic() {
+        BigDecimal transferFee = amountAmount.multiply(percentage).setScale(2, RoundingMode.HALF_EVEN);
+        BigDecimal total = amountAmount.add(transferFee).setScale(2, RoundingMode.HALF_EVEN);
+        return total.compareTo(balanceAmount) > 0 ? balanceAmount : balanceAmount.subtract(total).setScale(2, RoundingMode.HALF_EVEN);
+    }
+}
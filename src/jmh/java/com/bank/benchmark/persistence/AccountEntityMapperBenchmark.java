@@ -0,0 +1,99 @@
+package com.bank.benchmark.persistence;
+
+import com.bank.adapter.output.persistence.entity.AccountEntity;
+import com.bank.adapter.output.persistence.mapper.AccountEntityMapper;
+import com.bank.domain.account.entity.*;
+import com.bank.domain.account.valueobject.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * 도메인 모델 <-> JPA 엔티티 변환을 거래 내역 크기별로 측정한다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AccountEntityMapperBenchmark {
+
+    @Param({"0", "100", "10000"})
+    private int historySize;
+
+    private final AccountEntityMapper mapper = new AccountEntityMapper();
+    private Account account;
+    private AccountEntity accountEntity;
+
+    @Setup
+    public void setUp() {
+        AccountId accountId = AccountId.generateId();
+        AccountId counterpartyAccountId = AccountId.generateId();
+        ZonedDateTime now = ZonedDateTime.now();
+
+        // 입금/수취/송금/출금을 고르게 섞는다.
+        List<AccountTransaction> history = new ArrayList<>(historySize);
+        for (int i = 0; i < historySize; i++) {
+            history.add(transaction(i % 4, accountId, counterpartyAccountId, now.minusSeconds(i)));
+        }
+
+        account = Account.builder()
+                .id(accountId)
+                .accountNumber(AccountNumber.of("1000-000-000001"))
+                .accountHolderName("benchmark")
+                .balance(Money.of(new BigDecimal("1000000")))
+                .status(AccountStatus.ACTIVE)
+                .dailyLimitUsage(DailyLimitUsage.empty(LocalDate.now()))
+                .createdAt(now)
+                .transactions(history)
+                .build();
+        accountEntity = mapper.map(account);
+    }
+
+    @Benchmark
+    public AccountEntity toEntity() {
+        return mapper.map(account);
+    }
+
+    @Benchmark
+    public Account toDomain() {
+        return mapper.map(accountEntity);
+    }
+
+    @Benchmark
+    public Account toWriteModel() {
+        return mapper.mapWriteModel(accountEntity);
+    }
+
+    @Benchmark
+    public Account roundTrip() {
+        return mapper.map(mapper.map(account));
+    }
+
+    private static AccountTransaction transaction(int type, AccountId accountId, AccountId counterpartyAccountId, ZonedDateTime transactionAt) {
+        Money amount = Money.of(new BigDecimal("1000"));
+        Money balance = Money.of(new BigDecimal("1000000"));
+
+        return switch (type) {
+            case 0 -> DepositTransaction.builder()
+                    .id(AccountTransactionId.generateId()).accountId(accountId)
+                    .amount(amount).balance(balance).transactionAt(transactionAt)
+                    .build();
+            case 1 -> ReceiveTransaction.builder()
+                    .id(AccountTransactionId.generateId()).accountId(accountId).senderAccountId(counterpartyAccountId)
+                    .amount(amount).balance(balance).transactionAt(transactionAt)
+                    .build();
+            case 2 -> TransferTransaction.builder()
+                    .id(AccountTransactionId.generateId()).accountId(accountId).receiverAccountId(counterpartyAccountId)
+                    .amount(amount).transferFee(Money.of(new BigDecimal("10"))).balance(balance).transactionAt(transactionAt)
+                    .build();
+            default -> WithdrawalTransaction.builder()
+                    .id(AccountTransactionId.generateId()).accountId(accountId)
+                    .amount(amount).balance(balance).transactionAt(transactionAt)
+                    .build();
+        };
+    }
+}
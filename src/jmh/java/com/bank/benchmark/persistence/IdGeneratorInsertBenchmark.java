@@ -0,0 +1,72 @@
+package com.bank.benchmark.persistence;
+
+import com.bank.application.service.id.IdGeneratorStrategy;
+import com.bank.domain.common.valueobject.IdGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * 식별자 전략별 기본키 삽입 비용. (무작위 UUID 는 삽입 위치가 인덱스 전체에 흩어진다.)
+ * 측정 반복이 진행될수록 테이블이 커지므로, 인덱스 크기에 따른 차이도 함께 드러난다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class IdGeneratorInsertBenchmark {
+
+    private static final int PRELOAD_ROWS = 200_000;
+    private static final int BATCH_SIZE = 100;
+
+    @Param({"RANDOM", "UUID_V7", "SNOWFLAKE"})
+    private IdGeneratorStrategy generator;
+
+    private IdGenerator idGenerator;
+    private Connection connection;
+    private PreparedStatement insert;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        idGenerator = generator.create(0);
+        connection = DriverManager.getConnection("jdbc:h2:mem:id-benchmark-" + generator + ";DB_CLOSE_DELAY=-1", "sa", "");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE account_transaction_id_benchmark (id UUID PRIMARY KEY, amount NUMERIC(38, 2) NOT NULL)");
+        }
+        connection.setAutoCommit(false);
+        insert = connection.prepareStatement("INSERT INTO account_transaction_id_benchmark (id, amount) VALUES (?, ?)");
+
+        for (int i = 0; i < PRELOAD_ROWS / BATCH_SIZE; i++) {
+            insertBatch();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE account_transaction_id_benchmark");
+        }
+        insert.close();
+        connection.close();
+    }
+
+    /*
+     * 거래 저장과 같은 방식으로 JDBC 배치 단위로 삽입/커밋한다. (1 op = 100 행)
+     */
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public int[] insertBatch() throws SQLException {
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            insert.setObject(1, idGenerator.nextUuid());
+            insert.setLong(2, 1_000L);
+            insert.addBatch();
+        }
+        int[] counts = insert.executeBatch();
+        connection.commit();
+        return counts;
+    }
+}
@@ -0,0 +1,41 @@
+package com.bank.adapter.input.actuator;
+
+import com.bank.application.port.input.ReconcileLedgerUseCase;
+import com.bank.application.port.input.dto.LedgerReconciliationResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+
+/*
+ * GET /actuator/reconciliation: 거래(분개) 합계와 계좌 잔액 합계 대사
+ */
+@Component
+@Endpoint(id = "reconciliation")
+@RequiredArgsConstructor
+public class LedgerReconciliationEndpoint {
+
+    private final ReconcileLedgerUseCase reconcileLedgerUseCase;
+
+    @ReadOperation
+    public Reconciliation reconcile() {
+        LedgerReconciliationResponse response = reconcileLedgerUseCase.reconcileLedger();
+
+        return new Reconciliation(
+                response.isBalanced(),
+                response.ledgerBalance().amount(),
+                response.accountBalance().amount(),
+                response.difference().amount(),
+                response.transferFee().amount(),
+                response.unbalancedJournalEntryCount()
+        );
+    }
+
+    /*
+     * difference: 계좌 잔액 합계 - 거래 합계 (분개 이전에 잔액이 직접 바뀐 금액)
+     */
+    public record Reconciliation(boolean balanced, BigDecimal ledgerBalance, BigDecimal accountBalance, BigDecimal difference, BigDecimal transferFee, long unbalancedJournalEntries) {
+    }
+}
@@ -2,12 +2,17 @@ package com.bank.adapter.input.http;
 
 import com.bank.adapter.input.http.mapper.CreateAccountApiRequest;
 import com.bank.adapter.input.http.mapper.CreateAccountApiResponse;
+import com.bank.adapter.input.http.mapper.EnableBalanceStripingApiRequest;
+import com.bank.adapter.input.http.mapper.EnableBalanceStripingApiResponse;
 import com.bank.adapter.input.http.openapi.AccountManagementApi;
 import com.bank.application.port.input.CreateAccountUseCase;
 import com.bank.application.port.input.DestroyAccountUseCase;
+import com.bank.application.port.input.EnableBalanceStripingUseCase;
 import com.bank.application.port.input.dto.CreateAccountCommand;
 import com.bank.application.port.input.dto.CreateAccountResponse;
 import com.bank.application.port.input.dto.DestroyAccountCommand;
+import com.bank.application.port.input.dto.EnableBalanceStripingCommand;
+import com.bank.application.port.input.dto.EnableBalanceStripingResponse;
 import com.bank.domain.account.valueobject.AccountNumber;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -19,6 +24,7 @@ public class AccountManagementController implements AccountManagementApi {
 
     private final CreateAccountUseCase createAccountUseCase;
     private final DestroyAccountUseCase destroyAccountUseCase;
+    private final EnableBalanceStripingUseCase enableBalanceStripingUseCase;
 
     @Override
     public ResponseEntity<CreateAccountApiResponse> postAccount(CreateAccountApiRequest request) {
@@ -47,4 +53,21 @@ public class AccountManagementController implements AccountManagementApi {
 
         return ResponseEntity.ok(null);
     }
+
+    @Override
+    public ResponseEntity<EnableBalanceStripingApiResponse> putAccountBalanceStriping(String accountNumber, EnableBalanceStripingApiRequest request) {
+        EnableBalanceStripingResponse response = enableBalanceStripingUseCase.enableBalanceStriping(
+                new EnableBalanceStripingCommand(
+                        AccountNumber.of(accountNumber),
+                        request.balanceShardCount()
+                )
+        );
+
+        return ResponseEntity.ok(
+                new EnableBalanceStripingApiResponse(
+                        response.accountNumber().value(),
+                        response.balanceShardCount()
+                )
+        );
+    }
 }
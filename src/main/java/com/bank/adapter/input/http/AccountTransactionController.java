@@ -3,34 +3,68 @@ package com.bank.adapter.input.http;
 import com.bank.adapter.input.http.mapper.*;
 import com.bank.adapter.input.http.openapi.AccountTransactionApi;
 import com.bank.application.port.input.AccountTransactionRetrieveUseCase;
+import com.bank.application.port.input.BatchTransferUseCase;
 import com.bank.application.port.input.DepositMoneyUseCase;
+import com.bank.application.port.input.ExportAccountStatementUseCase;
+import com.bank.application.port.input.IdempotentExecutionUseCase;
 import com.bank.application.port.input.TransferMoneyUseCase;
 import com.bank.application.port.input.WithdrawMoneyUseCase;
 import com.bank.application.port.input.dto.*;
+import com.bank.application.service.account.StatementExportProperties;
 import com.bank.domain.account.valueobject.AccountNumber;
 import com.bank.domain.account.valueobject.Money;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.math.BigDecimal;
+import java.util.Locale;
+import java.util.concurrent.Callable;
 
 @RestController
+@Validated
 @RequiredArgsConstructor
 public class AccountTransactionController implements AccountTransactionApi {
 
+    private static final String EXPORT_TIMEOUT_INTERCEPTOR_KEY = AccountTransactionController.class.getName() + ".exportTimeout";
+
     private final AccountTransactionRetrieveUseCase transactionRetrieveUseCase;
     private final DepositMoneyUseCase depositMoneyUseCase;
     private final TransferMoneyUseCase transferMoneyUseCase;
     private final WithdrawMoneyUseCase withdrawMoneyUseCase;
+    private final BatchTransferUseCase batchTransferUseCase;
+    private final IdempotentExecutionUseCase idempotentExecutionUseCase;
+    private final ExportAccountStatementUseCase exportAccountStatementUseCase;
+    private final ObjectMapper objectMapper;
+    private final StatementExportProperties statementExportProperties;
 
     @Override
-    public ResponseEntity<DepositMoneyApiResponse> postAccountsDeposit(DepositMoneyApiRequest request) {
-        DepositMoneyResponse depositResponse = depositMoneyUseCase.deposit(
-                new DepositMoneyCommand(
-                        AccountNumber.of(request.accountNumber()),
-                        Money.of(new BigDecimal(request.amount()))
-                )
+    public ResponseEntity<DepositMoneyApiResponse> postAccountsDeposit(String idempotencyKey, DepositMoneyApiRequest request) {
+        DepositMoneyCommand command = new DepositMoneyCommand(
+                AccountNumber.of(request.accountNumber()),
+                Money.of(new BigDecimal(request.amount()))
+        );
+        DepositMoneyResponse depositResponse = idempotentExecutionUseCase.execute(
+                idempotencyKey,
+                "deposit",
+                command,
+                DepositMoneyResponse.class,
+                () -> depositMoneyUseCase.deposit(command)
         );
 
         return ResponseEntity.ok(
@@ -44,13 +78,18 @@ public class AccountTransactionController implements AccountTransactionApi {
     }
 
     @Override
-    public ResponseEntity<TransferMoneyApiResponse> postAccountsTransfer(TransferMoneyApiRequest request) {
-        TransferMoneyResponse transferResponse = transferMoneyUseCase.transfer(
-                new TransferMoneyCommand(
-                        AccountNumber.of(request.senderAccountNumber()),
-                        AccountNumber.of(request.receiverAccountNumber()),
-                        Money.of(new BigDecimal(request.amount()))
-                )
+    public ResponseEntity<TransferMoneyApiResponse> postAccountsTransfer(String idempotencyKey, TransferMoneyApiRequest request) {
+        TransferMoneyCommand command = new TransferMoneyCommand(
+                AccountNumber.of(request.senderAccountNumber()),
+                AccountNumber.of(request.receiverAccountNumber()),
+                Money.of(new BigDecimal(request.amount()))
+        );
+        TransferMoneyResponse transferResponse = idempotentExecutionUseCase.execute(
+                idempotencyKey,
+                "transfer",
+                command,
+                TransferMoneyResponse.class,
+                () -> transferMoneyUseCase.transfer(command)
         );
 
         return ResponseEntity.ok(
@@ -66,13 +105,58 @@ public class AccountTransactionController implements AccountTransactionApi {
     }
 
     @Override
-    public ResponseEntity<WithdrawalMoneyApiResponse> postAccountsWithdrawal(DepositMoneyApiRequest request) {
-        WithdrawMoneyResponse withdrawResponse = withdrawMoneyUseCase.withdraw(
-                new WithdrawMoneyCommand(
-                        AccountNumber.of(request.accountNumber()),
-                        Money.of(new BigDecimal(request.amount()))
+    public ResponseEntity<BatchTransferMoneyApiResponse> postAccountsTransferBatch(String idempotencyKey, BatchTransferMoneyApiRequest request) {
+        BatchTransferCommand command = new BatchTransferCommand(
+                AccountNumber.of(request.senderAccountNumber()),
+                request.items().stream()
+                        .map(item -> new BatchTransferCommand.Item(
+                                AccountNumber.of(item.receiverAccountNumber()),
+                                Money.of(new BigDecimal(item.amount()))
+                        ))
+                        .toList()
+        );
+        BatchTransferResponse batchResponse = idempotentExecutionUseCase.execute(
+                idempotencyKey,
+                "transfer-batch",
+                command,
+                BatchTransferResponse.class,
+                () -> batchTransferUseCase.batchTransfer(command)
+        );
+
+        long succeededCount = batchResponse.succeededCount();
+        return ResponseEntity.ok(
+                new BatchTransferMoneyApiResponse(
+                        batchResponse.senderAccountNumber().value(),
+                        batchResponse.balance().amount().intValue(),
+                        succeededCount,
+                        batchResponse.results().size() - succeededCount,
+                        batchResponse.results().stream()
+                                .map(result -> new BatchTransferMoneyApiResponse.Result(
+                                        result.receiverAccountNumber().value(),
+                                        result.amount().amount().intValue(),
+                                        result.transferFee().amount().intValue(),
+                                        result.succeeded(),
+                                        result.failureReason(),
+                                        result.transferAt()
+                                ))
+                                .toList()
                 )
         );
+    }
+
+    @Override
+    public ResponseEntity<WithdrawalMoneyApiResponse> postAccountsWithdrawal(String idempotencyKey, DepositMoneyApiRequest request) {
+        WithdrawMoneyCommand command = new WithdrawMoneyCommand(
+                AccountNumber.of(request.accountNumber()),
+                Money.of(new BigDecimal(request.amount()))
+        );
+        WithdrawMoneyResponse withdrawResponse = idempotentExecutionUseCase.execute(
+                idempotencyKey,
+                "withdrawal",
+                command,
+                WithdrawMoneyResponse.class,
+                () -> withdrawMoneyUseCase.withdraw(command)
+        );
 
         return ResponseEntity.ok(
                 new WithdrawalMoneyApiResponse(
@@ -98,4 +182,58 @@ public class AccountTransactionController implements AccountTransactionApi {
                 RetrieveAccountTransactionApiResponse.of(transactionResponse.accountTransactionPage())
         );
     }
+
+    @Override
+    public ResponseEntity<RetrieveAccountTransactionSliceApiResponse> getAccountTransactionByCursor(String accountNumber, String cursor, int size) {
+        AccountTransactionSliceRetrieveResponse sliceResponse = transactionRetrieveUseCase.retrieveAccountTransactionSlice(
+                new AccountTransactionSliceRetrieveCommand(
+                        AccountNumber.of(accountNumber),
+                        AccountTransactionCursorCodec.decode(cursor),
+                        size
+                )
+        );
+
+        return ResponseEntity.ok(
+                RetrieveAccountTransactionSliceApiResponse.of(sliceResponse, size)
+        );
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> getAccountTransactionExport(String accountNumber, String format) {
+        AccountNumber exportAccountNumber = AccountNumber.of(accountNumber);
+        AccountStatementExportFormat exportFormat = AccountStatementExportFormat.of(format);
+        // 응답을 쓰기 시작하면 상태 코드를 바꿀 수 없으므로 계좌는 먼저 확인한다.
+        exportAccountStatementUseCase.verifyExportable(exportAccountNumber);
+        // 긴 제한 시간은 이 요청의 비동기 처리에만 적용한다.
+        WebAsyncUtils.getAsyncManager(((ServletRequestAttributes) RequestContextHolder.currentRequestAttributes()).getRequest())
+                .registerCallableInterceptor(EXPORT_TIMEOUT_INTERCEPTOR_KEY, new CallableProcessingInterceptor() {
+                    @Override
+                    public <T> void beforeConcurrentHandling(NativeWebRequest request, Callable<T> task) {
+                        if (request instanceof AsyncWebRequest asyncWebRequest) {
+                            asyncWebRequest.setTimeout(statementExportProperties.timeout().toMillis());
+                        }
+                    }
+                });
+
+        ObjectWriter writer = objectMapper.writerFor(AccountStatementApiLine.class);
+        StreamingResponseBody body = out -> {
+            exportFormat.writeHeader(out);
+            exportAccountStatementUseCase.exportAccountStatement(exportAccountNumber, line -> {
+                try {
+                    exportFormat.writeLine(out, AccountStatementApiLine.of(line), writer);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            out.flush();
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.contentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("statement-" + accountNumber + "." + exportFormat.name().toLowerCase(Locale.ROOT))
+                        .build()
+                        .toString())
+                .body(body);
+    }
 }
@@ -1,7 +1,9 @@
 package com.bank.adapter.input.http.handler;
 
+import com.bank.application.exception.IdempotencyKeyConflictException;
 import com.bank.application.exception.NotFoundException;
 import com.bank.domain.account.exception.AccountDomainException;
+import jakarta.validation.ConstraintViolation;
 import org.hibernate.exception.ConstraintViolationException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -37,6 +39,7 @@ public class HttpControllerAdvice {
             IllegalArgumentException.class,
             IllegalStateException.class,
             ConstraintViolationException.class,
+            jakarta.validation.ConstraintViolationException.class,
             MethodArgumentNotValidException.class,
             BindException.class,
             MethodArgumentTypeMismatchException.class,
@@ -53,6 +56,14 @@ public class HttpControllerAdvice {
                     .orElse("Validation error");
             return toErrorResponse(HttpStatus.BAD_REQUEST, errorMessage);
         }
+        if (e instanceof jakarta.validation.ConstraintViolationException) {
+            String errorMessage = ((jakarta.validation.ConstraintViolationException) e).getConstraintViolations()
+                    .stream()
+                    .findFirst()
+                    .map(ConstraintViolation::getMessage)
+                    .orElse("Validation error");
+            return toErrorResponse(HttpStatus.BAD_REQUEST, errorMessage);
+        }
 
         return toErrorResponse(HttpStatus.BAD_REQUEST, e);
     }
@@ -66,6 +77,15 @@ public class HttpControllerAdvice {
         return toErrorResponse(HttpStatus.NOT_FOUND, e);
     }
 
+    @ExceptionHandler({
+            IdempotencyKeyConflictException.class
+    })
+    public ResponseEntity<ErrorResponse> handleIdempotencyKeyConflictException(IdempotencyKeyConflictException e) {
+        logger.error("Idempotency key conflict: {}", e.getMessage());
+
+        return toErrorResponse(HttpStatus.CONFLICT, e);
+    }
+
     @ExceptionHandler({
             AccountDomainException.class
     })
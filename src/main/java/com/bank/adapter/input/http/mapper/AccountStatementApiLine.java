@@ -0,0 +1,33 @@
+package com.bank.adapter.input.http.mapper;
+
+import com.bank.application.port.input.dto.AccountStatementLine;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.ZonedDateTime;
+
+@Schema(title = "거래명세 한 줄", description = "거래명세 내보내기의 한 줄 (NDJSON 한 줄 / CSV 한 행)")
+public record AccountStatementApiLine(
+        @Schema(description = "거래 유형", example = "TRANSFER")
+        String type,
+        @Schema(description = "상대 계좌번호 (입금/출금은 없음)", example = "123-2415-1234")
+        String counterpartyAccountNumber,
+        @Schema(description = "거래 금액", example = "1000")
+        Long amount,
+        @Schema(description = "송금 수수료 (송금만)", example = "10")
+        Long transferFee,
+        @Schema(description = "거래 후 잔액", example = "9000")
+        Long balance,
+        @Schema(description = "거래 일시", example = "2023-10-01T10:00:00Z")
+        ZonedDateTime transactionAt
+) {
+    public static AccountStatementApiLine of(AccountStatementLine line) {
+        return new AccountStatementApiLine(
+                line.type().name(),
+                line.counterpartyAccountNumber() == null ? null : line.counterpartyAccountNumber().value(),
+                line.amount().amount().longValue(),
+                line.transferFee() == null ? null : line.transferFee().amount().longValue(),
+                line.balance().amount().longValue(),
+                line.transactionAt()
+        );
+    }
+}
@@ -0,0 +1,73 @@
+package com.bank.adapter.input.http.mapper;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+import static java.time.format.DateTimeFormatter.ISO_OFFSET_DATE_TIME;
+
+/*
+ * 거래명세 내보내기 형식: 한 줄씩 바로 출력한다. (전체를 메모리에 모으지 않음)
+ */
+public enum AccountStatementExportFormat {
+    NDJSON("application/x-ndjson") {
+        @Override
+        public void writeHeader(OutputStream out) {
+        }
+
+        @Override
+        public void writeLine(OutputStream out, AccountStatementApiLine line, ObjectWriter writer) throws IOException {
+            out.write(writer.writeValueAsBytes(line));
+            out.write('\n');
+        }
+    },
+    CSV("text/csv") {
+        @Override
+        public void writeHeader(OutputStream out) throws IOException {
+            out.write(CSV_HEADER);
+        }
+
+        @Override
+        public void writeLine(OutputStream out, AccountStatementApiLine line, ObjectWriter writer) throws IOException {
+            // 값은 일시/유형/계좌번호/숫자뿐이므로 따옴표 처리가 필요 없다.
+            String row = ISO_OFFSET_DATE_TIME.format(line.transactionAt()) + "," +
+                    line.type() + "," +
+                    nullToEmpty(line.counterpartyAccountNumber()) + "," +
+                    line.amount() + "," +
+                    nullToEmpty(line.transferFee()) + "," +
+                    line.balance() + "\n";
+            out.write(row.getBytes(StandardCharsets.UTF_8));
+        }
+
+        private static String nullToEmpty(Object value) {
+            return value == null ? "" : value.toString();
+        }
+    };
+
+    private static final byte[] CSV_HEADER = "transactionAt,type,counterpartyAccountNumber,amount,transferFee,balance\n".getBytes(StandardCharsets.UTF_8);
+
+    private final String contentType;
+
+    AccountStatementExportFormat(String contentType) {
+        this.contentType = contentType;
+    }
+
+    public String contentType() {
+        return contentType;
+    }
+
+    public abstract void writeHeader(OutputStream out) throws IOException;
+
+    public abstract void writeLine(OutputStream out, AccountStatementApiLine line, ObjectWriter writer) throws IOException;
+
+    public static AccountStatementExportFormat of(String format) {
+        try {
+            return valueOf(format.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("지원하지 않는 내보내기 형식입니다. (ndjson, csv)", e);
+        }
+    }
+}
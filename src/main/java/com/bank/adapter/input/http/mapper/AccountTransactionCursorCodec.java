@@ -0,0 +1,52 @@
+package com.bank.adapter.input.http.mapper;
+
+import com.bank.application.port.input.dto.AccountTransactionCursor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.UUID;
+
+/*
+ * 거래 내역 커서 <-> 불투명 문자열 변환. (URL-safe Base64 로 "거래 일시(epoch 초:나노초):거래 식별자" 를 감싼다.)
+ */
+public final class AccountTransactionCursorCodec {
+
+    private static final String DELIMITER = ":";
+
+    private AccountTransactionCursorCodec() {
+    }
+
+    public static String encode(AccountTransactionCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+
+        Instant transactionAt = cursor.transactionAt().toInstant();
+        String raw = transactionAt.getEpochSecond() + DELIMITER + transactionAt.getNano() + DELIMITER + cursor.transactionId();
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static AccountTransactionCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(DELIMITER);
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+
+            return new AccountTransactionCursor(
+                    Instant.ofEpochSecond(Long.parseLong(parts[0]), Long.parseLong(parts[1])).atZone(ZoneOffset.UTC),
+                    UUID.fromString(parts[2])
+            );
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.", e);
+        }
+    }
+}
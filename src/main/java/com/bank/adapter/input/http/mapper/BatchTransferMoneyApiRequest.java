@@ -0,0 +1,46 @@
+package com.bank.adapter.input.http.mapper;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record BatchTransferMoneyApiRequest(
+        @NotNull(message = "송금계좌번호는 필수입니다.")
+        @Schema(
+                description = "송금계좌번호",
+                example = "123-456-7890",
+                requiredMode = Schema.RequiredMode.REQUIRED
+        )
+        String senderAccountNumber,
+        @NotEmpty(message = "이체 항목은 필수입니다.")
+        @Size(max = 100_000, message = "이체 항목은 100,000건 이하여야 합니다.")
+        @Schema(
+                description = "이체 항목 목록",
+                requiredMode = Schema.RequiredMode.REQUIRED
+        )
+        List<@Valid Item> items
+) {
+    public record Item(
+            @NotNull(message = "수신계좌번호는 필수입니다.")
+            @Schema(
+                    description = "수신계좌번호",
+                    example = "098-765-4321",
+                    requiredMode = Schema.RequiredMode.REQUIRED
+            )
+            String receiverAccountNumber,
+            @NotNull(message = "송금액은 필수입니다.")
+            @Min(value = 1, message = "송금액은 1원 이상이어야 합니다.")
+            @Schema(
+                    description = "송금액",
+                    example = "10000",
+                    requiredMode = Schema.RequiredMode.REQUIRED
+            )
+            Integer amount
+    ) {
+    }
+}
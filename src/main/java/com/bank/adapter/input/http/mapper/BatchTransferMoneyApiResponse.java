@@ -0,0 +1,37 @@
+package com.bank.adapter.input.http.mapper;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+@Schema(title = "일괄 이체 응답", description = "일괄 이체 응답 정보")
+public record BatchTransferMoneyApiResponse(
+        @Schema(description = "송금 계좌번호", example = "123-2415-1234")
+        String senderAccountNumber,
+        @Schema(description = "처리 후 잔액", example = "100000")
+        Integer balance,
+        @Schema(description = "성공 건수", example = "99")
+        Long succeededCount,
+        @Schema(description = "실패 건수", example = "1")
+        Long failedCount,
+        @Schema(description = "항목별 처리 결과 (요청 순서)")
+        List<Result> results
+) {
+    @Schema(title = "일괄 이체 항목 결과", description = "일괄 이체 항목별 처리 결과")
+    public record Result(
+            @Schema(description = "수신 계좌번호", example = "123-2415-1234")
+            String receiverAccountNumber,
+            @Schema(description = "송금 금액", example = "10000")
+            Integer amount,
+            @Schema(description = "송금 수수료", example = "100")
+            Integer transferFee,
+            @Schema(description = "성공 여부", example = "true")
+            Boolean succeeded,
+            @Schema(description = "실패 사유", example = "이체 실패: 잔액이 부족합니다.")
+            String failureReason,
+            @Schema(description = "송금 일시", example = "2023-10-01T10:00:00Z")
+            ZonedDateTime transferAt
+    ) {
+    }
+}
@@ -0,0 +1,14 @@
+package com.bank.adapter.input.http.mapper;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(title = "커서 페이지네이션 정보", description = "커서 페이지네이션 정보 (전체 건수를 집계하지 않음)")
+public record CursorPaginationApiResponse(
+        @Schema(description = "페이지당 데이터 수", example = "20")
+        int pageSize,
+        @Schema(description = "다음 페이지 존재 여부", example = "true")
+        boolean hasNext,
+        @Schema(description = "다음 페이지 커서 (다음 페이지가 없으면 null)", example = "MTY5NjE1NDQwMDowOjNmMWMyYTll")
+        String nextCursor
+) {
+}
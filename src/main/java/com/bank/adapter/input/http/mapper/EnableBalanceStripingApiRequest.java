@@ -0,0 +1,19 @@
+package com.bank.adapter.input.http.mapper;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+public record EnableBalanceStripingApiRequest(
+        @NotNull(message = "잔액 분산 수는 필수입니다.")
+        @Min(value = 1, message = "잔액 분산 수는 1 이상이어야 합니다.")
+        @Max(value = 64, message = "잔액 분산 수는 64 이하여야 합니다.")
+        @Schema(
+                description = "잔액 분산 수 (현재 값보다 커야 합니다.)",
+                example = "8",
+                requiredMode = Schema.RequiredMode.REQUIRED
+        )
+        Integer balanceShardCount
+) {
+}
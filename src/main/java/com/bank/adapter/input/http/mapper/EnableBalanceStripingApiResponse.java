@@ -0,0 +1,17 @@
+package com.bank.adapter.input.http.mapper;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public record EnableBalanceStripingApiResponse(
+        @Schema(
+                description = "계좌번호",
+                example = "123-456-7890"
+        )
+        String accountNumber,
+        @Schema(
+                description = "잔액 분산 수",
+                example = "8"
+        )
+        Integer balanceShardCount
+) {
+}
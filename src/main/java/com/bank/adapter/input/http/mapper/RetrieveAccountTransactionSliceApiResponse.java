@@ -0,0 +1,35 @@
+package com.bank.adapter.input.http.mapper;
+
+import com.bank.application.port.input.dto.AccountTransactionSliceRetrieveResponse;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(title = "계좌간 거래 내역 커서 조회 응답", description = "계좌간 거래 내역 커서 조회 응답 정보")
+public record RetrieveAccountTransactionSliceApiResponse(
+        @Schema(description = "계좌 거래 내역", example = "[{\"receiverAccountNumber\": \"123-2415-1234\", \"amount\": 1000, \"balance\": 9000, \"transactionAt\": \"2023-10-01T10:00:00Z\"}]")
+        List<RetrieveAccountTransactionApiResponse.Transaction> transactions,
+        @Schema(description = "커서 페이징 정보")
+        CursorPaginationApiResponse pagination
+) {
+    public static RetrieveAccountTransactionSliceApiResponse of(
+            AccountTransactionSliceRetrieveResponse slice,
+            int size
+    ) {
+        return new RetrieveAccountTransactionSliceApiResponse(
+                slice.transactions().stream()
+                        .map(transaction -> new RetrieveAccountTransactionApiResponse.Transaction(
+                                transaction.senderAccountNumber().value(),
+                                transaction.receiverAccountNumber().value(),
+                                transaction.amount().amount().intValue(),
+                                transaction.transactionAt()
+                        ))
+                        .toList(),
+                new CursorPaginationApiResponse(
+                        size,
+                        slice.hasNext(),
+                        AccountTransactionCursorCodec.encode(slice.nextCursor())
+                )
+        );
+    }
+}
@@ -2,6 +2,8 @@ package com.bank.adapter.input.http.openapi;
 
 import com.bank.adapter.input.http.mapper.CreateAccountApiRequest;
 import com.bank.adapter.input.http.mapper.CreateAccountApiResponse;
+import com.bank.adapter.input.http.mapper.EnableBalanceStripingApiRequest;
+import com.bank.adapter.input.http.mapper.EnableBalanceStripingApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -14,6 +16,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 
 import static org.springframework.web.bind.annotation.RequestMethod.DELETE;
 import static org.springframework.web.bind.annotation.RequestMethod.POST;
+import static org.springframework.web.bind.annotation.RequestMethod.PUT;
 
 public interface AccountManagementApi {
 
@@ -59,4 +62,30 @@ public interface AccountManagementApi {
             @Parameter(description = "계좌번호", example = "134-1234-5678")
             @PathVariable String accountNumber
     );
+
+
+    @Operation(
+            summary = "[API V1] 잔액 분산 설정",
+            operationId = "putAccountBalanceStriping",
+            description = "수취가 많은 계좌의 잔액을 여러 분산 행으로 나누어 수취 시 계좌 잠금 경합을 줄입니다. (분산 수는 늘리기만 할 수 있습니다.)",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "잔액 분산 설정 성공"),
+                    @ApiResponse(responseCode = "400", description = "잘못된 요청입니다."),
+                    @ApiResponse(responseCode = "404", description = "계좌를 찾을 수 없습니다."),
+                    @ApiResponse(responseCode = "500", description = "서버 오류입니다.")
+            },
+            tags = {"API V1"}
+    )
+    @RequestMapping(
+            method = PUT,
+            value = "/api/v1/accounts/{accountNumber}/balance-striping",
+            produces = {MediaType.APPLICATION_JSON_VALUE},
+            consumes = {MediaType.APPLICATION_JSON_VALUE}
+    )
+    ResponseEntity<EnableBalanceStripingApiResponse> putAccountBalanceStriping(
+            @Parameter(description = "계좌번호", example = "134-1234-5678")
+            @PathVariable String accountNumber,
+            @Parameter(description = "잔액 분산 설정 요청 정보")
+            @Valid @RequestBody EnableBalanceStripingApiRequest request
+    );
 }
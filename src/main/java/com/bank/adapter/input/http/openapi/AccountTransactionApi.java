@@ -5,11 +5,15 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import static org.springframework.util.MimeTypeUtils.APPLICATION_JSON_VALUE;
 import static org.springframework.web.bind.annotation.RequestMethod.GET;
@@ -17,6 +21,8 @@ import static org.springframework.web.bind.annotation.RequestMethod.POST;
 
 public interface AccountTransactionApi {
 
+    String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
     @Operation(
             summary = "[API V1] 계좌 입금",
             operationId = "postAccountDeposit",
@@ -35,6 +41,8 @@ public interface AccountTransactionApi {
             consumes = {APPLICATION_JSON_VALUE}
     )
     ResponseEntity<DepositMoneyApiResponse> postAccountsDeposit(
+            @Parameter(description = "멱등 키: 같은 키로 재시도하면 저장된 응답을 반환합니다.", example = "3f1c2a9e-6d1b-4c55-9a57-1f0b6f3c2e10")
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
             @Parameter(description = "입금 정보")
             @Valid @RequestBody DepositMoneyApiRequest request
     );
@@ -57,10 +65,37 @@ public interface AccountTransactionApi {
             consumes = {APPLICATION_JSON_VALUE}
     )
     ResponseEntity<TransferMoneyApiResponse> postAccountsTransfer(
+            @Parameter(description = "멱등 키: 같은 키로 재시도하면 저장된 응답을 반환합니다.", example = "3f1c2a9e-6d1b-4c55-9a57-1f0b6f3c2e10")
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
             @Parameter(description = "계좌 이체 정보")
             @Valid @RequestBody TransferMoneyApiRequest request
     );
 
+    @Operation(
+            summary = "[API V1] 계좌 일괄 이체",
+            operationId = "postAccountTransferBatch",
+            description = "한 계좌에서 여러 계좌로 한 번에 이체합니다. 항목별 결과를 반환하며 실패한 항목은 건너뜁니다.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "일괄 이체 처리 완료 (항목별 결과 확인)"),
+                    @ApiResponse(responseCode = "400", description = "잘못된 요청입니다."),
+                    @ApiResponse(responseCode = "404", description = "송금 계좌를 찾을 수 없습니다."),
+                    @ApiResponse(responseCode = "500", description = "서버 오류입니다.")
+            },
+            tags = {"API V1"}
+    )
+    @RequestMapping(
+            method = POST,
+            value = "/api/v1/accounts/transfer/batch",
+            produces = {APPLICATION_JSON_VALUE},
+            consumes = {APPLICATION_JSON_VALUE}
+    )
+    ResponseEntity<BatchTransferMoneyApiResponse> postAccountsTransferBatch(
+            @Parameter(description = "멱등 키: 같은 키로 재시도하면 저장된 응답을 반환합니다.", example = "3f1c2a9e-6d1b-4c55-9a57-1f0b6f3c2e10")
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            @Parameter(description = "계좌 일괄 이체 정보")
+            @Valid @RequestBody BatchTransferMoneyApiRequest request
+    );
+
     @Operation(
             summary = "[API V1] 계좌 출금",
             operationId = "postAccountWithdrawal",
@@ -79,6 +114,8 @@ public interface AccountTransactionApi {
             consumes = {APPLICATION_JSON_VALUE}
     )
     ResponseEntity<WithdrawalMoneyApiResponse> postAccountsWithdrawal(
+            @Parameter(description = "멱등 키: 같은 키로 재시도하면 저장된 응답을 반환합니다.", example = "3f1c2a9e-6d1b-4c55-9a57-1f0b6f3c2e10")
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
             @Parameter(description = "계좌 출금 정보")
             @Valid @RequestBody DepositMoneyApiRequest request
     );
@@ -101,7 +138,56 @@ public interface AccountTransactionApi {
     ResponseEntity<RetrieveAccountTransactionApiResponse> getAccountTransaction(
             @Parameter(description = "계좌 거래 내역 조회 정보", example = "123-456-7890")
             @PathVariable(value = "accountNumber") String accountNumber,
-            @Parameter(description = "페이지 번호") @RequestParam(defaultValue = "0") int page,
-            @Parameter(description = "페이지 사이즈") @RequestParam(defaultValue = "20") int size
+            @Parameter(description = "페이지 번호") @RequestParam(defaultValue = "0")
+            @Min(value = 0, message = "페이지 번호는 0 이상이어야 합니다.") int page,
+            @Parameter(description = "페이지 사이즈 (1 ~ 100)") @RequestParam(defaultValue = "20")
+            @Min(value = 1, message = "페이지 사이즈는 1 이상이어야 합니다.")
+            @Max(value = 100, message = "페이지 사이즈는 100 이하여야 합니다.") int size
+    );
+
+    @Operation(
+            summary = "[API V1] 계좌 거래 내역 커서 조회",
+            operationId = "getAccountTransactionByCursor",
+            description = "계좌의 거래 내역을 최신순으로 조회합니다. 응답의 nextCursor 를 다음 요청의 cursor 로 전달하면 이어서 조회합니다. (전체 건수는 제공하지 않습니다.)",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "거래 내역 조회 성공"),
+                    @ApiResponse(responseCode = "400", description = "잘못된 요청입니다."),
+                    @ApiResponse(responseCode = "500", description = "서버 오류입니다.")
+            },
+            tags = {"API V1"}
+    )
+    @RequestMapping(
+            method = GET,
+            value = "/api/v1/accounts/{accountNumber}/transactions/cursor"
+    )
+    ResponseEntity<RetrieveAccountTransactionSliceApiResponse> getAccountTransactionByCursor(
+            @Parameter(description = "계좌 거래 내역 조회 정보", example = "123-456-7890")
+            @PathVariable(value = "accountNumber") String accountNumber,
+            @Parameter(description = "이전 응답의 다음 페이지 커서 (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 사이즈 (1 ~ 100)") @RequestParam(defaultValue = "20")
+            @Min(value = 1, message = "페이지 사이즈는 1 이상이어야 합니다.")
+            @Max(value = 100, message = "페이지 사이즈는 100 이하여야 합니다.") int size
+    );
+
+    @Operation(
+            summary = "[API V1] 계좌 거래명세 내보내기",
+            operationId = "getAccountTransactionExport",
+            description = "계좌의 전체 거래(입금/수취/송금/출금)를 시간순으로 한 번에 내려받습니다. 한 줄씩 흘려 보내므로 거래 수와 무관하게 메모리를 일정하게 사용합니다.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "내보내기 성공 (NDJSON 또는 CSV)"),
+                    @ApiResponse(responseCode = "400", description = "잘못된 요청입니다."),
+                    @ApiResponse(responseCode = "404", description = "계좌를 찾을 수 없습니다."),
+                    @ApiResponse(responseCode = "500", description = "서버 오류입니다.")
+            },
+            tags = {"API V1"}
+    )
+    @RequestMapping(
+            method = GET,
+            value = "/api/v1/accounts/{accountNumber}/transactions/export"
+    )
+    ResponseEntity<StreamingResponseBody> getAccountTransactionExport(
+            @Parameter(description = "계좌번호", example = "123-456-7890")
+            @PathVariable(value = "accountNumber") String accountNumber,
+            @Parameter(description = "내보내기 형식 (ndjson, csv)") @RequestParam(defaultValue = "ndjson") String format
     );
 }
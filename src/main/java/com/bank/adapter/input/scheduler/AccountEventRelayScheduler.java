@@ -0,0 +1,28 @@
+package com.bank.adapter.input.scheduler;
+
+import com.bank.application.port.input.RelayAccountEventsUseCase;
+import com.bank.application.service.outbox.OutboxProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/*
+ * 아웃박스의 계좌 이벤트를 주기적으로 전달한다. 묶음이 가득 찼으면 밀린 이벤트가 남아 있으므로 이어서 전달한다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "bank.outbox.relay", name = "enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class AccountEventRelayScheduler {
+
+    private final RelayAccountEventsUseCase relayAccountEventsUseCase;
+    private final OutboxProperties outboxProperties;
+
+    @Scheduled(fixedDelayString = "${bank.outbox.relay.interval:PT1S}", initialDelayString = "${bank.outbox.relay.interval:PT1S}")
+    public void relayAccountEvents() {
+        int relayed;
+        do {
+            relayed = relayAccountEventsUseCase.relayAccountEvents();
+        } while (relayed >= outboxProperties.relay().batchSize());
+    }
+}
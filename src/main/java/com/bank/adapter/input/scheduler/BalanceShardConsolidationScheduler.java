@@ -0,0 +1,23 @@
+package com.bank.adapter.input.scheduler;
+
+import com.bank.application.port.input.ConsolidateBalanceShardsUseCase;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/*
+ * 잔액 분산 계좌의 분산 잔액을 주기적으로 통합한다. (출금/이체 시에도 잠금 조회 시점에 통합된다.)
+ */
+@Component
+@ConditionalOnProperty(prefix = "bank.balance-striping.consolidation", name = "enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class BalanceShardConsolidationScheduler {
+
+    private final ConsolidateBalanceShardsUseCase consolidateBalanceShardsUseCase;
+
+    @Scheduled(fixedDelayString = "${bank.balance-striping.consolidation.interval:PT1S}", initialDelayString = "${bank.balance-striping.consolidation.interval:PT1S}")
+    public void consolidateBalanceShards() {
+        consolidateBalanceShardsUseCase.consolidateBalanceShards();
+    }
+}
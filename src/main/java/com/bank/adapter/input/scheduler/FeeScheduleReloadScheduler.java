@@ -0,0 +1,21 @@
+package com.bank.adapter.input.scheduler;
+
+import com.bank.application.port.input.ReloadFeeScheduleUseCase;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/*
+ * 수수료 구간 규칙이 바뀌었는지 주기적으로 확인하고, 바뀌었으면 다시 컴파일해 교체한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class FeeScheduleReloadScheduler {
+
+    private final ReloadFeeScheduleUseCase reloadFeeScheduleUseCase;
+
+    @Scheduled(fixedDelayString = "${bank.fee-schedule.reload-interval:PT30S}", initialDelayString = "${bank.fee-schedule.reload-interval:PT30S}")
+    public void reloadFeeSchedule() {
+        reloadFeeScheduleUseCase.reloadFeeSchedule();
+    }
+}
@@ -0,0 +1,21 @@
+package com.bank.adapter.input.scheduler;
+
+import com.bank.application.port.input.PurgeIdempotencyRecordsUseCase;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/*
+ * 보관 기간(bank.idempotency.retention)이 지난 멱등 키 처리 결과를 주기적으로 삭제한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class IdempotencyRecordPurgeScheduler {
+
+    private final PurgeIdempotencyRecordsUseCase purgeIdempotencyRecordsUseCase;
+
+    @Scheduled(fixedDelayString = "${bank.idempotency.purge-interval:PT10M}")
+    public void purgeExpiredIdempotencyRecords() {
+        purgeIdempotencyRecordsUseCase.purgeExpiredIdempotencyRecords();
+    }
+}
@@ -0,0 +1,94 @@
+package com.bank.adapter.output.config;
+
+import com.bank.application.port.output.config.FeeScheduleSource;
+import com.bank.application.service.fee.FeeScheduleProperties;
+import com.bank.domain.account.entity.AccountClass;
+import com.bank.domain.account.exception.InvalidFeeScheduleException;
+import com.bank.domain.account.valueobject.FeeTier;
+import com.bank.domain.account.valueobject.Money;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+
+/*
+ * 수수료 구간 규칙 JSON 파일 (bank.fee-schedule.location)
+ * [{"accountClass": "PREMIUM", "startTime": "22:00", "endTime": "06:00", "minAmount": 0, "rate": 0.005, "fixedFee": 0, "maxFee": 5000}]
+ */
+@Component
+public class FileFeeScheduleSource implements FeeScheduleSource {
+
+    private final ObjectMapper objectMapper;
+    private final Resource resource;
+
+    public FileFeeScheduleSource(FeeScheduleProperties properties, ResourceLoader resourceLoader, ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.resource = StringUtils.hasText(properties.location()) ? resourceLoader.getResource(properties.location()) : null;
+    }
+
+    @Override
+    public long lastModified() {
+        if (resource == null) {
+            return 0L;
+        }
+
+        try {
+            return resource.lastModified();
+        } catch (IOException e) {
+            // 수정 시각을 알 수 없는 위치(jar 내부 등)는 처음 한 번만 불러온다.
+            return 0L;
+        }
+    }
+
+    @Override
+    public List<FeeTier> load() {
+        if (resource == null) {
+            return List.of();
+        }
+
+        try (InputStream inputStream = resource.getInputStream()) {
+            return objectMapper.readValue(inputStream, new TypeReference<List<FeeTierDocument>>() {}).stream()
+                    .map(FeeTierDocument::toFeeTier)
+                    .toList();
+        } catch (IOException e) {
+            throw new InvalidFeeScheduleException("수수료 구간 규칙을 읽을 수 없습니다: " + resource.getDescription(), e);
+        }
+    }
+
+    record FeeTierDocument(
+            AccountClass accountClass,
+            LocalTime startTime,
+            LocalTime endTime,
+            BigDecimal minAmount,
+            BigDecimal rate,
+            BigDecimal fixedFee,
+            BigDecimal minFee,
+            BigDecimal maxFee
+    ) {
+        FeeTier toFeeTier() {
+            return new FeeTier(
+                    accountClass,
+                    startTime,
+                    endTime,
+                    toMoney(minAmount),
+                    FeeTier.toBasisPoints(Optional.ofNullable(rate).orElse(BigDecimal.ZERO)),
+                    toMoney(fixedFee),
+                    toMoney(minFee),
+                    toMoney(maxFee)
+            );
+        }
+
+        private static Money toMoney(BigDecimal amount) {
+            return amount == null ? null : Money.of(amount);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.bank.adapter.output.event;
+
+import com.bank.adapter.output.event.exception.AccountEventSinkException;
+import com.bank.application.port.output.event.AccountEvent;
+import com.bank.application.port.output.event.AccountEventSink;
+import com.bank.application.port.output.event.OutboxEvent;
+import com.bank.application.service.outbox.OutboxProperties;
+import com.bank.domain.account.valueobject.AccountTransactionId;
+import com.bank.domain.account.valueobject.Money;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/*
+ * 계좌 이벤트를 로컬 파일에 JSON Lines 로 추가한다. (bank.outbox.sink.path, 한 묶음을 한 번에 쓰고 닫는다.)
+ * {"sequence": 1, "type": "TRANSFERRED", "accountNumber": "...", "amount": 1000.00, "counterpartyAccountNumber": "...", ...}
+ */
+@Component
+@ConditionalOnProperty(prefix = "bank.outbox.sink", name = "type", havingValue = "file", matchIfMissing = true)
+public class FileAccountEventSink implements AccountEventSink {
+
+    private final ObjectMapper objectMapper;
+    private final Path path;
+
+    public FileAccountEventSink(OutboxProperties properties, ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.path = Path.of(properties.sink().path());
+    }
+
+    @Override
+    public void publish(List<OutboxEvent> events) {
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+
+            try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                for (OutboxEvent event : events) {
+                    writer.write(objectMapper.writeValueAsString(AccountEventDocument.of(event)));
+                    writer.newLine();
+                }
+            }
+        } catch (IOException e) {
+            throw new AccountEventSinkException("계좌 이벤트를 파일에 쓸 수 없습니다: " + path, e);
+        }
+    }
+
+    record AccountEventDocument(
+            long sequence,
+            String type,
+            String accountNumber,
+            UUID transactionId,
+            UUID journalEntryId,
+            BigDecimal amount,
+            BigDecimal balance,
+            BigDecimal transferFee,
+            String counterpartyAccountNumber,
+            ZonedDateTime occurredAt
+    ) {
+        static AccountEventDocument of(OutboxEvent outboxEvent) {
+            AccountEvent event = outboxEvent.event();
+
+            return new AccountEventDocument(
+                    outboxEvent.sequence(),
+                    event.type().name(),
+                    event.accountNumber().value(),
+                    toUuid(event.transactionId()),
+                    toUuid(event.journalEntryId()),
+                    toAmount(event.amount()),
+                    toAmount(event.balance()),
+                    toAmount(event.transferFee()),
+                    event.counterpartyAccountNumber() == null ? null : event.counterpartyAccountNumber().value(),
+                    event.occurredAt()
+            );
+        }
+
+        private static UUID toUuid(AccountTransactionId id) {
+            return id == null ? null : id.getValue();
+        }
+
+        private static BigDecimal toAmount(Money money) {
+            return money == null ? null : money.amount();
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.bank.adapter.output.event;
+
+import com.bank.application.port.output.event.AccountEventSink;
+import com.bank.application.port.output.event.OutboxEvent;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/*
+ * 계좌 이벤트를 메모리 큐에 쌓는다. (bank.outbox.sink.type: memory, 테스트/로컬 확인용)
+ */
+@Component
+@ConditionalOnProperty(prefix = "bank.outbox.sink", name = "type", havingValue = "memory")
+public class InMemoryAccountEventSink implements AccountEventSink {
+
+    private final BlockingQueue<OutboxEvent> queue = new LinkedBlockingQueue<>();
+
+    @Override
+    public void publish(List<OutboxEvent> events) {
+        queue.addAll(events);
+    }
+
+    /*
+     * 지금까지 쌓인 이벤트를 꺼낸다.
+     */
+    public List<OutboxEvent> drain() {
+        List<OutboxEvent> events = new ArrayList<>();
+        queue.drainTo(events);
+
+        return events;
+    }
+}
@@ -0,0 +1,7 @@
+package com.bank.adapter.output.event.exception;
+
+public class AccountEventSinkException extends RuntimeException {
+    public AccountEventSinkException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
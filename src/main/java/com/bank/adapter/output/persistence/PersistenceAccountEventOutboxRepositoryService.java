@@ -0,0 +1,101 @@
+package com.bank.adapter.output.persistence;
+
+import com.bank.adapter.output.persistence.repository.AccountEventOutboxJdbcRepository;
+import com.bank.application.port.output.event.AccountEvent;
+import com.bank.application.port.output.event.AccountEventType;
+import com.bank.application.port.output.event.OutboxEvent;
+import com.bank.application.port.output.persistence.AccountEventOutboxRepository;
+import com.bank.domain.account.valueobject.AccountNumber;
+import com.bank.domain.account.valueobject.AccountTransactionId;
+import com.bank.domain.account.valueobject.Money;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Component
+@RequiredArgsConstructor
+public class PersistenceAccountEventOutboxRepositoryService implements AccountEventOutboxRepository {
+
+    private final AccountEventOutboxJdbcRepository outboxRepository;
+
+    @Override
+    public void appendAll(List<AccountEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+
+        ZonedDateTime createdAt = ZonedDateTime.now();
+        outboxRepository.insertAll(events.stream()
+                .map(event -> map(event, createdAt))
+                .toList());
+    }
+
+    @Override
+    public void lockRelay() {
+        outboxRepository.lockRelay();
+    }
+
+    @Override
+    public List<OutboxEvent> findAllPending(int limit) {
+        return outboxRepository.findAllPending(limit).stream()
+                .map(this::map)
+                .toList();
+    }
+
+    @Override
+    public void deleteAll(List<OutboxEvent> events) {
+        outboxRepository.deleteAll(events.stream()
+                .map(OutboxEvent::sequence)
+                .toList());
+    }
+
+    private AccountEventOutboxJdbcRepository.Row map(AccountEvent event, ZonedDateTime createdAt) {
+        return new AccountEventOutboxJdbcRepository.Row(
+                0L,
+                event.type().name(),
+                event.accountNumber().value(),
+                event.transactionId() == null ? null : event.transactionId().getValue(),
+                event.journalEntryId() == null ? null : event.journalEntryId().getValue(),
+                toAmount(event.amount()),
+                toAmount(event.balance()),
+                toAmount(event.transferFee()),
+                event.counterpartyAccountNumber() == null ? null : event.counterpartyAccountNumber().value(),
+                event.occurredAt(),
+                createdAt
+        );
+    }
+
+    private OutboxEvent map(AccountEventOutboxJdbcRepository.Row row) {
+        return new OutboxEvent(
+                row.sequence(),
+                new AccountEvent(
+                        AccountEventType.valueOf(row.eventType()),
+                        AccountNumber.of(row.accountNumber()),
+                        toTransactionId(row.transactionId()),
+                        toTransactionId(row.journalEntryId()),
+                        toMoney(row.amount()),
+                        toMoney(row.balance()),
+                        toMoney(row.transferFee()),
+                        row.counterpartyAccountNumber() == null ? null : AccountNumber.of(row.counterpartyAccountNumber()),
+                        row.occurredAt()
+                ),
+                row.createdAt()
+        );
+    }
+
+    private static BigDecimal toAmount(Money money) {
+        return money == null ? null : money.amount();
+    }
+
+    private static Money toMoney(BigDecimal amount) {
+        return amount == null ? null : Money.of(amount);
+    }
+
+    private static AccountTransactionId toTransactionId(UUID id) {
+        return id == null ? null : AccountTransactionId.of(id);
+    }
+}
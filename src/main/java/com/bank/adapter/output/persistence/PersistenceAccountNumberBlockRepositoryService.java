@@ -0,0 +1,25 @@
+package com.bank.adapter.output.persistence;
+
+import com.bank.adapter.output.persistence.repository.AccountJpaRepository;
+import com.bank.adapter.output.persistence.repository.AccountNumberBlockSizeJdbcRepository;
+import com.bank.application.port.output.persistence.AccountNumberBlockRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class PersistenceAccountNumberBlockRepositoryService implements AccountNumberBlockRepository {
+
+    private final AccountJpaRepository accountRepository;
+    private final AccountNumberBlockSizeJdbcRepository blockSizeRepository;
+
+    @Override
+    public long leaseBlock() {
+        return accountRepository.nextAccountNumberBlock();
+    }
+
+    @Override
+    public int registerBlockSize(int blockSize) {
+        return blockSizeRepository.register(blockSize);
+    }
+}
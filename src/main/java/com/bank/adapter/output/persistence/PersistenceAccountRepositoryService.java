@@ -1,105 +1,522 @@
 package com.bank.adapter.output.persistence;
 
+import com.bank.adapter.output.persistence.entity.AccountBalanceShardEntity;
 import com.bank.adapter.output.persistence.entity.AccountEntity;
+import com.bank.adapter.output.persistence.entity.AccountSnapshotEntity;
 import com.bank.adapter.output.persistence.entity.AccountTransactionEntity;
-import com.bank.adapter.output.persistence.entity.ReceiveTransactionEntity;
-import com.bank.adapter.output.persistence.entity.TransferTransactionEntity;
 import com.bank.adapter.output.persistence.exception.AccountEntityNotFoundException;
 import com.bank.adapter.output.persistence.mapper.AccountEntityMapper;
+import com.bank.adapter.output.persistence.repository.AccountBalanceShardJpaRepository;
 import com.bank.adapter.output.persistence.repository.AccountJpaRepository;
+import com.bank.adapter.output.persistence.repository.AccountSnapshotJpaRepository;
+import com.bank.adapter.output.persistence.repository.AccountTransactionJdbcRepository;
 import com.bank.adapter.output.persistence.repository.AccountTransactionJpaRepository;
+import com.bank.adapter.output.persistence.repository.projection.AccountBalanceProjection;
+import com.bank.adapter.output.persistence.repository.projection.AccountStatementProjection;
+import com.bank.adapter.output.persistence.repository.projection.AccountTransactionHistoryProjection;
+import com.bank.adapter.output.persistence.repository.projection.BalanceShardProjection;
+import com.bank.application.port.input.dto.AccountStatementLine;
+import com.bank.application.port.input.dto.AccountStatementSlice;
+import com.bank.application.port.input.dto.AccountTransactionCursor;
 import com.bank.application.port.input.dto.AccountTransactionRetrieveResponse;
+import com.bank.application.port.input.dto.AccountTransactionSliceRetrieveResponse;
 import com.bank.application.port.output.persistence.AccountRepository;
-import com.bank.domain.account.entity.Account;
-import com.bank.domain.account.entity.ReceiveTransaction;
-import com.bank.domain.account.entity.TransferTransaction;
+import com.bank.application.service.account.EventSourcingProperties;
+import com.bank.application.service.concurrency.ConcurrencyProperties;
+import com.bank.domain.account.entity.*;
 import com.bank.domain.account.valueobject.AccountId;
 import com.bank.domain.account.valueobject.AccountNumber;
+import com.bank.domain.account.valueobject.AccountSnapshot;
 import com.bank.domain.account.valueobject.Money;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Component;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
-import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 @Component
 @RequiredArgsConstructor
 public class PersistenceAccountRepositoryService implements AccountRepository {
 
+    private static final int IN_CLAUSE_CHUNK_SIZE = 1_000;
+
     private final AccountEntityMapper mapper;
     private final AccountJpaRepository accountRepository;
     private final AccountTransactionJpaRepository transactionRepository;
+    private final AccountTransactionJdbcRepository transactionJdbcRepository;
+    private final AccountBalanceShardJpaRepository balanceShardRepository;
+    private final AccountSnapshotJpaRepository snapshotRepository;
+    private final ConcurrencyProperties concurrencyProperties;
+    private final EventSourcingProperties eventSourcingProperties;
 
     @Override
     public void create(Account account) {
         accountRepository.save(mapper.map(account));
+
+        // 이벤트 저장 모드: 개설 시점의 상태를 첫 스냅샷으로 남긴다.
+        if (eventSourcingProperties.enabled()) {
+            snapshotRepository.save(mapper.mapSnapshot(account));
+        }
     }
 
     @Override
     public Optional<Account> findByAccountNumber(AccountNumber accountNumber) {
-        return accountRepository.findByAccountNumber(accountNumber.value())
-                .map(mapper::map);
+        Optional<AccountEntity> accountEntity = concurrencyProperties.isOptimistic()
+                ? accountRepository.findByAccountNumberWithoutLock(accountNumber.value())
+                : accountRepository.findByAccountNumber(accountNumber.value());
+
+        return accountEntity.map(this::mapWriteModel);
+    }
+
+    @Override
+    public List<Account> findAllByAccountNumbers(Collection<AccountNumber> accountNumbers) {
+        // IN 목록도 정렬해 전달한다. (IN 목록 순서대로 잠그는 DB 에서도 잠금 순서가 같도록)
+        List<String> sortedAccountNumbers = accountNumbers.stream().map(AccountNumber::value).distinct().sorted().toList();
+        List<AccountEntity> accountEntities = concurrencyProperties.isOptimistic()
+                ? accountRepository.findAllByAccountNumberInWithoutLock(sortedAccountNumbers)
+                : accountRepository.findAllByAccountNumberInOrderByAccountNumberAsc(sortedAccountNumbers);
+
+        return accountEntities.stream()
+                .map(this::mapWriteModel)
+                .toList();
+    }
+
+    @Override
+    public List<Account> findAllForTransfer(Collection<AccountNumber> debitAccountNumbers, Collection<AccountNumber> creditAccountNumbers) {
+        List<String> sortedAccountNumbers = Stream.concat(debitAccountNumbers.stream(), creditAccountNumbers.stream())
+                .map(AccountNumber::value)
+                .distinct()
+                .sorted()
+                .toList();
+        Set<String> debitAccountNumberValues = debitAccountNumbers.stream().map(AccountNumber::value).collect(Collectors.toSet());
+
+        // IN 목록이 커지지 않도록 정렬된 순서대로 나누어 조회한다. (잠금 순서는 그대로 유지된다.)
+        List<AccountEntity> accountEntities = new ArrayList<>();
+        for (int from = 0; from < sortedAccountNumbers.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            List<String> chunk = sortedAccountNumbers.subList(from, Math.min(from + IN_CLAUSE_CHUNK_SIZE, sortedAccountNumbers.size()));
+            accountEntities.addAll(findAllForTransfer(chunk, debitAccountNumberValues));
+        }
+
+        return accountEntities.stream()
+                .map(accountEntity -> {
+                    // 입금만 받는 잔액 분산 계좌는 계좌 행을 갱신하지 않도록 보정/통합하지 않는다.
+                    if (! eventSourcingProperties.enabled() && accountEntity.isBalanceStriped() && ! debitAccountNumberValues.contains(accountEntity.getAccountNumber())) {
+                        return mapper.mapWriteModel(accountEntity);
+                    }
+                    return mapWriteModel(accountEntity);
+                })
+                .toList();
+    }
+
+    @Override
+    public List<AccountNumber> findAllBalanceStripedAccountNumbers() {
+        return accountRepository.findAllBalanceStripedAccountNumbers().stream()
+                .map(AccountNumber::of)
+                .toList();
     }
 
     @Override
     public void update(Account account) {
-        AccountEntity accountEntity = accountRepository.findById(account.getId().getValue())
+        updateAll(List.of(account));
+    }
+
+    @Override
+    public void updateAll(Collection<Account> accounts) {
+        List<AccountTransactionJdbcRepository.Row> rows = new ArrayList<>();
+        for (Account account : accounts) {
+            AccountEntity accountEntity = accountRepository.findById(account.getId().getValue())
+                    .orElseThrow(() -> new AccountEntityNotFoundException("계좌 정보를 찾을 수 없습니다."));
+
+            rows.addAll(eventSourcingProperties.enabled() ? appendEvents(accountEntity, account) : updateAccount(accountEntity, account));
+        }
+
+        // 모든 계좌의 신규 거래(분개의 각 다리)를 한 번의 배치 INSERT 로 추가한다.
+        insertTransactions(rows);
+    }
+
+    @Override
+    public Optional<DepositTransaction> tryDeposit(AccountNumber accountNumber, Money amount) {
+        // 이벤트 저장 모드는 계좌 행의 잔액을 갱신하지 않으므로 항상 도메인 규칙으로 처리한다.
+        if (eventSourcingProperties.enabled()) {
+            return Optional.empty();
+        }
+
+        int updated = accountRepository.increaseBalance(accountNumber.value(), amount.amount(), AccountStatus.ACTIVE);
+        if (updated == 0) {
+            return Optional.empty();
+        }
+
+        AccountBalanceProjection balance = getBalance(accountNumber);
+        DepositTransaction transaction = DepositTransaction.recordDepositTransaction(
+                AccountId.of(balance.id()),
+                amount,
+                Money.of(balance.balance())
+        );
+        insertTransaction(transaction);
+
+        return Optional.of(transaction);
+    }
+
+    @Override
+    public Optional<WithdrawalTransaction> tryWithdraw(AccountNumber accountNumber, Money amount) {
+        if (eventSourcingProperties.enabled()) {
+            return Optional.empty();
+        }
+
+        int updated = accountRepository.decreaseBalanceWithinWithdrawLimit(accountNumber.value(), amount.amount(), AccountStatus.ACTIVE, LocalDate.now(), BigDecimal.ZERO);
+        if (updated == 0) {
+            return Optional.empty();
+        }
+
+        AccountBalanceProjection balance = getBalance(accountNumber);
+        WithdrawalTransaction transaction = WithdrawalTransaction.recordWithdrawalTransaction(
+                AccountId.of(balance.id()),
+                amount,
+                Money.of(balance.balance())
+        );
+        insertTransaction(transaction);
+
+        return Optional.of(transaction);
+    }
+
+    @Override
+    public Page<AccountTransactionRetrieveResponse.Transaction> findAllTransferTransactionOrReceiveTransaction(AccountId accountId, int page, int size) {
+        return transactionRepository.findAllTransferOrReceiveHistoryByAccountId(accountId.getValue(), PageRequest.of(page, size));
+    }
+
+    @Override
+    public AccountTransactionSliceRetrieveResponse findTransferTransactionOrReceiveTransactionSlice(AccountId accountId, AccountTransactionCursor cursor, int size) {
+        // 정렬은 쿼리에 고정되어 있으므로 Pageable 은 LIMIT(size + 1) 용도로만 사용한다.
+        Pageable pageable = PageRequest.ofSize(size);
+        Slice<AccountTransactionHistoryProjection> slice = cursor == null
+                ? transactionRepository.findFirstTransferOrReceiveHistorySliceByAccountId(accountId.getValue(), pageable)
+                : transactionRepository.findTransferOrReceiveHistorySliceByAccountIdAfter(accountId.getValue(), cursor.transactionAt(), cursor.transactionId(), pageable);
+
+        AccountTransactionCursor nextCursor = null;
+        if (slice.hasNext()) {
+            AccountTransactionHistoryProjection last = slice.getContent().get(slice.getNumberOfElements() - 1);
+            nextCursor = new AccountTransactionCursor(last.transactionAt(), last.id());
+        }
+
+        return new AccountTransactionSliceRetrieveResponse(
+                slice.map(this::toRetrieveTransaction).getContent(),
+                nextCursor
+        );
+    }
+
+    @Override
+    public AccountStatementSlice findStatementSlice(AccountId accountId, AccountTransactionCursor cursor, int size) {
+        // 정렬은 쿼리에 고정되어 있으므로 Pageable 은 LIMIT(size + 1) 용도로만 사용한다.
+        Pageable pageable = PageRequest.ofSize(size);
+        Slice<AccountStatementProjection> slice = cursor == null
+                ? transactionRepository.findFirstStatementSliceByAccountId(accountId.getValue(), pageable)
+                : transactionRepository.findStatementSliceByAccountIdAfter(accountId.getValue(), cursor.transactionAt(), cursor.transactionId(), pageable);
+
+        AccountTransactionCursor nextCursor = null;
+        if (slice.hasNext()) {
+            AccountStatementProjection last = slice.getContent().get(slice.getNumberOfElements() - 1);
+            nextCursor = new AccountTransactionCursor(last.transactionAt(), last.id());
+        }
+
+        return new AccountStatementSlice(
+                slice.map(this::toStatementLine).getContent(),
+                nextCursor
+        );
+    }
+
+    private List<AccountEntity> findAllForTransfer(List<String> sortedAccountNumbers, Set<String> debitAccountNumbers) {
+        if (concurrencyProperties.isOptimistic()) {
+            return accountRepository.findAllByAccountNumberInWithoutLock(sortedAccountNumbers);
+        }
+
+        // 이벤트 저장 모드는 수취도 계좌별 순번으로 추가하므로 잔액 분산 계좌도 함께 잠근다.
+        if (eventSourcingProperties.enabled()) {
+            return accountRepository.findAllByAccountNumberInOrderByAccountNumberAsc(sortedAccountNumbers);
+        }
+
+        List<AccountEntity> accountEntities = accountRepository.findAllForTransferExceptStripedCreditAccounts(sortedAccountNumbers, debitAccountNumbers);
+        // 잠기지 않은 나머지는 입금만 받는 잔액 분산 계좌이므로 잠금 없이 불러온다.
+        Set<String> lockedAccountNumbers = accountEntities.stream().map(AccountEntity::getAccountNumber).collect(Collectors.toSet());
+        List<String> stripedCreditAccountNumbers = sortedAccountNumbers.stream()
+                .filter(accountNumber -> ! lockedAccountNumbers.contains(accountNumber))
+                .toList();
+        if (stripedCreditAccountNumbers.isEmpty()) {
+            return accountEntities;
+        }
+
+        return Stream.concat(
+                accountEntities.stream(),
+                accountRepository.findAllByAccountNumberInWithoutLock(stripedCreditAccountNumbers).stream()
+        ).toList();
+    }
+
+    private AccountBalanceProjection getBalance(AccountNumber accountNumber) {
+        return accountRepository.findBalanceByAccountNumber(accountNumber.value())
                 .orElseThrow(() -> new AccountEntityNotFoundException("계좌 정보를 찾을 수 없습니다."));
+    }
+
+    /*
+     * 조건부 UPDATE 로 처리한 거래 추가 (계좌 엔티티는 불러오지 않음)
+     */
+    private void insertTransaction(AccountTransaction transaction) {
+        insertTransactions(List.of(mapper.mapRow(transaction, null)));
+    }
+
+    /*
+     * 쓰기 모델 복원: 이벤트 저장 모드는 최근 스냅샷 + 이후 거래, 그 밖에는 계좌 행을 기준으로 한다.
+     */
+    private Account mapWriteModel(AccountEntity accountEntity) {
+        if (eventSourcingProperties.enabled()) {
+            return mapper.mapEventSourcedModel(accountEntity, replaySnapshot(accountEntity));
+        }
+
+        return mapper.mapWriteModel(consolidateBalanceShards(backfillDailyLimitUsage(accountEntity)));
+    }
+
+    /*
+     * 최근 스냅샷에 이후 거래를 순번 순으로 적용한다. (읽는 거래 수는 스냅샷 간격 이내)
+     * 스냅샷이 없으면 이벤트 저장 모드 이전까지 관리된 계좌 행이 기준이다. (첫 거래 추가 시 스냅샷으로 남긴다.)
+     */
+    private AccountSnapshot replaySnapshot(AccountEntity accountEntity) {
+        Optional<AccountSnapshotEntity> snapshotEntity = snapshotRepository.findById(accountEntity.getId());
+        if (snapshotEntity.isEmpty()) {
+            AccountEntity baseEntity = consolidateBalanceShards(backfillDailyLimitUsage(accountEntity));
+            return new AccountSnapshot(0L, Money.of(baseEntity.getBalance()), mapper.mapDailyLimitUsage(baseEntity));
+        }
+
+        AccountSnapshot snapshot = mapper.map(snapshotEntity.get());
+        for (AccountTransactionEntity transactionEntity : transactionRepository.findAllByAccountIdAndEventSequenceAfter(accountEntity.getId(), snapshot.eventSequence())) {
+            snapshot = snapshot.apply(transactionEntity.getEventSequence(), mapper.map(transactionEntity));
+        }
+
+        return snapshot;
+    }
+
+    /*
+     * 계좌 행에 변경 사항을 반영하고 추가할 거래 행을 반환한다.
+     */
+    private List<AccountTransactionJdbcRepository.Row> updateAccount(AccountEntity accountEntity, Account account) {
+        // 수취만 발생한 잔액 분산 계좌는 계좌 행을 갱신하지 않고 분산 행에 적재한다.
+        if (accountEntity.isBalanceStriped() && isCreditOnly(account)) {
+            creditBalanceShards(accountEntity, account);
+            return mapNewTransactions(account, 0L);
+        }
+
+        createBalanceShards(accountEntity, account.getBalanceShardCount());
 
         accountEntity.updateAccountHolderName(account.getAccountHolderName());
         accountEntity.updateBalance(account.getBalance().amount());
         accountEntity.changeStatus(account.getStatus());
+        accountEntity.changeAccountClass(account.getAccountClass());
         accountEntity.updateWithdrawLimitAmount(account.getWithdrawLimitAmount().amount());
         accountEntity.updateTransferLimitAmount(account.getTransferLimitAmount().amount());
         accountEntity.updateTransferFeeRate(account.getTransferFeeRate().percentage());
         accountEntity.updateDestroyedAt(account.getDestroyedAt());
+        accountEntity.updateDailyLimitUsage(
+                account.getDailyLimitUsage().usageDate(),
+                account.getDailyLimitUsage().withdrawalAmount().amount(),
+                account.getDailyLimitUsage().transferAmount().amount()
+        );
+        accountEntity.updateBalanceShardCount(account.getBalanceShardCount());
 
-        account.getTransactions().stream()
-                .map(transaction -> {
-                    AccountTransactionEntity transactionEntity = mapper.map(transaction);
-
-                    if (transaction instanceof ReceiveTransaction) {
-                        AccountEntity senderAccount = accountRepository.findById(((ReceiveTransaction) transaction).getSenderAccountId().getValue())
-                                .orElseThrow(() -> new AccountEntityNotFoundException("송금 계좌 정보를 찾을 수 없습니다."));
-                        ((ReceiveTransactionEntity) transactionEntity).assignSenderAccount(senderAccount);
-                    } else if (transaction instanceof TransferTransaction) {
-                        AccountEntity receiverAccount = accountRepository.findById(((TransferTransaction) transaction).getReceiverAccountId().getValue())
-                                .orElseThrow(() -> new AccountEntityNotFoundException("수신 계좌 정보를 찾을 수 없습니다."));
-                        ((TransferTransactionEntity) transactionEntity).assignReceiverAccount(receiverAccount);
-                    }
+        return mapNewTransactions(account, 0L);
+    }
 
-                    return transactionEntity;
-                })
-                .filter(Objects::nonNull)
-                .forEach(accountEntity::addTransaction);
+    /*
+     * 이벤트 저장 모드: 계좌 행의 잔액/한도 사용량은 갱신하지 않고, 거래를 계좌별 순번과 함께 추가만 한다. (설정 변경만 계좌 행에 반영)
+     */
+    private List<AccountTransactionJdbcRepository.Row> appendEvents(AccountEntity accountEntity, Account account) {
+        accountEntity.updateAccountHolderName(account.getAccountHolderName());
+        accountEntity.changeStatus(account.getStatus());
+        accountEntity.changeAccountClass(account.getAccountClass());
+        accountEntity.updateWithdrawLimitAmount(account.getWithdrawLimitAmount().amount());
+        accountEntity.updateTransferLimitAmount(account.getTransferLimitAmount().amount());
+        accountEntity.updateTransferFeeRate(account.getTransferFeeRate().percentage());
+        accountEntity.updateDestroyedAt(account.getDestroyedAt());
+        // 쓰기 모델은 분산 수 0 으로 복원되므로 늘어난 경우에만 반영한다.
+        if (account.getBalanceShardCount() > accountEntity.getBalanceShardCount()) {
+            createBalanceShards(accountEntity, account.getBalanceShardCount());
+            accountEntity.updateBalanceShardCount(account.getBalanceShardCount());
+        }
+
+        List<AccountTransactionJdbcRepository.Row> rows = mapNewTransactions(account, account.getEventSequence());
+        saveSnapshotIfDue(account);
+
+        return rows;
     }
 
-    @Override
-    public Page<AccountTransactionRetrieveResponse.Transaction> findAllTransferTransactionOrReceiveTransaction(AccountId accountId, int page, int size) {
-        return transactionRepository
-                .findAllTransferOrReceiveTransactionByAccountId(accountId.getValue(), PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "transactionAt")))
-                .map(accountTransactionEntity -> {
-                    if (accountTransactionEntity instanceof TransferTransactionEntity) {
-                        return new AccountTransactionRetrieveResponse.Transaction(
-                                AccountNumber.of(accountTransactionEntity.getAccount().getAccountNumber()),
-                                AccountNumber.of(((TransferTransactionEntity) accountTransactionEntity).getReceiverAccount().getAccountNumber()),
-                                Money.of(accountTransactionEntity.getAmount()),
-                                accountTransactionEntity.getTransactionAt()
-                        );
-                    } else if (accountTransactionEntity instanceof ReceiveTransactionEntity) {
-                        return new AccountTransactionRetrieveResponse.Transaction(
-                                AccountNumber.of(((ReceiveTransactionEntity) accountTransactionEntity).getSenderAccount().getAccountNumber()),
-                                AccountNumber.of(accountTransactionEntity.getAccount().getAccountNumber()),
-                                Money.of(accountTransactionEntity.getAmount()),
-                                accountTransactionEntity.getTransactionAt()
-                        );
-                    } else {
-                        return null;
-                    }
-                });
+    /*
+     * 계좌 행 변경(생성 포함)을 먼저 반영한 뒤 거래를 추가한다. (외래 키)
+     * 이벤트 저장 모드에서 같은 순번이 먼저 추가되었으면(낙관적 모드) 충돌로 재시도되도록 변환한다.
+     */
+    private void insertTransactions(List<AccountTransactionJdbcRepository.Row> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        accountRepository.flush();
+        try {
+            transactionJdbcRepository.insertAll(rows);
+        } catch (DataIntegrityViolationException e) {
+            if (eventSourcingProperties.enabled()) {
+                throw new OptimisticLockingFailureException("같은 순번의 거래가 먼저 추가되었습니다.", e);
+            }
+            throw e;
+        }
+    }
+
+    /*
+     * 스냅샷이 없거나, 마지막 스냅샷 이후 추가된 거래가 스냅샷 간격 이상이면 현재 상태로 스냅샷을 갱신한다.
+     */
+    private void saveSnapshotIfDue(Account account) {
+        Optional<AccountSnapshotEntity> snapshotEntity = snapshotRepository.findById(account.getId().getValue());
+        if (snapshotEntity.isEmpty()) {
+            snapshotRepository.save(mapper.mapSnapshot(account));
+            return;
+        }
+
+        if (account.getEventSequence() - snapshotEntity.get().getEventSequence() >= eventSourcingProperties.snapshotInterval()) {
+            AccountSnapshotEntity snapshot = mapper.mapSnapshot(account);
+            snapshotEntity.get().update(
+                    snapshot.getEventSequence(),
+                    snapshot.getBalance(),
+                    snapshot.getDailyUsageDate(),
+                    snapshot.getDailyWithdrawalAmount(),
+                    snapshot.getDailyTransferAmount(),
+                    snapshot.getCreatedAt()
+            );
+        }
+    }
+
+    /*
+     * 이번 작업 단위에서 발생한 거래만 행으로 변환하고 비운다. (이벤트 저장 모드는 마지막 순번 다음부터 순번을 매긴다.)
+     */
+    private List<AccountTransactionJdbcRepository.Row> mapNewTransactions(Account account, long lastEventSequence) {
+        if (! eventSourcingProperties.enabled()) {
+            List<AccountTransactionJdbcRepository.Row> rows = account.getNewTransactions().stream()
+                    .map(transaction -> mapper.mapRow(transaction, null))
+                    .toList();
+            account.clearNewTransactions();
+            return rows;
+        }
+
+        long eventSequence = lastEventSequence;
+        List<AccountTransactionJdbcRepository.Row> rows = new ArrayList<>();
+        for (AccountTransaction transaction : account.getNewTransactions()) {
+            rows.add(mapper.mapRow(transaction, ++eventSequence));
+        }
+        account.clearNewTransactions(eventSequence);
+
+        return rows;
+    }
+
+    private boolean isCreditOnly(Account account) {
+        return ! account.getNewTransactions().isEmpty()
+                && account.getNewTransactions().stream().allMatch(ReceiveTransaction.class::isInstance);
+    }
+
+    /*
+     * 수취 금액을 거래 식별자 해시로 고른 분산 행 하나에 더한다.
+     */
+    private void creditBalanceShards(AccountEntity accountEntity, Account account) {
+        for (AccountTransaction transaction : account.getNewTransactions()) {
+            int shardIndex = Math.floorMod(transaction.getId().getValue().hashCode(), accountEntity.getBalanceShardCount());
+            int updated = balanceShardRepository.increaseAmount(accountEntity.getId(), shardIndex, transaction.getAmount().amount());
+
+            if (updated == 0) {
+                throw new AccountEntityNotFoundException("분산 잔액 정보를 찾을 수 없습니다.");
+            }
+        }
+    }
+
+    /*
+     * 늘어난 분산 수만큼 분산 행을 추가한다.
+     */
+    private void createBalanceShards(AccountEntity accountEntity, int balanceShardCount) {
+        List<AccountBalanceShardEntity> shardEntities = IntStream.range(accountEntity.getBalanceShardCount(), balanceShardCount)
+                .mapToObj(shardIndex -> AccountBalanceShardEntity.builder()
+                        .id(UUID.randomUUID())
+                        .accountId(accountEntity.getId())
+                        .shardIndex(shardIndex)
+                        .amount(BigDecimal.ZERO)
+                        .build())
+                .toList();
+
+        balanceShardRepository.saveAll(shardEntities);
+    }
+
+    /*
+     * 분산 행에 적재된 금액을 계좌 잔액으로 옮긴다. (읽은 금액만큼만 차감하므로 통합 도중 적재된 금액은 유실되지 않는다.)
+     */
+    private AccountEntity consolidateBalanceShards(AccountEntity accountEntity) {
+        if (! accountEntity.isBalanceStriped()) {
+            return accountEntity;
+        }
+
+        BigDecimal pendingAmount = BigDecimal.ZERO;
+        for (BalanceShardProjection shard : balanceShardRepository.findAllPendingByAccountId(accountEntity.getId())) {
+            balanceShardRepository.decreaseAmount(shard.id(), shard.amount());
+            pendingAmount = pendingAmount.add(shard.amount());
+        }
+
+        if (pendingAmount.signum() != 0) {
+            accountEntity.updateBalance(accountEntity.getBalance().add(pendingAmount));
+        }
+
+        return accountEntity;
+    }
+
+    /*
+     * 일일 한도 사용량이 없는 기존 계좌는 오늘자 거래 내역을 한 번 집계해 채운다. (이후 갱신 시 함께 저장)
+     */
+    private AccountEntity backfillDailyLimitUsage(AccountEntity accountEntity) {
+        if (accountEntity.getDailyUsageDate() != null) {
+            return accountEntity;
+        }
+
+        LocalDate today = LocalDate.now();
+        accountEntity.updateDailyLimitUsage(
+                today,
+                transactionRepository.sumWithdrawalAmountByAccountIdSince(accountEntity.getId(), today.atStartOfDay(ZoneId.systemDefault())),
+                transactionRepository.sumTransferAmountByAccountIdSince(accountEntity.getId(), today.atStartOfDay(ZoneId.systemDefault()))
+        );
+
+        return accountEntity;
+    }
+
+    private AccountTransactionRetrieveResponse.Transaction toRetrieveTransaction(AccountTransactionHistoryProjection projection) {
+        return new AccountTransactionRetrieveResponse.Transaction(
+                AccountNumber.of(projection.senderAccountNumber()),
+                AccountNumber.of(projection.receiverAccountNumber()),
+                Money.of(projection.amount()),
+                projection.transactionAt()
+        );
+    }
+
+    private AccountStatementLine toStatementLine(AccountStatementProjection projection) {
+        return new AccountStatementLine(
+                projection.type(),
+                projection.counterpartyAccountNumber(),
+                projection.amount(),
+                projection.transferFee(),
+                projection.balance(),
+                projection.transactionAt()
+        );
     }
 }
@@ -0,0 +1,72 @@
+package com.bank.adapter.output.persistence;
+
+import com.bank.adapter.output.persistence.repository.AccountJpaRepository;
+import com.bank.adapter.output.persistence.repository.projection.AccountSummaryProjection;
+import com.bank.application.port.output.persistence.AccountSummary;
+import com.bank.application.port.output.persistence.AccountSummaryRepository;
+import com.bank.application.service.account.AccountSummaryCacheProperties;
+import com.bank.domain.account.valueobject.AccountId;
+import com.bank.domain.account.valueobject.AccountNumber;
+import com.bank.domain.account.valueobject.FeeRate;
+import com.bank.domain.account.valueobject.Money;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+
+@Component
+public class PersistenceAccountSummaryRepositoryService implements AccountSummaryRepository {
+
+    private final AccountJpaRepository accountRepository;
+    // 계좌번호 -> 요약 정보 (W-TinyLFU 크기 제한, 없는 계좌는 캐시하지 않음)
+    private final Cache<AccountNumber, AccountSummary> cache;
+
+    public PersistenceAccountSummaryRepositoryService(AccountJpaRepository accountRepository, AccountSummaryCacheProperties properties, ObjectProvider<MeterRegistry> meterRegistry) {
+        this.accountRepository = accountRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.maximumSize())
+                .expireAfterWrite(properties.ttl())
+                .recordStats()
+                .build();
+        // 적중/실패/제거 횟수: cache.gets{cache=account.summary, result=hit|miss}
+        meterRegistry.ifAvailable(registry -> CaffeineCacheMetrics.monitor(registry, cache, "account.summary"));
+    }
+
+    @Override
+    public Optional<AccountSummary> findByAccountNumber(AccountNumber accountNumber) {
+        return Optional.ofNullable(cache.get(accountNumber, key -> accountRepository.findSummaryByAccountNumber(key.value())
+                .map(this::map)
+                .orElse(null)));
+    }
+
+    @Override
+    public void evict(AccountNumber accountNumber) {
+        cache.invalidate(accountNumber);
+        // 커밋 전에 다른 요청이 이전 값을 다시 적재할 수 있으므로 커밋 후 한 번 더 제거한다.
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.invalidate(accountNumber);
+                }
+            });
+        }
+    }
+
+    private AccountSummary map(AccountSummaryProjection projection) {
+        return new AccountSummary(
+                AccountId.of(projection.id()),
+                AccountNumber.of(projection.accountNumber()),
+                projection.status(),
+                Money.of(projection.withdrawLimitAmount()),
+                Money.of(projection.transferLimitAmount()),
+                FeeRate.of(projection.transferFeeRate())
+        );
+    }
+}
@@ -0,0 +1,93 @@
+package com.bank.adapter.output.persistence;
+
+import com.bank.adapter.output.persistence.entity.IdempotencyRecordEntity;
+import com.bank.adapter.output.persistence.exception.IdempotencyRecordEntityNotFoundException;
+import com.bank.adapter.output.persistence.repository.IdempotencyRecordJpaRepository;
+import com.bank.application.port.output.persistence.IdempotencyRecord;
+import com.bank.application.port.output.persistence.IdempotencyRepository;
+import com.bank.application.service.idempotency.IdempotencyProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.ZonedDateTime;
+import java.util.Optional;
+
+@Component
+public class PersistenceIdempotencyRepositoryService implements IdempotencyRepository {
+
+    private final IdempotencyRecordJpaRepository idempotencyRecordRepository;
+    // 근거리 캐시: 처리가 끝난 결과만 담는다. (크기/TTL 제한, 커밋된 결과만 반영)
+    private final Cache<String, IdempotencyRecord> nearCache;
+
+    public PersistenceIdempotencyRepositoryService(IdempotencyRecordJpaRepository idempotencyRecordRepository, IdempotencyProperties properties) {
+        this.idempotencyRecordRepository = idempotencyRecordRepository;
+        this.nearCache = Caffeine.newBuilder()
+                .maximumSize(properties.cache().maximumSize())
+                .expireAfterWrite(properties.cache().ttl())
+                .build();
+    }
+
+    @Override
+    public Optional<IdempotencyRecord> findByKey(String idempotencyKey) {
+        IdempotencyRecord cachedRecord = nearCache.getIfPresent(idempotencyKey);
+        if (cachedRecord != null) {
+            return Optional.of(cachedRecord);
+        }
+
+        Optional<IdempotencyRecord> record = idempotencyRecordRepository.findById(idempotencyKey).map(this::map);
+        record.filter(IdempotencyRecord::isCompleted)
+                .ifPresent(completedRecord -> nearCache.put(idempotencyKey, completedRecord));
+
+        return record;
+    }
+
+    @Override
+    public void claim(IdempotencyRecord record) {
+        idempotencyRecordRepository.saveAndFlush(
+                IdempotencyRecordEntity.builder()
+                        .id(record.idempotencyKey())
+                        .operation(record.operation())
+                        .requestHash(record.requestHash())
+                        .responseBody(record.responseBody())
+                        .createdAt(record.createdAt())
+                        .build()
+        );
+    }
+
+    @Override
+    public void complete(String idempotencyKey, String responseBody) {
+        IdempotencyRecordEntity entity = idempotencyRecordRepository.findById(idempotencyKey)
+                .orElseThrow(() -> new IdempotencyRecordEntityNotFoundException("멱등 키 정보를 찾을 수 없습니다."));
+        entity.complete(responseBody);
+
+        IdempotencyRecord completedRecord = map(entity);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    nearCache.put(idempotencyKey, completedRecord);
+                }
+            });
+        } else {
+            nearCache.put(idempotencyKey, completedRecord);
+        }
+    }
+
+    @Override
+    public void deleteAllCreatedBefore(ZonedDateTime createdAt) {
+        idempotencyRecordRepository.deleteAllCreatedBefore(createdAt);
+    }
+
+    private IdempotencyRecord map(IdempotencyRecordEntity entity) {
+        return new IdempotencyRecord(
+                entity.getId(),
+                entity.getOperation(),
+                entity.getRequestHash(),
+                entity.getResponseBody(),
+                entity.getCreatedAt()
+        );
+    }
+}
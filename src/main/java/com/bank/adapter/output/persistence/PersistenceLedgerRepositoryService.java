@@ -0,0 +1,36 @@
+package com.bank.adapter.output.persistence;
+
+import com.bank.adapter.output.persistence.repository.AccountJpaRepository;
+import com.bank.adapter.output.persistence.repository.AccountTransactionJpaRepository;
+import com.bank.application.port.output.persistence.LedgerRepository;
+import com.bank.domain.account.valueobject.Money;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class PersistenceLedgerRepositoryService implements LedgerRepository {
+
+    private final AccountJpaRepository accountRepository;
+    private final AccountTransactionJpaRepository transactionRepository;
+
+    @Override
+    public Money sumLedgerBalance() {
+        return Money.of(transactionRepository.sumLedgerBalance());
+    }
+
+    @Override
+    public Money sumAccountBalance() {
+        return Money.of(accountRepository.sumAccountBalance());
+    }
+
+    @Override
+    public long countUnbalancedJournalEntries() {
+        return transactionRepository.countUnbalancedJournalEntries();
+    }
+
+    @Override
+    public Money sumTransferFee() {
+        return Money.of(transactionRepository.sumTransferFee());
+    }
+}
@@ -0,0 +1,47 @@
+package com.bank.adapter.output.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.ColumnDefault;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/*
+ * 잔액 분산 행: 수취 금액이 적재되고, 통합 시 계좌 잔액으로 옮겨진다.
+ */
+@Entity
+@Table(
+        name = "account_balance_shard",
+        uniqueConstraints = @UniqueConstraint(name = "uk_account_balance_shard", columnNames = {"account_id", "shard_index"})
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@ToString
+public class AccountBalanceShardEntity extends BaseEntity<UUID> {
+
+    @Column(name = "account_id", nullable = false, updatable = false)
+    private UUID accountId;
+
+    @Column(name = "shard_index", nullable = false, updatable = false)
+    private int shardIndex;
+
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private BigDecimal amount;
+
+    @Builder
+    public AccountBalanceShardEntity(UUID id, UUID accountId, int shardIndex, BigDecimal amount) {
+        this.id = id;
+        this.accountId = accountId;
+        this.shardIndex = shardIndex;
+        this.amount = amount;
+    }
+}
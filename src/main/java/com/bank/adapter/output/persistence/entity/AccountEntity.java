@@ -1,14 +1,18 @@
 package com.bank.adapter.output.persistence.entity;
 
+import com.bank.domain.account.entity.AccountClass;
 import com.bank.domain.account.entity.AccountStatus;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.Hibernate;
 import org.hibernate.annotations.ColumnDefault;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.ZonedDateTime;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 
@@ -26,6 +30,11 @@ public class AccountEntity extends BaseEntity<UUID> {
     @Enumerated(EnumType.ORDINAL)
     private AccountStatus status;
 
+    @Enumerated(EnumType.ORDINAL)
+    @Column(name = "account_class", nullable = false)
+    @ColumnDefault("0")
+    private AccountClass accountClass;
+
     @Column(name = "account_number", nullable = false, updatable = false, unique = true)
     private String accountNumber;
 
@@ -47,14 +56,40 @@ public class AccountEntity extends BaseEntity<UUID> {
     @Column(name = "destroyed_at")
     private ZonedDateTime destroyedAt;
 
+    /*
+     * 일일 한도 사용량: 잔액과 같은 행에서 함께 갱신된다. (null 이면 아직 집계되지 않은 계좌)
+     */
+    @Column(name = "daily_usage_date")
+    private LocalDate dailyUsageDate;
+
+    @Column(name = "daily_withdrawal_amount")
+    private BigDecimal dailyWithdrawalAmount;
+
+    @Column(name = "daily_transfer_amount")
+    private BigDecimal dailyTransferAmount;
+
+    /*
+     * 잔액 분산 수: 0 보다 크면 수취 금액은 account_balance_shard 의 분산 행에 적재된다. (계좌 행을 잠그지 않음)
+     */
+    @Column(name = "balance_shard_count", nullable = false)
+    @ColumnDefault("0")
+    private int balanceShardCount;
+
+    /*
+     * 낙관적 동시성 모드에서 갱신 충돌 검사에 사용한다.
+     */
+    @Version
+    private Long version;
+
     @OneToMany(mappedBy = "account", cascade = {CascadeType.PERSIST}, orphanRemoval = true)
     private Set<AccountTransactionEntity> transactions = new HashSet<>();
 
     @Builder
-    public AccountEntity(UUID id, BigDecimal balance, AccountStatus status, String accountNumber, String accountHolderName, BigDecimal withdrawLimitAmount, BigDecimal transferLimitAmount, BigDecimal transferFeeRate, ZonedDateTime createdAt, ZonedDateTime destroyedAt, Collection<AccountTransactionEntity> transactions) {
+    public AccountEntity(UUID id, BigDecimal balance, AccountStatus status, AccountClass accountClass, String accountNumber, String accountHolderName, BigDecimal withdrawLimitAmount, BigDecimal transferLimitAmount, BigDecimal transferFeeRate, ZonedDateTime createdAt, ZonedDateTime destroyedAt, LocalDate dailyUsageDate, BigDecimal dailyWithdrawalAmount, BigDecimal dailyTransferAmount, int balanceShardCount, Collection<AccountTransactionEntity> transactions) {
         this.id = id;
         this.balance = balance;
         this.status = status;
+        this.accountClass = Optional.ofNullable(accountClass).orElse(AccountClass.STANDARD);
         this.accountNumber = accountNumber;
         this.accountHolderName = accountHolderName;
         this.withdrawLimitAmount = withdrawLimitAmount;
@@ -62,6 +97,10 @@ public class AccountEntity extends BaseEntity<UUID> {
         this.transferFeeRate = transferFeeRate;
         this.createdAt = createdAt;
         this.destroyedAt = destroyedAt;
+        this.dailyUsageDate = dailyUsageDate;
+        this.dailyWithdrawalAmount = dailyWithdrawalAmount;
+        this.dailyTransferAmount = dailyTransferAmount;
+        this.balanceShardCount = balanceShardCount;
         this.transactions = new HashSet<>(transactions);
     }
 
@@ -77,6 +116,10 @@ public class AccountEntity extends BaseEntity<UUID> {
         this.status = status;
     }
 
+    public void changeAccountClass(AccountClass accountClass) {
+        this.accountClass = accountClass;
+    }
+
     public void updateWithdrawLimitAmount(BigDecimal withdrawLimitAmount) {
         this.withdrawLimitAmount = withdrawLimitAmount;
     }
@@ -93,8 +136,26 @@ public class AccountEntity extends BaseEntity<UUID> {
         this.destroyedAt = destroyedAt;
     }
 
+    public void updateDailyLimitUsage(LocalDate dailyUsageDate, BigDecimal dailyWithdrawalAmount, BigDecimal dailyTransferAmount) {
+        this.dailyUsageDate = dailyUsageDate;
+        this.dailyWithdrawalAmount = dailyWithdrawalAmount;
+        this.dailyTransferAmount = dailyTransferAmount;
+    }
+
+    public void updateBalanceShardCount(int balanceShardCount) {
+        this.balanceShardCount = balanceShardCount;
+    }
+
+    public boolean isBalanceStriped() {
+        return this.balanceShardCount > 0;
+    }
+
     public void addTransaction(AccountTransactionEntity transaction) {
-        this.transactions.add(transaction);
         transaction.assignAccount(this);
+
+        // 거래 내역이 이미 로딩된 경우에만 컬렉션에 반영한다. (추가를 위해 전체 내역을 불러오지 않는다.)
+        if (Hibernate.isInitialized(this.transactions)) {
+            this.transactions.add(transaction);
+        }
     }
 }
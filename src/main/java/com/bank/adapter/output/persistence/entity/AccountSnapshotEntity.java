@@ -0,0 +1,64 @@
+package com.bank.adapter.output.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+/*
+ * 이벤트 저장 모드의 계좌 스냅샷: 계좌별 최근 스냅샷 하나만 유지한다. (식별자 = 계좌 식별자)
+ */
+@Entity
+@Table(name = "account_snapshot")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@ToString
+public class AccountSnapshotEntity extends BaseEntity<UUID> {
+
+    @Column(name = "event_sequence", nullable = false)
+    private long eventSequence;
+
+    @Column(nullable = false)
+    private BigDecimal balance;
+
+    @Column(name = "daily_usage_date")
+    private LocalDate dailyUsageDate;
+
+    @Column(name = "daily_withdrawal_amount")
+    private BigDecimal dailyWithdrawalAmount;
+
+    @Column(name = "daily_transfer_amount")
+    private BigDecimal dailyTransferAmount;
+
+    @Column(name = "created_at", nullable = false)
+    private ZonedDateTime createdAt;
+
+    @Builder
+    public AccountSnapshotEntity(UUID accountId, long eventSequence, BigDecimal balance, LocalDate dailyUsageDate, BigDecimal dailyWithdrawalAmount, BigDecimal dailyTransferAmount, ZonedDateTime createdAt) {
+        this.id = accountId;
+        this.eventSequence = eventSequence;
+        this.balance = balance;
+        this.dailyUsageDate = dailyUsageDate;
+        this.dailyWithdrawalAmount = dailyWithdrawalAmount;
+        this.dailyTransferAmount = dailyTransferAmount;
+        this.createdAt = createdAt;
+    }
+
+    public void update(long eventSequence, BigDecimal balance, LocalDate dailyUsageDate, BigDecimal dailyWithdrawalAmount, BigDecimal dailyTransferAmount, ZonedDateTime createdAt) {
+        this.eventSequence = eventSequence;
+        this.balance = balance;
+        this.dailyUsageDate = dailyUsageDate;
+        this.dailyWithdrawalAmount = dailyWithdrawalAmount;
+        this.dailyTransferAmount = dailyTransferAmount;
+        this.createdAt = createdAt;
+    }
+}
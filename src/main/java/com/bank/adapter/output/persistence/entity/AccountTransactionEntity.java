@@ -29,7 +29,23 @@ public abstract class AccountTransactionEntity extends BaseEntity<UUID> {
     @Column(name = "transaction_at", nullable = false)
     protected ZonedDateTime transactionAt;
 
-    protected void assignAccount(AccountEntity account) {
+    /*
+     * 이벤트 저장 모드의 계좌별 거래 순번 (계좌별 고유, 그 밖의 모드에서는 비어 있다.)
+     */
+    @Column(name = "event_sequence")
+    protected Long eventSequence;
+
+    /*
+     * 분개 식별자: 이체의 송금/수취 거래가 공유한다. (분개 이전에 기록된 거래는 비어 있다.)
+     */
+    @Column(name = "journal_entry_id")
+    protected UUID journalEntryId;
+
+    public void assignAccount(AccountEntity account) {
         this.account = account;
     }
+
+    public void assignEventSequence(long eventSequence) {
+        this.eventSequence = eventSequence;
+    }
 }
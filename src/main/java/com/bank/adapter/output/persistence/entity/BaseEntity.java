@@ -2,19 +2,41 @@ package com.bank.adapter.output.persistence.entity;
 
 import jakarta.persistence.Id;
 import jakarta.persistence.MappedSuperclass;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Transient;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
 
 import java.util.Objects;
 
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @MappedSuperclass
-public abstract class BaseEntity<ID> {
+public abstract class BaseEntity<ID> implements Persistable<ID> {
     @Id
     protected ID id;
 
+    /*
+     * 식별자를 직접 할당하므로 저장 여부를 별도로 추적한다. (save 시 merge 를 위한 SELECT 방지)
+     */
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private boolean persisted;
+
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PostLoad
+    @PostPersist
+    protected void markPersisted() {
+        this.persisted = true;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (!(o instanceof BaseEntity<?> that)) return false;
@@ -0,0 +1,50 @@
+package com.bank.adapter.output.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.time.ZonedDateTime;
+
+/*
+ * 멱등 키 처리 결과: 식별자가 멱등 키이므로 같은 키의 두 번째 INSERT 는 PK 위반으로 실패한다.
+ */
+@Entity
+@Table(name = "idempotency_record")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@ToString(exclude = {"responseBody"})
+public class IdempotencyRecordEntity extends BaseEntity<String> {
+
+    @Column(nullable = false, updatable = false)
+    private String operation;
+
+    @Column(name = "request_hash", nullable = false, updatable = false, length = 64)
+    private String requestHash;
+
+    @Lob
+    @Column(name = "response_body")
+    private String responseBody;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private ZonedDateTime createdAt;
+
+    @Builder
+    public IdempotencyRecordEntity(String id, String operation, String requestHash, String responseBody, ZonedDateTime createdAt) {
+        this.id = id;
+        this.operation = operation;
+        this.requestHash = requestHash;
+        this.responseBody = responseBody;
+        this.createdAt = createdAt;
+    }
+
+    public void complete(String responseBody) {
+        this.responseBody = responseBody;
+    }
+}
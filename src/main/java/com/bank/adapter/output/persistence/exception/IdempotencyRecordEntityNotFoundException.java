@@ -0,0 +1,11 @@
+package com.bank.adapter.output.persistence.exception;
+
+public class IdempotencyRecordEntityNotFoundException extends PersistenceException {
+    public IdempotencyRecordEntityNotFoundException(String message) {
+        super(message);
+    }
+
+    public IdempotencyRecordEntityNotFoundException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,36 @@
+package com.bank.adapter.output.persistence.lock;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/*
+ * GET /actuator/lockcontention?top=20: 잠금 대기 시간이 긴 계좌 (누적 대기 시간 내림차순)
+ * 읽기 전용: 인증 없이 웹에 노출되므로 집계를 지우는 쓰기 연산은 두지 않는다.
+ */
+@Component
+@Endpoint(id = "lockcontention")
+@RequiredArgsConstructor
+public class AccountLockContentionEndpoint {
+
+    private static final int DEFAULT_TOP = 20;
+
+    private final AccountLockContentionMonitor monitor;
+
+    @ReadOperation
+    public List<HotAccount> hotAccounts(@Nullable Integer top) {
+        return monitor.top(top == null ? DEFAULT_TOP : top).stream()
+                .map(entry -> new HotAccount(entry.key(), entry.weight(), entry.error()))
+                .toList();
+    }
+
+    /*
+     * waitMicros: 누적 대기 시간 추정치 (실제 값은 waitMicros - errorMicros 이상)
+     */
+    public record HotAccount(String accountNumber, long waitMicros, long errorMicros) {
+    }
+}
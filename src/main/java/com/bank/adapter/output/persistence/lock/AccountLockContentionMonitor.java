@@ -0,0 +1,51 @@
+package com.bank.adapter.output.persistence.lock;
+
+import com.bank.application.service.concurrency.ConcurrencyProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * 계좌 행 잠금 획득 시간 기록.
+ * - bank.account.lock.wait: 잠금 조회별 획득 시간 (query, outcome 태그)
+ * - 계좌번호별 누적 대기 시간(마이크로초) 상위 K 요약 (actuator lockcontention 엔드포인트)
+ */
+@Component
+public class AccountLockContentionMonitor {
+
+    private final MeterRegistry meterRegistry;
+    private final SpaceSavingSketch<String> sketch;
+
+    public AccountLockContentionMonitor(ConcurrencyProperties properties, MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.sketch = new SpaceSavingSketch<>(properties.lockContention().capacity());
+    }
+
+    /*
+     * 여러 계좌를 한 번에 잠근 경우 어느 계좌에서 기다렸는지 알 수 없으므로 대기 시간을 잠근 계좌 각각에 모두 더한다.
+     */
+    public void record(String query, Collection<String> accountNumbers, long waitNanos, boolean acquired) {
+        Timer.builder("bank.account.lock.wait")
+                .description("계좌 행 잠금 획득 시간")
+                .tag("query", query)
+                .tag("outcome", acquired ? "acquired" : "failed")
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(waitNanos, TimeUnit.NANOSECONDS);
+
+        long waitMicros = TimeUnit.NANOSECONDS.toMicros(waitNanos);
+        accountNumbers.forEach(accountNumber -> sketch.add(accountNumber, waitMicros));
+    }
+
+    public List<SpaceSavingSketch.Entry<String>> top(int limit) {
+        return sketch.top(limit);
+    }
+
+    public void reset() {
+        sketch.clear();
+    }
+}
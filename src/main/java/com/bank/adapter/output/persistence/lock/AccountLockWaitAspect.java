@@ -0,0 +1,68 @@
+package com.bank.adapter.output.persistence.lock;
+
+import com.bank.adapter.output.persistence.entity.AccountEntity;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/*
+ * 비관적 잠금(PESSIMISTIC_WRITE) 조회의 잠금 획득 시간을 잰다. (잠금 없는 조회는 측정하지 않는다.)
+ */
+@Aspect
+@Component
+@ConditionalOnProperty(prefix = "bank.concurrency.lock-contention", name = "enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class AccountLockWaitAspect {
+
+    private final AccountLockContentionMonitor monitor;
+
+    @Around("execution(* com.bank.adapter.output.persistence.repository.AccountJpaRepository.findByAccountNumber(..))"
+            + " || execution(* com.bank.adapter.output.persistence.repository.AccountJpaRepository.findAllByAccountNumberInOrderByAccountNumberAsc(..))"
+            + " || execution(* com.bank.adapter.output.persistence.repository.AccountJpaRepository.findAllForTransferExceptStripedCreditAccounts(..))")
+    public Object measure(ProceedingJoinPoint joinPoint) throws Throwable {
+        long startedAt = System.nanoTime();
+        Object result = null;
+        boolean acquired = false;
+
+        try {
+            result = joinPoint.proceed();
+            acquired = true;
+            return result;
+        } finally {
+            Collection<String> lockedAccountNumbers = acquired ? lockedAccountNumbers(result) : requestedLockAccountNumbers(joinPoint);
+            monitor.record(joinPoint.getSignature().getName(), lockedAccountNumbers, System.nanoTime() - startedAt, acquired);
+        }
+    }
+
+    /*
+     * 실제로 잠근 계좌 = 조회 결과 (잠그지 않은 잔액 분산 수취 계좌, 없는 계좌는 빠진다.)
+     */
+    private static Collection<String> lockedAccountNumbers(Object result) {
+        if (result instanceof Optional<?> optional) {
+            return optional.map(entity -> List.of(((AccountEntity) entity).getAccountNumber())).orElse(List.of());
+        }
+        if (result instanceof Collection<?> entities) {
+            return entities.stream().map(entity -> ((AccountEntity) entity).getAccountNumber()).toList();
+        }
+
+        return List.of();
+    }
+
+    /*
+     * 잠금을 얻지 못한 경우: 조회 결과가 없으므로 잠그려던 계좌로 대신한다. (잔액 분산 계좌를 제외하는 조회는 출금 계좌만)
+     */
+    @SuppressWarnings("unchecked")
+    private static Collection<String> requestedLockAccountNumbers(ProceedingJoinPoint joinPoint) {
+        Object[] args = joinPoint.getArgs();
+        Object argument = args.length > 1 ? args[1] : args[0];
+
+        return argument instanceof Collection<?> ? (Collection<String>) argument : List.of((String) argument);
+    }
+}
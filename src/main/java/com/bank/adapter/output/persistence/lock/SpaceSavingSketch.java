@@ -0,0 +1,81 @@
+package com.bank.adapter.output.persistence.lock;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * Space-Saving 상위 K 빈발 항목 요약. (Metwally et al.)
+ * 최대 capacity 개의 항목만 추적하고, 가득 찬 상태에서 새 항목이 들어오면 가중치가 가장 작은 항목을 대체한다.
+ * 대체된 항목의 가중치는 새 항목의 오차(error)로 넘겨 받으므로, 실제 가중치는 [weight - error, weight] 범위에 있다.
+ */
+public class SpaceSavingSketch<K> {
+
+    private final int capacity;
+    private final Map<K, Counter> counters;
+
+    public SpaceSavingSketch(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("추적 항목 수는 0 보다 커야 합니다.");
+        }
+        this.capacity = capacity;
+        this.counters = new HashMap<>(capacity * 2);
+    }
+
+    public synchronized void add(K key, long weight) {
+        if (weight <= 0) {
+            return;
+        }
+
+        Counter counter = counters.get(key);
+        if (counter != null) {
+            counter.weight += weight;
+            return;
+        }
+
+        if (counters.size() < capacity) {
+            counters.put(key, new Counter(weight, 0));
+            return;
+        }
+
+        // 가장 작은 항목을 대체한다. (capacity 가 작으므로 선형 탐색)
+        Map.Entry<K, Counter> min = null;
+        for (Map.Entry<K, Counter> entry : counters.entrySet()) {
+            if (min == null || entry.getValue().weight < min.getValue().weight) {
+                min = entry;
+            }
+        }
+        counters.remove(min.getKey());
+        counters.put(key, new Counter(min.getValue().weight + weight, min.getValue().weight));
+    }
+
+    /*
+     * 가중치가 큰 순서로 최대 limit 개
+     */
+    public synchronized List<Entry<K>> top(int limit) {
+        List<Entry<K>> entries = new ArrayList<>(counters.size());
+        counters.forEach((key, counter) -> entries.add(new Entry<>(key, counter.weight, counter.error)));
+        entries.sort(Comparator.comparingLong(Entry<K>::weight).reversed());
+
+        return entries.subList(0, Math.min(Math.max(limit, 0), entries.size()));
+    }
+
+    public synchronized void clear() {
+        counters.clear();
+    }
+
+    public record Entry<K>(K key, long weight, long error) {
+    }
+
+    private static final class Counter {
+        private long weight;
+        private final long error;
+
+        private Counter(long weight, long error) {
+            this.weight = weight;
+            this.error = error;
+        }
+    }
+}
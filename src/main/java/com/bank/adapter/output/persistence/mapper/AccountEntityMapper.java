@@ -1,10 +1,16 @@
 package com.bank.adapter.output.persistence.mapper;
 
 import com.bank.adapter.output.persistence.entity.*;
+import com.bank.adapter.output.persistence.repository.AccountTransactionJdbcRepository;
 import com.bank.domain.account.entity.*;
 import com.bank.domain.account.valueobject.*;
 import org.springframework.stereotype.Component;
 
+import java.math.BigDecimal;
+import java.time.ZonedDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
 @Component
 public class AccountEntityMapper {
 
@@ -15,11 +21,16 @@ public class AccountEntityMapper {
                 .accountHolderName(account.getAccountHolderName())
                 .balance(account.getBalance().amount())
                 .status(account.getStatus())
+                .accountClass(account.getAccountClass())
                 .withdrawLimitAmount(account.getWithdrawLimitAmount().amount())
                 .transferLimitAmount(account.getTransferLimitAmount().amount())
                 .transferFeeRate(account.getTransferFeeRate().percentage())
                 .createdAt(account.getCreatedAt())
                 .destroyedAt(account.getDestroyedAt())
+                .dailyUsageDate(account.getDailyLimitUsage().usageDate())
+                .dailyWithdrawalAmount(account.getDailyLimitUsage().withdrawalAmount().amount())
+                .dailyTransferAmount(account.getDailyLimitUsage().transferAmount().amount())
+                .balanceShardCount(account.getBalanceShardCount())
                 .transactions(account.getTransactions().stream().map(this::map).toList())
                 .build();
     }
@@ -59,6 +70,41 @@ public class AccountEntityMapper {
         return null;
     }
 
+    /*
+     * 배치 INSERT 용 거래 행 (상대 계좌는 식별자만, 이벤트 저장 모드가 아니면 순번은 비어 있다.)
+     */
+    public AccountTransactionJdbcRepository.Row mapRow(AccountTransaction transaction, Long eventSequence) {
+        Class<? extends AccountTransactionEntity> type = WithdrawalTransactionEntity.class;
+        UUID senderAccountId = null;
+        UUID receiverAccountId = null;
+        BigDecimal transferFee = null;
+
+        if (transaction instanceof DepositTransaction) {
+            type = DepositTransactionEntity.class;
+        } else if (transaction instanceof ReceiveTransaction receiveTransaction) {
+            type = ReceiveTransactionEntity.class;
+            senderAccountId = receiveTransaction.getSenderAccountId().getValue();
+        } else if (transaction instanceof TransferTransaction transferTransaction) {
+            type = TransferTransactionEntity.class;
+            receiverAccountId = transferTransaction.getReceiverAccountId().getValue();
+            transferFee = transferTransaction.getTransferFee().amount();
+        }
+
+        return new AccountTransactionJdbcRepository.Row(
+                type,
+                transaction.getId().getValue(),
+                transaction.getAccountId().getValue(),
+                transaction.getBalance().amount(),
+                transaction.getAmount().amount(),
+                transaction.getTransactionAt(),
+                senderAccountId,
+                receiverAccountId,
+                transferFee,
+                eventSequence,
+                transaction.getJournalEntryId().getValue()
+        );
+    }
+
     public Account map(AccountEntity accountEntity) {
         return Account.builder()
                 .id(AccountId.of(accountEntity.getId()))
@@ -66,15 +112,98 @@ public class AccountEntityMapper {
                 .accountHolderName(accountEntity.getAccountHolderName())
                 .balance(Money.of(accountEntity.getBalance()))
                 .status(accountEntity.getStatus())
+                .accountClass(accountEntity.getAccountClass())
                 .withdrawLimitAmount(Money.of(accountEntity.getWithdrawLimitAmount()))
                 .transferLimitAmount(Money.of(accountEntity.getTransferLimitAmount()))
                 .transferFeeRate(FeeRate.of(accountEntity.getTransferFeeRate()))
                 .createdAt(accountEntity.getCreatedAt())
                 .destroyedAt(accountEntity.getDestroyedAt())
+                .dailyLimitUsage(mapDailyLimitUsage(accountEntity))
+                .balanceShardCount(accountEntity.getBalanceShardCount())
                 .transactions(accountEntity.getTransactions().stream().map(this::map).toList())
                 .build();
     }
 
+    /*
+     * 쓰기 모델: 잔액/한도/상태만 담고 거래 내역은 불러오지 않는다. (이후 발생한 거래만 누적된다.)
+     */
+    public Account mapWriteModel(AccountEntity accountEntity) {
+        return Account.builder()
+                .id(AccountId.of(accountEntity.getId()))
+                .accountNumber(AccountNumber.of(accountEntity.getAccountNumber()))
+                .accountHolderName(accountEntity.getAccountHolderName())
+                .balance(Money.of(accountEntity.getBalance()))
+                .status(accountEntity.getStatus())
+                .accountClass(accountEntity.getAccountClass())
+                .withdrawLimitAmount(Money.of(accountEntity.getWithdrawLimitAmount()))
+                .transferLimitAmount(Money.of(accountEntity.getTransferLimitAmount()))
+                .transferFeeRate(FeeRate.of(accountEntity.getTransferFeeRate()))
+                .createdAt(accountEntity.getCreatedAt())
+                .destroyedAt(accountEntity.getDestroyedAt())
+                .dailyLimitUsage(mapDailyLimitUsage(accountEntity))
+                .balanceShardCount(accountEntity.getBalanceShardCount())
+                .build();
+    }
+
+    /*
+     * 이벤트 저장 모드의 쓰기 모델: 잔액/한도 사용량은 스냅샷 + 이후 거래로 복원한 값을 쓴다.
+     * (수취도 이벤트로 추가하므로 잔액 분산은 적용하지 않는다.)
+     */
+    public Account mapEventSourcedModel(AccountEntity accountEntity, AccountSnapshot snapshot) {
+        return Account.builder()
+                .id(AccountId.of(accountEntity.getId()))
+                .accountNumber(AccountNumber.of(accountEntity.getAccountNumber()))
+                .accountHolderName(accountEntity.getAccountHolderName())
+                .balance(snapshot.balance())
+                .status(accountEntity.getStatus())
+                .accountClass(accountEntity.getAccountClass())
+                .withdrawLimitAmount(Money.of(accountEntity.getWithdrawLimitAmount()))
+                .transferLimitAmount(Money.of(accountEntity.getTransferLimitAmount()))
+                .transferFeeRate(FeeRate.of(accountEntity.getTransferFeeRate()))
+                .createdAt(accountEntity.getCreatedAt())
+                .destroyedAt(accountEntity.getDestroyedAt())
+                .dailyLimitUsage(snapshot.dailyLimitUsage())
+                .balanceShardCount(0)
+                .eventSequence(snapshot.eventSequence())
+                .build();
+    }
+
+    public AccountSnapshot map(AccountSnapshotEntity snapshotEntity) {
+        return new AccountSnapshot(
+                snapshotEntity.getEventSequence(),
+                Money.of(snapshotEntity.getBalance()),
+                new DailyLimitUsage(
+                        snapshotEntity.getDailyUsageDate(),
+                        Optional.ofNullable(snapshotEntity.getDailyWithdrawalAmount()).map(Money::of).orElse(Money.ZERO),
+                        Optional.ofNullable(snapshotEntity.getDailyTransferAmount()).map(Money::of).orElse(Money.ZERO)
+                )
+        );
+    }
+
+    public AccountSnapshotEntity mapSnapshot(Account account) {
+        return AccountSnapshotEntity.builder()
+                .accountId(account.getId().getValue())
+                .eventSequence(account.getEventSequence())
+                .balance(account.getBalance().amount())
+                .dailyUsageDate(account.getDailyLimitUsage().usageDate())
+                .dailyWithdrawalAmount(account.getDailyLimitUsage().withdrawalAmount().amount())
+                .dailyTransferAmount(account.getDailyLimitUsage().transferAmount().amount())
+                .createdAt(ZonedDateTime.now())
+                .build();
+    }
+
+    public DailyLimitUsage mapDailyLimitUsage(AccountEntity accountEntity) {
+        if (accountEntity.getDailyUsageDate() == null) {
+            return null;
+        }
+
+        return new DailyLimitUsage(
+                accountEntity.getDailyUsageDate(),
+                Optional.ofNullable(accountEntity.getDailyWithdrawalAmount()).map(Money::of).orElse(Money.ZERO),
+                Optional.ofNullable(accountEntity.getDailyTransferAmount()).map(Money::of).orElse(Money.ZERO)
+        );
+    }
+
     public AccountTransaction map(AccountTransactionEntity transactionEntity) {
         if (transactionEntity instanceof DepositTransactionEntity) {
             return DepositTransaction.builder()
@@ -87,6 +216,10 @@ public class AccountEntityMapper {
             return ReceiveTransaction.builder()
                     .id(AccountTransactionId.of(transactionEntity.getId()))
                     .senderAccountId(AccountId.of(((ReceiveTransactionEntity) transactionEntity).getSenderAccount().getId()))
+                    .transferTransactionId(Optional.ofNullable(transactionEntity.getJournalEntryId())
+                            .filter(journalEntryId -> ! journalEntryId.equals(transactionEntity.getId()))
+                            .map(AccountTransactionId::of)
+                            .orElse(null))
                     .balance(Money.of(transactionEntity.getBalance()))
                     .amount(Money.of(transactionEntity.getAmount()))
                     .transactionAt(transactionEntity.getTransactionAt())
@@ -95,6 +228,7 @@ public class AccountEntityMapper {
             return TransferTransaction.builder()
                     .id(AccountTransactionId.of(transactionEntity.getId()))
                     .receiverAccountId(AccountId.of(((TransferTransactionEntity) transactionEntity).getReceiverAccount().getId()))
+                    .transferFee(Optional.ofNullable(((TransferTransactionEntity) transactionEntity).getTransferFee()).map(Money::of).orElse(Money.ZERO))
                     .balance(Money.of(transactionEntity.getBalance()))
                     .amount(Money.of(transactionEntity.getAmount()))
                     .transactionAt(transactionEntity.getTransactionAt())
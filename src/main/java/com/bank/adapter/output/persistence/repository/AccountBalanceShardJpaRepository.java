@@ -0,0 +1,45 @@
+package com.bank.adapter.output.persistence.repository;
+
+import com.bank.adapter.output.persistence.entity.AccountBalanceShardEntity;
+import com.bank.adapter.output.persistence.repository.projection.BalanceShardProjection;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+public interface AccountBalanceShardJpaRepository extends JpaRepository<AccountBalanceShardEntity, UUID> {
+
+    /*
+     * 분산 행 하나에만 금액을 더한다. (계좌 행은 잠그지 않음, 갱신된 행 수 반환)
+     */
+    @Modifying
+    @Query(value = """
+                UPDATE AccountBalanceShardEntity s
+                SET s.amount = s.amount + cast(:amount as BigDecimal(38, 2))
+                WHERE s.accountId = :accountId
+                AND s.shardIndex = :shardIndex
+            """)
+    int increaseAmount(UUID accountId, int shardIndex, BigDecimal amount);
+
+    /*
+     * 통합 시 읽은 금액만큼만 차감한다. (통합 도중 적재된 금액은 분산 행에 남는다.)
+     */
+    @Modifying
+    @Query(value = """
+                UPDATE AccountBalanceShardEntity s
+                SET s.amount = s.amount - cast(:amount as BigDecimal(38, 2))
+                WHERE s.id = :id
+            """)
+    int decreaseAmount(UUID id, BigDecimal amount);
+
+    @Query(value = """
+                SELECT new com.bank.adapter.output.persistence.repository.projection.BalanceShardProjection(s.id, s.amount)
+                FROM AccountBalanceShardEntity s
+                WHERE s.accountId = :accountId
+                AND s.amount <> 0
+            """)
+    List<BalanceShardProjection> findAllPendingByAccountId(UUID accountId);
+}
@@ -0,0 +1,108 @@
+package com.bank.adapter.output.persistence.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/*
+ * 계좌 이벤트 아웃박스 JDBC 저장소: 순번은 IDENTITY 로 매기므로 JPA(IDENTITY 는 배치 불가) 대신 JDBC 배치로 추가한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AccountEventOutboxJdbcRepository {
+
+    private static final int BATCH_SIZE = 100;
+    private static final String RELAY_ID = "account-event";
+
+    private static final String INSERT_SQL = """
+                INSERT INTO account_event_outbox (
+                    event_type, account_number, transaction_id, journal_entry_id, amount, balance,
+                    transfer_fee, counterparty_account_number, occurred_at, created_at
+                )
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final RowMapper<Row> ROW_MAPPER = (rs, rowNum) -> new Row(
+            rs.getLong("id"),
+            rs.getString("event_type"),
+            rs.getString("account_number"),
+            rs.getObject("transaction_id", UUID.class),
+            rs.getObject("journal_entry_id", UUID.class),
+            rs.getBigDecimal("amount"),
+            rs.getBigDecimal("balance"),
+            rs.getBigDecimal("transfer_fee"),
+            rs.getString("counterparty_account_number"),
+            rs.getObject("occurred_at", OffsetDateTime.class).toZonedDateTime(),
+            rs.getObject("created_at", OffsetDateTime.class).toZonedDateTime()
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertAll(List<Row> rows) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows, BATCH_SIZE, (ps, row) -> {
+            ps.setString(1, row.eventType());
+            ps.setString(2, row.accountNumber());
+            ps.setObject(3, row.transactionId());
+            ps.setObject(4, row.journalEntryId());
+            ps.setBigDecimal(5, row.amount());
+            ps.setBigDecimal(6, row.balance());
+            ps.setBigDecimal(7, row.transferFee());
+            ps.setString(8, row.counterpartyAccountNumber());
+            ps.setObject(9, row.occurredAt().toOffsetDateTime());
+            ps.setObject(10, row.createdAt().toOffsetDateTime());
+        });
+    }
+
+    /*
+     * 전달 대기 중인 이벤트를 순번 순으로 limit 건 읽는다. (늦게 커밋된 낮은 순번도 다음 묶음에 포함된다.)
+     */
+    public List<Row> findAllPending(int limit) {
+        return jdbcTemplate.query("""
+                    SELECT *
+                    FROM account_event_outbox
+                    ORDER BY id ASC
+                    LIMIT ?
+                """, ROW_MAPPER, limit);
+    }
+
+    public void deleteAll(List<Long> sequences) {
+        jdbcTemplate.batchUpdate("DELETE FROM account_event_outbox WHERE id = ?", sequences, BATCH_SIZE, (ps, sequence) -> ps.setLong(1, sequence));
+    }
+
+    /*
+     * 릴레이 잠금 행을 잠근다. (트랜잭션이 끝날 때까지 다른 릴레이는 대기)
+     */
+    public void lockRelay() {
+        jdbcTemplate.queryForObject("""
+                    SELECT id
+                    FROM account_event_relay_lock
+                    WHERE id = ?
+                    FOR UPDATE
+                """, String.class, RELAY_ID);
+    }
+
+    /*
+     * 아웃박스 행 (sequence 는 추가 시 DB 가 매긴다.)
+     */
+    public record Row(
+            long sequence,
+            String eventType,
+            String accountNumber,
+            UUID transactionId,
+            UUID journalEntryId,
+            BigDecimal amount,
+            BigDecimal balance,
+            BigDecimal transferFee,
+            String counterpartyAccountNumber,
+            ZonedDateTime occurredAt,
+            ZonedDateTime createdAt
+    ) {
+    }
+}
@@ -1,14 +1,152 @@
 package com.bank.adapter.output.persistence.repository;
 
 import com.bank.adapter.output.persistence.entity.AccountEntity;
+import com.bank.adapter.output.persistence.repository.projection.AccountBalanceProjection;
+import com.bank.adapter.output.persistence.repository.projection.AccountSummaryProjection;
+import com.bank.domain.account.entity.AccountStatus;
 import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface AccountJpaRepository extends JpaRepository<AccountEntity, UUID> {
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     Optional<AccountEntity> findByAccountNumber(String accountNumber);
+
+    /*
+     * 여러 계좌를 한 문장으로 잠근다. 항상 계좌번호(유니크 인덱스) 순서로 잠그므로 교차 이체 간 교착 상태가 발생하지 않는다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<AccountEntity> findAllByAccountNumberInOrderByAccountNumberAsc(Collection<String> accountNumbers);
+
+    /*
+     * 이체 대상 계좌를 한 문장으로 잠근다. 단, 입금만 받는 잔액 분산 계좌는 잠그지 않는다. (계좌번호 순)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query(value = """
+                SELECT a
+                FROM AccountEntity a
+                WHERE a.accountNumber IN :accountNumbers
+                AND (a.balanceShardCount = 0 OR a.accountNumber IN :debitAccountNumbers)
+                ORDER BY a.accountNumber ASC
+            """)
+    List<AccountEntity> findAllForTransferExceptStripedCreditAccounts(Collection<String> accountNumbers, Collection<String> debitAccountNumbers);
+
+    @Query(value = """
+                SELECT a.accountNumber
+                FROM AccountEntity a
+                WHERE a.balanceShardCount > 0
+                ORDER BY a.accountNumber ASC
+            """)
+    List<String> findAllBalanceStripedAccountNumbers();
+
+    /*
+     * 잠금 없는 조회 (낙관적 동시성 모드: 갱신 시 @Version 으로 충돌 검사)
+     */
+    @Query(value = """
+                SELECT a
+                FROM AccountEntity a
+                WHERE a.accountNumber = :accountNumber
+            """)
+    Optional<AccountEntity> findByAccountNumberWithoutLock(String accountNumber);
+
+    @Query(value = """
+                SELECT a
+                FROM AccountEntity a
+                WHERE a.accountNumber IN :accountNumbers
+                ORDER BY a.accountNumber ASC
+            """)
+    List<AccountEntity> findAllByAccountNumberInWithoutLock(Collection<String> accountNumbers);
+
+    /*
+     * 조건부 단일 UPDATE 입금: 활성 계좌인 경우에만 잔액을 증가시킨다. (갱신된 행 수 반환)
+     * 산술식의 파라미터는 컬럼 정밀도로 명시 캐스팅한다. (H2 는 타입 없는 파라미터 연산을 거부함)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+                UPDATE AccountEntity a
+                SET a.balance = a.balance + cast(:amount as BigDecimal(38, 2)),
+                    a.version = a.version + 1
+                WHERE a.accountNumber = :accountNumber
+                AND a.status = :status
+            """)
+    int increaseBalance(String accountNumber, BigDecimal amount, AccountStatus status);
+
+    /*
+     * 조건부 단일 UPDATE 출금: 활성 계좌이고 잔액과 일일 출금 한도가 충분한 경우에만 잔액을 감소시키고 사용량을 누적한다.
+     * (일일 한도 사용량이 집계되지 않은 계좌는 대상에서 제외)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+                UPDATE AccountEntity a
+                SET a.balance = a.balance - cast(:amount as BigDecimal(38, 2)),
+                    a.dailyWithdrawalAmount = CASE WHEN a.dailyUsageDate = :today THEN a.dailyWithdrawalAmount + cast(:amount as BigDecimal(38, 2)) ELSE :amount END,
+                    a.dailyTransferAmount = CASE WHEN a.dailyUsageDate = :today THEN a.dailyTransferAmount ELSE :zero END,
+                    a.dailyUsageDate = :today,
+                    a.version = a.version + 1
+                WHERE a.accountNumber = :accountNumber
+                AND a.status = :status
+                AND a.balance >= :amount
+                AND a.dailyUsageDate IS NOT NULL
+                AND (CASE WHEN a.dailyUsageDate = :today THEN a.dailyWithdrawalAmount ELSE cast(:zero as BigDecimal(38, 2)) END) + cast(:amount as BigDecimal(38, 2)) <= a.withdrawLimitAmount
+            """)
+    int decreaseBalanceWithinWithdrawLimit(String accountNumber, BigDecimal amount, AccountStatus status, LocalDate today, BigDecimal zero);
+
+    @Query(value = """
+                SELECT new com.bank.adapter.output.persistence.repository.projection.AccountBalanceProjection(a.id, a.balance)
+                FROM AccountEntity a
+                WHERE a.accountNumber = :accountNumber
+            """)
+    Optional<AccountBalanceProjection> findBalanceByAccountNumber(String accountNumber);
+
+    /*
+     * 계좌 요약 조회: 잠금 없이 잔액/거래 내역을 제외한 값만 읽는다.
+     */
+    @Query(value = """
+                SELECT new com.bank.adapter.output.persistence.repository.projection.AccountSummaryProjection(
+                    a.id, a.accountNumber, a.status, a.withdrawLimitAmount, a.transferLimitAmount, a.transferFeeRate
+                )
+                FROM AccountEntity a
+                WHERE a.accountNumber = :accountNumber
+            """)
+    Optional<AccountSummaryProjection> findSummaryByAccountNumber(String accountNumber);
+
+    /*
+     * 계좌번호 순번 블록 임대 (DB 시퀀스)
+     */
+    @Query(value = "SELECT NEXT VALUE FOR account_number_block_seq", nativeQuery = true)
+    long nextAccountNumberBlock();
+
+    /*
+     * 장부 대사: 전체 계좌 잔액 합계
+     * 스냅샷이 없는 계좌는 계좌 행 + 잔액 분산 행, 스냅샷이 있는 계좌(이벤트 저장 모드)는 스냅샷 + 이후 거래로 계산한다.
+     */
+    @Query(value = """
+                SELECT (
+                    SELECT COALESCE(SUM(a.balance), 0)
+                    FROM account a
+                    WHERE NOT EXISTS (SELECT 1 FROM account_snapshot s WHERE s.id = a.id)
+                ) + (
+                    SELECT COALESCE(SUM(b.amount), 0)
+                    FROM account_balance_shard b
+                    WHERE NOT EXISTS (SELECT 1 FROM account_snapshot s WHERE s.id = b.account_id)
+                ) + (
+                    SELECT COALESCE(SUM(s.balance), 0)
+                    FROM account_snapshot s
+                ) + (
+                    SELECT COALESCE(SUM(CASE WHEN t.dtype IN (0, 1) THEN t.amount ELSE -(t.amount + COALESCE(t.transfer_fee, 0)) END), 0)
+                    FROM account_transaction t
+                    JOIN account_snapshot s ON s.id = t.account_id
+                    WHERE t.event_sequence > s.event_sequence
+                )
+            """, nativeQuery = true)
+    BigDecimal sumAccountBalance();
 }
@@ -0,0 +1,28 @@
+package com.bank.adapter.output.persistence.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/*
+ * 계좌번호 순번 블록 크기 JDBC 저장소 (처음 기록한 크기를 유지한다.)
+ */
+@Repository
+@RequiredArgsConstructor
+public class AccountNumberBlockSizeJdbcRepository {
+
+    private static final String BLOCK_SIZE_ID = "account-number";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public int register(int blockSize) {
+        try {
+            jdbcTemplate.update("INSERT INTO account_number_block_size (id, block_size) VALUES (?, ?)", BLOCK_SIZE_ID, blockSize);
+        } catch (DuplicateKeyException e) {
+            // 이미 기록된 크기(다른 인스턴스가 먼저 기록한 경우 포함)를 그대로 사용한다.
+        }
+
+        return jdbcTemplate.queryForObject("SELECT block_size FROM account_number_block_size WHERE id = ?", Integer.class, BLOCK_SIZE_ID);
+    }
+}
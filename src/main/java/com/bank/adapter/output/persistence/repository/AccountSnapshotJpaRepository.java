@@ -0,0 +1,9 @@
+package com.bank.adapter.output.persistence.repository;
+
+import com.bank.adapter.output.persistence.entity.AccountSnapshotEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.UUID;
+
+public interface AccountSnapshotJpaRepository extends JpaRepository<AccountSnapshotEntity, UUID> {
+}
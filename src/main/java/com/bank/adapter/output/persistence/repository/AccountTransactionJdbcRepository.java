@@ -0,0 +1,87 @@
+package com.bank.adapter.output.persistence.repository;
+
+import com.bank.adapter.output.persistence.entity.AccountTransactionEntity;
+import com.bank.adapter.output.persistence.entity.DepositTransactionEntity;
+import com.bank.adapter.output.persistence.entity.ReceiveTransactionEntity;
+import com.bank.adapter.output.persistence.entity.TransferTransactionEntity;
+import com.bank.adapter.output.persistence.entity.WithdrawalTransactionEntity;
+import jakarta.persistence.DiscriminatorValue;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/*
+ * 거래 추가 전용 JDBC 저장소: 유형(dtype)과 무관하게 같은 INSERT 문장을 쓰므로 분개의 모든 다리가 한 번의 배치로 추가된다.
+ * (JPA 는 하위 엔티티별로 문장이 달라 송금/수취가 각각의 배치로 나뉜다.)
+ */
+@Repository
+@RequiredArgsConstructor
+public class AccountTransactionJdbcRepository {
+
+    private static final int BATCH_SIZE = 100;
+
+    private static final String INSERT_SQL = """
+                INSERT INTO account_transaction (
+                    dtype, id, account_id, balance, amount, transaction_at,
+                    sender_account_id, receiver_account_id, transfer_fee, event_sequence, journal_entry_id
+                )
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    // 엔티티의 @DiscriminatorValue 와 같은 값을 쓴다.
+    private static final Map<Class<? extends AccountTransactionEntity>, Integer> DISCRIMINATORS = Stream.of(
+                    DepositTransactionEntity.class,
+                    ReceiveTransactionEntity.class,
+                    TransferTransactionEntity.class,
+                    WithdrawalTransactionEntity.class
+            )
+            .collect(Collectors.toUnmodifiableMap(
+                    Function.identity(),
+                    type -> Integer.valueOf(type.getAnnotation(DiscriminatorValue.class).value())
+            ));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertAll(List<Row> rows) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows, BATCH_SIZE, (ps, row) -> {
+            ps.setInt(1, DISCRIMINATORS.get(row.type()));
+            ps.setObject(2, row.id());
+            ps.setObject(3, row.accountId());
+            ps.setBigDecimal(4, row.balance());
+            ps.setBigDecimal(5, row.amount());
+            ps.setObject(6, row.transactionAt().toOffsetDateTime());
+            ps.setObject(7, row.senderAccountId());
+            ps.setObject(8, row.receiverAccountId());
+            ps.setBigDecimal(9, row.transferFee());
+            ps.setObject(10, row.eventSequence());
+            ps.setObject(11, row.journalEntryId());
+        });
+    }
+
+    /*
+     * 분개의 다리 하나 (거래 행)
+     */
+    public record Row(
+            Class<? extends AccountTransactionEntity> type,
+            UUID id,
+            UUID accountId,
+            BigDecimal balance,
+            BigDecimal amount,
+            ZonedDateTime transactionAt,
+            UUID senderAccountId,
+            UUID receiverAccountId,
+            BigDecimal transferFee,
+            Long eventSequence,
+            UUID journalEntryId
+    ) {
+    }
+}
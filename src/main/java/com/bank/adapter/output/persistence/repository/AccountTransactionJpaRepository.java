@@ -1,19 +1,202 @@
 package com.bank.adapter.output.persistence.repository;
 
 import com.bank.adapter.output.persistence.entity.AccountTransactionEntity;
+import com.bank.adapter.output.persistence.repository.projection.AccountStatementProjection;
+import com.bank.adapter.output.persistence.repository.projection.AccountTransactionHistoryProjection;
+import com.bank.application.port.input.dto.AccountTransactionRetrieveResponse;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import java.math.BigDecimal;
+import java.time.ZonedDateTime;
+import java.util.List;
 import java.util.UUID;
 
 public interface AccountTransactionJpaRepository extends JpaRepository<AccountTransactionEntity, UUID> {
+    /*
+     * 송금/수취 내역 조회 모델: 송금은 (보유 계좌 -> 수취 계좌), 수취는 (송금 계좌 -> 보유 계좌).
+     * 상대 계좌는 유형별 연관관계를 LEFT JOIN 해 한 번에 읽고, 응답 DTO 를 바로 생성한다. (페이지 크기와 무관하게 조회 + 건수 2회)
+     */
     @Query(value = """
-                SELECT a
+                SELECT new com.bank.application.port.input.dto.AccountTransactionRetrieveResponse$Transaction(
+                    COALESCE(sender.accountNumber, owner.accountNumber),
+                    COALESCE(receiver.accountNumber, owner.accountNumber),
+                    a.amount,
+                    a.transactionAt
+                )
+                FROM AccountTransactionEntity a
+                JOIN a.account owner
+                LEFT JOIN TREAT(a AS TransferTransactionEntity).receiverAccount receiver
+                LEFT JOIN TREAT(a AS ReceiveTransactionEntity).senderAccount sender
+                WHERE a.account.id = :accountId
+                AND (TYPE(a) = TransferTransactionEntity OR TYPE(a) = ReceiveTransactionEntity)
+                ORDER BY a.transactionAt DESC, a.id DESC
+            """,
+            countQuery = """
+                SELECT COUNT(a)
+                FROM AccountTransactionEntity a
+                WHERE a.account.id = :accountId
+                AND (TYPE(a) = TransferTransactionEntity OR TYPE(a) = ReceiveTransactionEntity)
+            """)
+    Page<AccountTransactionRetrieveResponse.Transaction> findAllTransferOrReceiveHistoryByAccountId(UUID accountId, Pageable pageable);
+
+    /*
+     * 키셋 페이지네이션: OFFSET/COUNT 없이 (transactionAt, id) 순으로 size + 1 건만 읽는다. (다음 커서를 위해 식별자 포함)
+     */
+    @Query(value = """
+                SELECT new com.bank.adapter.output.persistence.repository.projection.AccountTransactionHistoryProjection(
+                    a.id,
+                    COALESCE(sender.accountNumber, owner.accountNumber),
+                    COALESCE(receiver.accountNumber, owner.accountNumber),
+                    a.amount,
+                    a.transactionAt
+                )
+                FROM AccountTransactionEntity a
+                JOIN a.account owner
+                LEFT JOIN TREAT(a AS TransferTransactionEntity).receiverAccount receiver
+                LEFT JOIN TREAT(a AS ReceiveTransactionEntity).senderAccount sender
+                WHERE a.account.id = :accountId
+                AND (TYPE(a) = TransferTransactionEntity OR TYPE(a) = ReceiveTransactionEntity)
+                ORDER BY a.transactionAt DESC, a.id DESC
+            """)
+    Slice<AccountTransactionHistoryProjection> findFirstTransferOrReceiveHistorySliceByAccountId(UUID accountId, Pageable pageable);
+
+    @Query(value = """
+                SELECT new com.bank.adapter.output.persistence.repository.projection.AccountTransactionHistoryProjection(
+                    a.id,
+                    COALESCE(sender.accountNumber, owner.accountNumber),
+                    COALESCE(receiver.accountNumber, owner.accountNumber),
+                    a.amount,
+                    a.transactionAt
+                )
                 FROM AccountTransactionEntity a
+                JOIN a.account owner
+                LEFT JOIN TREAT(a AS TransferTransactionEntity).receiverAccount receiver
+                LEFT JOIN TREAT(a AS ReceiveTransactionEntity).senderAccount sender
                 WHERE a.account.id = :accountId
                 AND (TYPE(a) = TransferTransactionEntity OR TYPE(a) = ReceiveTransactionEntity)
+                AND (a.transactionAt < :cursorTransactionAt OR (a.transactionAt = :cursorTransactionAt AND a.id < :cursorId))
+                ORDER BY a.transactionAt DESC, a.id DESC
+            """)
+    Slice<AccountTransactionHistoryProjection> findTransferOrReceiveHistorySliceByAccountIdAfter(UUID accountId, ZonedDateTime cursorTransactionAt, UUID cursorId, Pageable pageable);
+
+    /*
+     * 거래명세 내보내기: 전체 거래를 (거래 일시, 식별자) 키셋으로 시간순 한 페이지씩 읽는다. (페이지마다 짧은 트랜잭션)
+     */
+    @Query(value = """
+                SELECT new com.bank.adapter.output.persistence.repository.projection.AccountStatementProjection(
+                    a.id,
+                    CASE
+                        WHEN TYPE(a) = DepositTransactionEntity THEN 'DEPOSIT'
+                        WHEN TYPE(a) = ReceiveTransactionEntity THEN 'RECEIVE'
+                        WHEN TYPE(a) = TransferTransactionEntity THEN 'TRANSFER'
+                        ELSE 'WITHDRAWAL'
+                    END,
+                    COALESCE(receiver.accountNumber, sender.accountNumber),
+                    a.amount,
+                    TREAT(a AS TransferTransactionEntity).transferFee,
+                    a.balance,
+                    a.transactionAt
+                )
+                FROM AccountTransactionEntity a
+                LEFT JOIN TREAT(a AS TransferTransactionEntity).receiverAccount receiver
+                LEFT JOIN TREAT(a AS ReceiveTransactionEntity).senderAccount sender
+                WHERE a.account.id = :accountId
+                ORDER BY a.transactionAt ASC, a.id ASC
+            """)
+    Slice<AccountStatementProjection> findFirstStatementSliceByAccountId(UUID accountId, Pageable pageable);
+
+    @Query(value = """
+                SELECT new com.bank.adapter.output.persistence.repository.projection.AccountStatementProjection(
+                    a.id,
+                    CASE
+                        WHEN TYPE(a) = DepositTransactionEntity THEN 'DEPOSIT'
+                        WHEN TYPE(a) = ReceiveTransactionEntity THEN 'RECEIVE'
+                        WHEN TYPE(a) = TransferTransactionEntity THEN 'TRANSFER'
+                        ELSE 'WITHDRAWAL'
+                    END,
+                    COALESCE(receiver.accountNumber, sender.accountNumber),
+                    a.amount,
+                    TREAT(a AS TransferTransactionEntity).transferFee,
+                    a.balance,
+                    a.transactionAt
+                )
+                FROM AccountTransactionEntity a
+                LEFT JOIN TREAT(a AS TransferTransactionEntity).receiverAccount receiver
+                LEFT JOIN TREAT(a AS ReceiveTransactionEntity).senderAccount sender
+                WHERE a.account.id = :accountId
+                AND (a.transactionAt > :cursorTransactionAt OR (a.transactionAt = :cursorTransactionAt AND a.id > :cursorId))
+                ORDER BY a.transactionAt ASC, a.id ASC
+            """)
+    Slice<AccountStatementProjection> findStatementSliceByAccountIdAfter(UUID accountId, ZonedDateTime cursorTransactionAt, UUID cursorId, Pageable pageable);
+
+    @Query(value = """
+                SELECT COALESCE(SUM(a.amount), 0)
+                FROM AccountTransactionEntity a
+                WHERE a.account.id = :accountId
+                AND TYPE(a) = WithdrawalTransactionEntity
+                AND a.transactionAt >= :since
+            """)
+    BigDecimal sumWithdrawalAmountByAccountIdSince(UUID accountId, ZonedDateTime since);
+
+    @Query(value = """
+                SELECT COALESCE(SUM(a.amount), 0)
+                FROM AccountTransactionEntity a
+                WHERE a.account.id = :accountId
+                AND TYPE(a) = TransferTransactionEntity
+                AND a.transactionAt >= :since
             """)
-    Page<AccountTransactionEntity> findAllTransferOrReceiveTransactionByAccountId(UUID accountId, Pageable pageable);
+    BigDecimal sumTransferAmountByAccountIdSince(UUID accountId, ZonedDateTime since);
+
+    /*
+     * 이벤트 저장 모드: 스냅샷 순번 이후의 거래를 순번 순으로 읽는다. (계좌 복원용, 영속성 컨텍스트에서 변경 추적하지 않음)
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query(value = """
+                SELECT a
+                FROM AccountTransactionEntity a
+                WHERE a.account.id = :accountId
+                AND a.eventSequence > :eventSequence
+                ORDER BY a.eventSequence ASC
+            """)
+    List<AccountTransactionEntity> findAllByAccountIdAndEventSequenceAfter(UUID accountId, long eventSequence);
+
+    /*
+     * 장부 대사: 전체 거래(분개 다리)의 부호 있는 합계 (dtype 0 입금, 1 수취는 더하고 2 송금, 3 출금은 수수료까지 뺀다.)
+     */
+    @Query(value = """
+                SELECT COALESCE(SUM(CASE WHEN t.dtype IN (0, 1) THEN t.amount ELSE -(t.amount + COALESCE(t.transfer_fee, 0)) END), 0)
+                FROM account_transaction t
+            """, nativeQuery = true)
+    BigDecimal sumLedgerBalance();
+
+    @Query(value = """
+                SELECT COALESCE(SUM(t.transfer_fee), 0)
+                FROM account_transaction t
+                WHERE t.dtype = 2
+            """, nativeQuery = true)
+    BigDecimal sumTransferFee();
+
+    /*
+     * 송금(2)/수취(1) 다리가 한 쌍이 아니거나 금액이 맞지 않는 이체 분개 수 (분개 식별자 인덱스만 읽는다.)
+     */
+    @Query(value = """
+                SELECT COUNT(*)
+                FROM (
+                    SELECT t.journal_entry_id
+                    FROM account_transaction t
+                    WHERE t.journal_entry_id IS NOT NULL
+                    AND t.dtype IN (1, 2)
+                    GROUP BY t.journal_entry_id
+                    HAVING COUNT(*) <> 2
+                    OR SUM(CASE WHEN t.dtype = 1 THEN t.amount ELSE -t.amount END) <> 0
+                ) unbalanced
+            """, nativeQuery = true)
+    long countUnbalancedJournalEntries();
 }
@@ -0,0 +1,18 @@
+package com.bank.adapter.output.persistence.repository;
+
+import com.bank.adapter.output.persistence.entity.IdempotencyRecordEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.ZonedDateTime;
+
+public interface IdempotencyRecordJpaRepository extends JpaRepository<IdempotencyRecordEntity, String> {
+
+    @Modifying
+    @Query(value = """
+                DELETE FROM IdempotencyRecordEntity r
+                WHERE r.createdAt < :createdAt
+            """)
+    int deleteAllCreatedBefore(ZonedDateTime createdAt);
+}
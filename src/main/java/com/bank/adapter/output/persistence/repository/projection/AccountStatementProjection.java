@@ -0,0 +1,19 @@
+package com.bank.adapter.output.persistence.repository.projection;
+
+import java.math.BigDecimal;
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+/*
+ * 거래명세 조회 모델: 키셋 커서용 식별자와 명세 한 줄의 값만 읽는다.
+ */
+public record AccountStatementProjection(
+        UUID id,
+        String type,
+        String counterpartyAccountNumber,
+        BigDecimal amount,
+        BigDecimal transferFee,
+        BigDecimal balance,
+        ZonedDateTime transactionAt
+) {
+}
@@ -0,0 +1,16 @@
+package com.bank.adapter.output.persistence.repository.projection;
+
+import com.bank.domain.account.entity.AccountStatus;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public record AccountSummaryProjection(
+        UUID id,
+        String accountNumber,
+        AccountStatus status,
+        BigDecimal withdrawLimitAmount,
+        BigDecimal transferLimitAmount,
+        BigDecimal transferFeeRate
+) {
+}
@@ -0,0 +1,17 @@
+package com.bank.adapter.output.persistence.repository.projection;
+
+import java.math.BigDecimal;
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+/*
+ * 송금/수취 내역 조회 모델: 엔티티/잠금 없이 계좌번호, 금액, 일시만 읽는다.
+ */
+public record AccountTransactionHistoryProjection(
+        UUID id,
+        String senderAccountNumber,
+        String receiverAccountNumber,
+        BigDecimal amount,
+        ZonedDateTime transactionAt
+) {
+}
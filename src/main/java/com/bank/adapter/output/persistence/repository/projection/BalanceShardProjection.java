@@ -0,0 +1,10 @@
+package com.bank.adapter.output.persistence.repository.projection;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public record BalanceShardProjection(
+        UUID id,
+        BigDecimal amount
+) {
+}
@@ -0,0 +1,11 @@
+package com.bank.application.exception;
+
+public class IdempotencyKeyConflictException extends RuntimeException {
+    public IdempotencyKeyConflictException(String message) {
+        super(message);
+    }
+
+    public IdempotencyKeyConflictException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
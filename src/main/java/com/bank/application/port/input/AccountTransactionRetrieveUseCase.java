@@ -2,7 +2,14 @@ package com.bank.application.port.input;
 
 import com.bank.application.port.input.dto.AccountTransactionRetrieveCommand;
 import com.bank.application.port.input.dto.AccountTransactionRetrieveResponse;
+import com.bank.application.port.input.dto.AccountTransactionSliceRetrieveCommand;
+import com.bank.application.port.input.dto.AccountTransactionSliceRetrieveResponse;
 
 public interface AccountTransactionRetrieveUseCase {
     AccountTransactionRetrieveResponse retrieveAccountTransactions(AccountTransactionRetrieveCommand command);
+
+    /*
+     * 커서 기반 조회: 전체 건수를 세지 않고, 커서 이후의 거래만 조회한다.
+     */
+    AccountTransactionSliceRetrieveResponse retrieveAccountTransactionSlice(AccountTransactionSliceRetrieveCommand command);
 }
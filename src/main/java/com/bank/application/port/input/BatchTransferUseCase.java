@@ -0,0 +1,8 @@
+package com.bank.application.port.input;
+
+import com.bank.application.port.input.dto.BatchTransferCommand;
+import com.bank.application.port.input.dto.BatchTransferResponse;
+
+public interface BatchTransferUseCase {
+    BatchTransferResponse batchTransfer(BatchTransferCommand command);
+}
@@ -0,0 +1,8 @@
+package com.bank.application.port.input;
+
+public interface ConsolidateBalanceShardsUseCase {
+    /*
+     * 통합한 계좌 수를 반환한다. (잠그지 못한 계좌는 다음 주기로 넘긴다.)
+     */
+    int consolidateBalanceShards();
+}
@@ -0,0 +1,8 @@
+package com.bank.application.port.input;
+
+import com.bank.application.port.input.dto.EnableBalanceStripingCommand;
+import com.bank.application.port.input.dto.EnableBalanceStripingResponse;
+
+public interface EnableBalanceStripingUseCase {
+    EnableBalanceStripingResponse enableBalanceStriping(EnableBalanceStripingCommand command);
+}
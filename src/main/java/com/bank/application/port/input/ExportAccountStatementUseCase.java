@@ -0,0 +1,19 @@
+package com.bank.application.port.input;
+
+import com.bank.application.port.input.dto.AccountStatementLine;
+import com.bank.domain.account.valueobject.AccountNumber;
+
+import java.util.function.Consumer;
+
+public interface ExportAccountStatementUseCase {
+
+    /*
+     * 내보내기 전에 계좌를 확인한다. (응답을 쓰기 시작한 뒤에는 상태 코드를 바꿀 수 없으므로)
+     */
+    void verifyExportable(AccountNumber accountNumber);
+
+    /*
+     * 전체 거래명세를 시간순으로 한 줄씩 consumer 로 흘려보낸다. (한 페이지씩만 메모리에 읽음, 내보낸 건수 반환)
+     */
+    long exportAccountStatement(AccountNumber accountNumber, Consumer<AccountStatementLine> consumer);
+}
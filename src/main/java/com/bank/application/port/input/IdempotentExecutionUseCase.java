@@ -0,0 +1,11 @@
+package com.bank.application.port.input;
+
+import java.util.function.Supplier;
+
+public interface IdempotentExecutionUseCase {
+    /*
+     * 같은 멱등 키로 이미 처리된 요청이면 저장된 응답을 반환하고, 아니면 action 을 실행해 응답을 같은 트랜잭션에 저장한다.
+     * (멱등 키가 없으면 action 을 그대로 실행)
+     */
+    <T> T execute(String idempotencyKey, String operation, Object command, Class<T> responseType, Supplier<T> action);
+}
@@ -0,0 +1,7 @@
+package com.bank.application.port.input;
+
+import com.bank.application.port.input.dto.LedgerReconciliationResponse;
+
+public interface ReconcileLedgerUseCase {
+    LedgerReconciliationResponse reconcileLedger();
+}
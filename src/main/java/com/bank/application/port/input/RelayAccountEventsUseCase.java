@@ -0,0 +1,9 @@
+package com.bank.application.port.input;
+
+public interface RelayAccountEventsUseCase {
+
+    /*
+     * 아웃박스의 이벤트를 한 묶음 전달하고, 전달한 이벤트 수를 반환한다.
+     */
+    int relayAccountEvents();
+}
@@ -0,0 +1,5 @@
+package com.bank.application.port.input;
+
+public interface ReloadFeeScheduleUseCase {
+    boolean reloadFeeSchedule();
+}
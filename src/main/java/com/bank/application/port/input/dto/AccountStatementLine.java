@@ -0,0 +1,41 @@
+package com.bank.application.port.input.dto;
+
+import com.bank.domain.account.valueobject.AccountNumber;
+import com.bank.domain.account.valueobject.Money;
+
+import java.math.BigDecimal;
+import java.time.ZonedDateTime;
+import java.util.Optional;
+
+/*
+ * 계좌 거래명세 한 줄: 입금/수취/송금/출금 모든 거래를 시간순으로 내보낸다.
+ */
+public record AccountStatementLine(
+        Type type,
+        AccountNumber counterpartyAccountNumber,
+        Money amount,
+        Money transferFee,
+        Money balance,
+        ZonedDateTime transactionAt
+) {
+    public enum Type {
+        DEPOSIT,
+        RECEIVE,
+        TRANSFER,
+        WITHDRAWAL
+    }
+
+    /*
+     * 조회 모델의 값으로 생성한다. (상대 계좌/수수료가 없는 거래는 null)
+     */
+    public AccountStatementLine(String type, String counterpartyAccountNumber, BigDecimal amount, BigDecimal transferFee, BigDecimal balance, ZonedDateTime transactionAt) {
+        this(
+                Type.valueOf(type),
+                Optional.ofNullable(counterpartyAccountNumber).map(AccountNumber::of).orElse(null),
+                Money.of(amount),
+                Optional.ofNullable(transferFee).map(Money::of).orElse(null),
+                Money.of(balance),
+                transactionAt
+        );
+    }
+}
@@ -0,0 +1,15 @@
+package com.bank.application.port.input.dto;
+
+import java.util.List;
+
+/*
+ * 거래명세 한 페이지 (시간순), 다음 페이지가 있으면 마지막 거래의 키셋 커서
+ */
+public record AccountStatementSlice(
+        List<AccountStatementLine> lines,
+        AccountTransactionCursor nextCursor
+) {
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
@@ -0,0 +1,13 @@
+package com.bank.application.port.input.dto;
+
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+/*
+ * 거래 내역 키셋 커서: 마지막으로 조회한 거래의 (거래 일시, 식별자).
+ */
+public record AccountTransactionCursor(
+        ZonedDateTime transactionAt,
+        UUID transactionId
+) {
+}
@@ -4,6 +4,7 @@ import com.bank.domain.account.valueobject.AccountNumber;
 import com.bank.domain.account.valueobject.Money;
 import org.springframework.data.domain.Page;
 
+import java.math.BigDecimal;
 import java.time.ZonedDateTime;
 
 public record AccountTransactionRetrieveResponse(
@@ -14,5 +15,12 @@ public record AccountTransactionRetrieveResponse(
             AccountNumber receiverAccountNumber,
             Money amount,
             ZonedDateTime transactionAt
-    ) {}
+    ) {
+        /*
+         * 조회 쿼리의 생성자 표현식(SELECT new ...)에서 바로 생성한다.
+         */
+        public Transaction(String senderAccountNumber, String receiverAccountNumber, BigDecimal amount, ZonedDateTime transactionAt) {
+            this(AccountNumber.of(senderAccountNumber), AccountNumber.of(receiverAccountNumber), Money.of(amount), transactionAt);
+        }
+    }
 }
@@ -0,0 +1,10 @@
+package com.bank.application.port.input.dto;
+
+import com.bank.domain.account.valueobject.AccountNumber;
+
+public record AccountTransactionSliceRetrieveCommand(
+        AccountNumber accountNumber,
+        AccountTransactionCursor cursor,
+        int size
+) {
+}
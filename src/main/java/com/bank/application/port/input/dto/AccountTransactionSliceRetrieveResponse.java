@@ -0,0 +1,12 @@
+package com.bank.application.port.input.dto;
+
+import java.util.List;
+
+public record AccountTransactionSliceRetrieveResponse(
+        List<AccountTransactionRetrieveResponse.Transaction> transactions,
+        AccountTransactionCursor nextCursor
+) {
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
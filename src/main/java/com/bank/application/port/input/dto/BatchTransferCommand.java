@@ -0,0 +1,16 @@
+package com.bank.application.port.input.dto;
+
+import com.bank.domain.account.valueobject.AccountNumber;
+import com.bank.domain.account.valueobject.Money;
+
+import java.util.List;
+
+public record BatchTransferCommand(
+        AccountNumber senderAccountNumber,
+        List<Item> items
+) {
+    public record Item(
+            AccountNumber receiverAccountNumber,
+            Money amount
+    ) {}
+}
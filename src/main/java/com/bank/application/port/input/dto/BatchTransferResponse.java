@@ -0,0 +1,37 @@
+package com.bank.application.port.input.dto;
+
+import com.bank.domain.account.valueobject.AccountNumber;
+import com.bank.domain.account.valueobject.Money;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+public record BatchTransferResponse(
+        AccountNumber senderAccountNumber,
+        Money balance,
+        List<ItemResult> results
+) {
+    /*
+     * 항목별 처리 결과 (요청 순서와 같다.)
+     */
+    public record ItemResult(
+            AccountNumber receiverAccountNumber,
+            Money amount,
+            Money transferFee,
+            boolean succeeded,
+            String failureReason,
+            ZonedDateTime transferAt
+    ) {
+        public static ItemResult succeeded(AccountNumber receiverAccountNumber, Money amount, Money transferFee, ZonedDateTime transferAt) {
+            return new ItemResult(receiverAccountNumber, amount, transferFee, true, null, transferAt);
+        }
+
+        public static ItemResult failed(AccountNumber receiverAccountNumber, Money amount, String failureReason) {
+            return new ItemResult(receiverAccountNumber, amount, Money.ZERO, false, failureReason, null);
+        }
+    }
+
+    public long succeededCount() {
+        return results.stream().filter(ItemResult::succeeded).count();
+    }
+}
@@ -0,0 +1,9 @@
+package com.bank.application.port.input.dto;
+
+import com.bank.domain.account.valueobject.AccountNumber;
+
+public record EnableBalanceStripingResponse(
+        AccountNumber accountNumber,
+        int balanceShardCount
+) {
+}
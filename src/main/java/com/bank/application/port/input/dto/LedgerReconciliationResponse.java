@@ -0,0 +1,21 @@
+package com.bank.application.port.input.dto;
+
+import com.bank.domain.account.valueobject.Money;
+
+/*
+ * 장부 대사 결과: 거래(분개 다리) 합계와 계좌 잔액 합계가 같고, 맞지 않는 이체 분개가 없어야 한다.
+ */
+public record LedgerReconciliationResponse(
+        Money ledgerBalance,
+        Money accountBalance,
+        Money transferFee,
+        long unbalancedJournalEntryCount
+) {
+    public Money difference() {
+        return accountBalance.subtract(ledgerBalance);
+    }
+
+    public boolean isBalanced() {
+        return ledgerBalance.equals(accountBalance) && unbalancedJournalEntryCount == 0;
+    }
+}
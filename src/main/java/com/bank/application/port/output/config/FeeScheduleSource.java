@@ -0,0 +1,15 @@
+package com.bank.application.port.output.config;
+
+import com.bank.domain.account.valueobject.FeeTier;
+
+import java.util.List;
+
+public interface FeeScheduleSource {
+
+    /*
+     * 규칙이 마지막으로 바뀐 시각 (바뀌지 않았으면 다시 불러오지 않는다.)
+     */
+    long lastModified();
+
+    List<FeeTier> load();
+}
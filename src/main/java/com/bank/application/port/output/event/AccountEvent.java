@@ -0,0 +1,69 @@
+package com.bank.application.port.output.event;
+
+import com.bank.domain.account.entity.Account;
+import com.bank.domain.account.entity.AccountTransaction;
+import com.bank.domain.account.entity.DepositTransaction;
+import com.bank.domain.account.entity.ReceiveTransaction;
+import com.bank.domain.account.entity.TransferTransaction;
+import com.bank.domain.account.valueobject.AccountNumber;
+import com.bank.domain.account.valueobject.AccountTransactionId;
+import com.bank.domain.account.valueobject.Money;
+
+import java.time.ZonedDateTime;
+
+/*
+ * 계좌 이벤트: 유스케이스와 같은 트랜잭션에서 아웃박스에 기록되고, 릴레이가 순서대로 외부로 전달한다.
+ * 거래 이벤트는 거래/분개 식별자를 포함한다. (이체의 송금/수취 이벤트는 같은 분개 식별자)
+ */
+public record AccountEvent(
+        AccountEventType type,
+        AccountNumber accountNumber,
+        AccountTransactionId transactionId,
+        AccountTransactionId journalEntryId,
+        Money amount,
+        Money balance,
+        Money transferFee,
+        AccountNumber counterpartyAccountNumber,
+        ZonedDateTime occurredAt
+) {
+    public static AccountEvent created(Account account) {
+        return of(AccountEventType.ACCOUNT_CREATED, account, account.getCreatedAt());
+    }
+
+    public static AccountEvent destroyed(Account account) {
+        return of(AccountEventType.ACCOUNT_DESTROYED, account, account.getDestroyedAt());
+    }
+
+    /*
+     * 거래 이벤트 (상대 계좌번호는 송금/수취만, 모르면 null)
+     */
+    public static AccountEvent of(AccountNumber accountNumber, AccountTransaction transaction, AccountNumber counterpartyAccountNumber) {
+        AccountEventType type = AccountEventType.WITHDRAWN;
+        Money transferFee = null;
+
+        if (transaction instanceof DepositTransaction) {
+            type = AccountEventType.DEPOSITED;
+        } else if (transaction instanceof ReceiveTransaction) {
+            type = AccountEventType.RECEIVED;
+        } else if (transaction instanceof TransferTransaction transferTransaction) {
+            type = AccountEventType.TRANSFERRED;
+            transferFee = transferTransaction.getTransferFee();
+        }
+
+        return new AccountEvent(
+                type,
+                accountNumber,
+                transaction.getId(),
+                transaction.getJournalEntryId(),
+                transaction.getAmount(),
+                transaction.getBalance(),
+                transferFee,
+                counterpartyAccountNumber,
+                transaction.getTransactionAt()
+        );
+    }
+
+    private static AccountEvent of(AccountEventType type, Account account, ZonedDateTime occurredAt) {
+        return new AccountEvent(type, account.getAccountNumber(), null, null, null, account.getBalance(), null, null, occurredAt);
+    }
+}
@@ -0,0 +1,11 @@
+package com.bank.application.port.output.event;
+
+import java.util.List;
+
+public interface AccountEventSink {
+
+    /*
+     * 순번 순으로 정렬된 이벤트 묶음을 전달한다. 실패하면 예외를 던지고, 릴레이는 같은 묶음을 다시 전달한다. (최소 한 번 전달)
+     */
+    void publish(List<OutboxEvent> events);
+}
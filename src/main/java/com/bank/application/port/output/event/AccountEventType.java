@@ -0,0 +1,10 @@
+package com.bank.application.port.output.event;
+
+public enum AccountEventType {
+    ACCOUNT_CREATED,
+    ACCOUNT_DESTROYED,
+    DEPOSITED,
+    WITHDRAWN,
+    TRANSFERRED,
+    RECEIVED
+}
@@ -0,0 +1,13 @@
+package com.bank.application.port.output.event;
+
+import java.time.ZonedDateTime;
+
+/*
+ * 아웃박스에 기록된 계좌 이벤트 (sequence: 기록 순번, 소비자는 순번으로 중복 전달을 걸러낼 수 있다.)
+ */
+public record OutboxEvent(
+        long sequence,
+        AccountEvent event,
+        ZonedDateTime createdAt
+) {
+}
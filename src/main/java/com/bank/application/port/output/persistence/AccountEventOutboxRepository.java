@@ -0,0 +1,29 @@
+package com.bank.application.port.output.persistence;
+
+import com.bank.application.port.output.event.AccountEvent;
+import com.bank.application.port.output.event.OutboxEvent;
+
+import java.util.List;
+
+public interface AccountEventOutboxRepository {
+
+    /*
+     * 이벤트를 현재 트랜잭션에서 아웃박스에 추가한다. (순번은 추가 순서대로 증가)
+     */
+    void appendAll(List<AccountEvent> events);
+
+    /*
+     * 릴레이 잠금을 얻는다. (여러 인스턴스 중 하나만 릴레이)
+     */
+    void lockRelay();
+
+    /*
+     * 전달 대기 중인(아직 삭제되지 않은) 이벤트를 순번 순으로 읽는다.
+     */
+    List<OutboxEvent> findAllPending(int limit);
+
+    /*
+     * 전달을 마친 이벤트를 삭제한다.
+     */
+    void deleteAll(List<OutboxEvent> events);
+}
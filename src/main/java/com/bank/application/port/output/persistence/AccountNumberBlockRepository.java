@@ -0,0 +1,14 @@
+package com.bank.application.port.output.persistence;
+
+public interface AccountNumberBlockRepository {
+
+    /*
+     * 계좌번호 순번 블록 번호를 임대한다. (노드 간에도 중복되지 않는 0, 1, 2, ...)
+     */
+    long leaseBlock();
+
+    /*
+     * 블록 크기를 기록하고 기록된 크기를 반환한다. (이미 기록되어 있으면 기존 크기)
+     */
+    int registerBlockSize(int blockSize);
+}
@@ -1,20 +1,68 @@
 package com.bank.application.port.output.persistence;
 
+import com.bank.application.port.input.dto.AccountStatementSlice;
+import com.bank.application.port.input.dto.AccountTransactionCursor;
 import com.bank.application.port.input.dto.AccountTransactionRetrieveResponse;
+import com.bank.application.port.input.dto.AccountTransactionSliceRetrieveResponse;
 import com.bank.domain.account.entity.Account;
+import com.bank.domain.account.entity.DepositTransaction;
+import com.bank.domain.account.entity.WithdrawalTransaction;
 import com.bank.domain.account.valueobject.AccountId;
 import com.bank.domain.account.valueobject.AccountNumber;
+import com.bank.domain.account.valueobject.Money;
 import org.springframework.data.domain.Page;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface AccountRepository {
 
     void create(Account account);
 
+    /*
+     * 쓰기 모델 조회: 거래 내역 없이 잔액/한도/상태만 담은 계좌를 반환한다.
+     */
     Optional<Account> findByAccountNumber(AccountNumber accountNumber);
 
+    /*
+     * 여러 계좌의 쓰기 모델을 계좌번호 순서로 잠가 조회한다. (존재하지 않는 계좌는 결과에서 제외)
+     */
+    List<Account> findAllByAccountNumbers(Collection<AccountNumber> accountNumbers);
+
+    /*
+     * 이체 대상 계좌 조회: 출금 계좌는 잠그고, 입금 계좌는 잔액 분산 계좌가 아닌 경우에만 잠근다. (계좌번호 순)
+     */
+    List<Account> findAllForTransfer(Collection<AccountNumber> debitAccountNumbers, Collection<AccountNumber> creditAccountNumbers);
+
+    List<AccountNumber> findAllBalanceStripedAccountNumbers();
+
     void update(Account account);
 
+    /*
+     * 여러 계좌를 한 번에 저장한다. 모든 계좌의 신규 거래(이체는 송금/수취 두 다리가 한 분개)는 한 번의 배치 INSERT 로 추가한다.
+     */
+    void updateAll(Collection<Account> accounts);
+
+    /*
+     * 계좌를 불러오지 않고 조건부 단일 UPDATE 로 입금한다. 조건(활성 계좌)을 만족하지 않으면 빈 값을 반환한다.
+     */
+    Optional<DepositTransaction> tryDeposit(AccountNumber accountNumber, Money amount);
+
+    /*
+     * 계좌를 불러오지 않고 조건부 단일 UPDATE 로 출금한다. 조건(활성 계좌, 잔액, 일일 출금 한도)을 만족하지 않으면 빈 값을 반환한다.
+     */
+    Optional<WithdrawalTransaction> tryWithdraw(AccountNumber accountNumber, Money amount);
+
     Page<AccountTransactionRetrieveResponse.Transaction> findAllTransferTransactionOrReceiveTransaction(AccountId accountId, int page, int size);
+
+    /*
+     * (거래 일시, 식별자) 키셋으로 커서 이후의 송금/수취 내역을 최신순으로 조회한다. (커서가 없으면 첫 페이지)
+     */
+    AccountTransactionSliceRetrieveResponse findTransferTransactionOrReceiveTransactionSlice(AccountId accountId, AccountTransactionCursor cursor, int size);
+
+    /*
+     * (거래 일시, 식별자) 키셋으로 커서 이후의 거래명세를 시간순으로 조회한다. (커서가 없으면 첫 페이지)
+     */
+    AccountStatementSlice findStatementSlice(AccountId accountId, AccountTransactionCursor cursor, int size);
 }
@@ -0,0 +1,23 @@
+package com.bank.application.port.output.persistence;
+
+import com.bank.domain.account.entity.AccountStatus;
+import com.bank.domain.account.valueobject.AccountId;
+import com.bank.domain.account.valueobject.AccountNumber;
+import com.bank.domain.account.valueobject.FeeRate;
+import com.bank.domain.account.valueobject.Money;
+
+/*
+ * 계좌 요약 정보: 잔액/거래 내역 없이 조회 및 사전 검증에 필요한 값만 담는다. (잠금 없이 조회, 캐시 대상)
+ */
+public record AccountSummary(
+        AccountId id,
+        AccountNumber accountNumber,
+        AccountStatus status,
+        Money withdrawLimitAmount,
+        Money transferLimitAmount,
+        FeeRate transferFeeRate
+) {
+    public boolean isDestroyed() {
+        return status == AccountStatus.DESTROYED;
+    }
+}
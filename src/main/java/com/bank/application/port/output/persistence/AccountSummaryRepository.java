@@ -0,0 +1,18 @@
+package com.bank.application.port.output.persistence;
+
+import com.bank.domain.account.valueobject.AccountNumber;
+
+import java.util.Optional;
+
+public interface AccountSummaryRepository {
+
+    /*
+     * 잠금 없이 계좌 요약 정보를 조회한다. (캐시 우선)
+     */
+    Optional<AccountSummary> findByAccountNumber(AccountNumber accountNumber);
+
+    /*
+     * 계좌 상태/한도/수수료율이 바뀐 경우 캐시에서 제거한다. (트랜잭션 커밋 후에도 한 번 더 제거)
+     */
+    void evict(AccountNumber accountNumber);
+}
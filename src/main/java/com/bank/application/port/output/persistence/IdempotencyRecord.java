@@ -0,0 +1,18 @@
+package com.bank.application.port.output.persistence;
+
+import java.time.ZonedDateTime;
+
+/*
+ * 멱등 키로 처리된 요청의 결과 (responseBody 가 없으면 아직 처리 중)
+ */
+public record IdempotencyRecord(
+        String idempotencyKey,
+        String operation,
+        String requestHash,
+        String responseBody,
+        ZonedDateTime createdAt
+) {
+    public boolean isCompleted() {
+        return responseBody != null;
+    }
+}
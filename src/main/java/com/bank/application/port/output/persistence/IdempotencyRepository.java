@@ -0,0 +1,21 @@
+package com.bank.application.port.output.persistence;
+
+import java.time.ZonedDateTime;
+import java.util.Optional;
+
+public interface IdempotencyRepository {
+
+    Optional<IdempotencyRecord> findByKey(String idempotencyKey);
+
+    /*
+     * 멱등 키를 선점한다. 같은 키가 이미 있으면 DataIntegrityViolationException 이 발생한다. (즉시 반영)
+     */
+    void claim(IdempotencyRecord record);
+
+    /*
+     * 선점한 키에 처리 결과를 저장한다.
+     */
+    void complete(String idempotencyKey, String responseBody);
+
+    void deleteAllCreatedBefore(ZonedDateTime createdAt);
+}
@@ -0,0 +1,23 @@
+package com.bank.application.port.output.persistence;
+
+import com.bank.domain.account.valueobject.Money;
+
+public interface LedgerRepository {
+
+    /*
+     * 전체 거래(분개 다리)의 부호 있는 합계: 입금/수취는 더하고, 출금/송금은 수수료까지 뺀다.
+     */
+    Money sumLedgerBalance();
+
+    /*
+     * 전체 계좌 잔액 합계 (잔액 분산 행, 이벤트 저장 모드의 스냅샷 + 이후 거래 포함)
+     */
+    Money sumAccountBalance();
+
+    /*
+     * 송금/수취 금액이 맞지 않거나 다리가 빠진 이체 분개 수
+     */
+    long countUnbalancedJournalEntries();
+
+    Money sumTransferFee();
+}
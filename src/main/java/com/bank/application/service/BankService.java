@@ -3,24 +3,54 @@ package com.bank.application.service;
 import com.bank.application.exception.AccountNotFoundException;
 import com.bank.application.port.input.*;
 import com.bank.application.port.input.dto.*;
+import com.bank.application.port.output.event.AccountEvent;
+import com.bank.application.port.output.persistence.AccountEventOutboxRepository;
 import com.bank.application.port.output.persistence.AccountRepository;
+import com.bank.application.port.output.persistence.AccountSummary;
+import com.bank.application.port.output.persistence.AccountSummaryRepository;
+import com.bank.application.service.account.BalanceStripingProperties;
+import com.bank.application.service.account.StatementExportProperties;
+import com.bank.application.service.concurrency.RetryOnConcurrencyConflict;
+import com.bank.application.service.fee.FeeScheduleService;
 import com.bank.domain.account.entity.*;
+import com.bank.domain.account.exception.AccountDomainException;
+import com.bank.domain.account.valueobject.AccountId;
 import com.bank.domain.account.valueobject.AccountNumber;
+import com.bank.domain.account.valueobject.FeeSchedule;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.ConcurrencyFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
-public class BankService implements CreateAccountUseCase, DestroyAccountUseCase, DepositMoneyUseCase, TransferMoneyUseCase, WithdrawMoneyUseCase, AccountTransactionRetrieveUseCase {
+public class BankService implements CreateAccountUseCase, DestroyAccountUseCase, DepositMoneyUseCase, TransferMoneyUseCase, WithdrawMoneyUseCase, AccountTransactionRetrieveUseCase, ExportAccountStatementUseCase, EnableBalanceStripingUseCase, ConsolidateBalanceShardsUseCase, BatchTransferUseCase {
 
     private final AccountRepository accountRepository;
+    private final AccountSummaryRepository accountSummaryRepository;
+    private final AccountEventOutboxRepository accountEventOutboxRepository;
+    private final BalanceStripingProperties balanceStripingProperties;
+    private final StatementExportProperties statementExportProperties;
+    private final TransactionTemplate transactionTemplate;
+    private final FeeScheduleService feeScheduleService;
+    private final Clock clock;
 
     @Override
     @Transactional
     public CreateAccountResponse createAccount(CreateAccountCommand command) {
         Account account = Account.createAccount(command.accountHolderName());
         accountRepository.create(account);
+        accountEventOutboxRepository.appendAll(List.of(AccountEvent.created(account)));
 
         return new CreateAccountResponse(
                 account.getId(),
@@ -32,47 +62,55 @@ public class BankService implements CreateAccountUseCase, DestroyAccountUseCase,
 
     @Override
     @Transactional
+    @RetryOnConcurrencyConflict
     public void destroyAccount(DestroyAccountCommand command) {
         Account account = getAccount(command.accountNumber());
         account.destroy();
 
         accountRepository.update(account);
+        accountSummaryRepository.evict(account.getAccountNumber());
+        accountEventOutboxRepository.appendAll(List.of(AccountEvent.destroyed(account)));
     }
 
     @Override
     @Transactional
+    @RetryOnConcurrencyConflict
     public DepositMoneyResponse deposit(DepositMoneyCommand command) {
-        Account account = getAccount(command.accountNumber());
-        DepositTransaction transaction = account.deposit(command.amount());
-
-        accountRepository.update(account);
+        // 조건부 단일 UPDATE 로 먼저 처리하고, 조건을 만족하지 않으면 계좌를 잠그고 도메인 규칙으로 처리한다.
+        DepositTransaction transaction = accountRepository.tryDeposit(command.accountNumber(), command.amount())
+                .orElseGet(() -> depositWithLock(command));
+        accountEventOutboxRepository.appendAll(List.of(AccountEvent.of(command.accountNumber(), transaction, null)));
 
         return new DepositMoneyResponse(
-                account.getAccountNumber(),
+                command.accountNumber(),
                 command.amount(),
-                account.getBalance(),
+                transaction.getBalance(),
                 transaction.getTransactionAt()
         );
     }
 
     @Override
     @Transactional
+    @RetryOnConcurrencyConflict
     public TransferMoneyResponse transfer(TransferMoneyCommand command) {
-        Account senderAccount = getAccount(command.senderAccountNumber());
-        Account receiverAccount = getAccount(command.receiverAccountNumber());
+        // 두 계좌를 한 번에, 정해진 순서로 잠근다. (수취 계좌가 잔액 분산 계좌이면 잠그지 않는다.)
+        Map<AccountNumber, Account> accounts = getAccountsForTransfer(List.of(command.senderAccountNumber()), List.of(command.receiverAccountNumber()));
+        Account senderAccount = Optional.ofNullable(accounts.get(command.senderAccountNumber()))
+                .orElseThrow(() -> new AccountNotFoundException("계좌를 찾을 수 없습니다."));
+        Account receiverAccount = Optional.ofNullable(accounts.get(command.receiverAccountNumber()))
+                .orElseThrow(() -> new AccountNotFoundException("계좌를 찾을 수 없습니다."));
 
         TransferTransaction transferTransaction = senderAccount.transfer(
                 receiverAccount.getId(),
-                command.amount()
+                command.amount(),
+                feeScheduleService.current(),
+                clock
         );
 
-        receiverAccount.receive(
-                senderAccount.getId(),
-                command.amount()
-        );
+        receiverAccount.receive(transferTransaction);
 
-        accountRepository.update(senderAccount);
-        accountRepository.update(receiverAccount);
+        // 송금/수취 두 다리를 한 분개로 한 번에 추가한다.
+        updateAllWithEvents(List.of(senderAccount, receiverAccount));
 
         return new TransferMoneyResponse(
                 senderAccount.getAccountNumber(),
@@ -86,40 +124,249 @@ public class BankService implements CreateAccountUseCase, DestroyAccountUseCase,
 
     @Override
     @Transactional
+    @RetryOnConcurrencyConflict
+    public BatchTransferResponse batchTransfer(BatchTransferCommand command) {
+        // 송금 계좌와 수신 계좌를 한 문장으로, 계좌번호 순서로 한 번씩만 잠근다. (없는 계좌는 결과에서 빠진다.)
+        Map<AccountNumber, Account> accounts = getAccountsForTransfer(
+                List.of(command.senderAccountNumber()),
+                command.items().stream()
+                        .map(BatchTransferCommand.Item::receiverAccountNumber)
+                        .distinct()
+                        .toList()
+        );
+        Account senderAccount = Optional.ofNullable(accounts.get(command.senderAccountNumber()))
+                .orElseThrow(() -> new AccountNotFoundException("계좌를 찾을 수 없습니다."));
+
+        // 항목별 한도/수수료/잔액 검증은 메모리의 송금 계좌에 누적해 수행하고, 실패한 항목은 건너뛴다. (모든 항목에 같은 수수료 체계 적용)
+        FeeSchedule feeSchedule = feeScheduleService.current();
+        List<BatchTransferResponse.ItemResult> results = command.items().stream()
+                .map(item -> transferItem(senderAccount, accounts.get(item.receiverAccountNumber()), item, feeSchedule))
+                .toList();
+
+        // 변경된 계좌만 한 번씩 저장한다. (모든 항목의 거래는 한 번의 JDBC 배치로 INSERT)
+        updateAllWithEvents(accounts.values().stream()
+                .filter(account -> ! account.getNewTransactions().isEmpty())
+                .toList());
+
+        return new BatchTransferResponse(
+                senderAccount.getAccountNumber(),
+                senderAccount.getBalance(),
+                results
+        );
+    }
+
+    @Override
+    @Transactional
+    @RetryOnConcurrencyConflict
     public WithdrawMoneyResponse withdraw(WithdrawMoneyCommand command) {
+        // 조건부 단일 UPDATE 로 먼저 처리하고, 조건을 만족하지 않으면 계좌를 잠그고 도메인 규칙으로 처리한다. (실패 사유별 예외)
+        WithdrawalTransaction withdraw = accountRepository.tryWithdraw(command.accountNumber(), command.amount())
+                .orElseGet(() -> withdrawWithLock(command));
+        accountEventOutboxRepository.appendAll(List.of(AccountEvent.of(command.accountNumber(), withdraw, null)));
+
+        return new WithdrawMoneyResponse(
+                command.accountNumber(),
+                withdraw.getBalance(),
+                command.amount(),
+                withdraw.getTransactionAt()
+        );
+    }
+
+    @Override
+    @Transactional
+    @RetryOnConcurrencyConflict
+    public EnableBalanceStripingResponse enableBalanceStriping(EnableBalanceStripingCommand command) {
         Account account = getAccount(command.accountNumber());
-        WithdrawalTransaction withdraw = account.withdraw(command.amount());
+        account.enableBalanceStriping(command.balanceShardCount());
 
         accountRepository.update(account);
 
-        return new WithdrawMoneyResponse(
+        return new EnableBalanceStripingResponse(
                 account.getAccountNumber(),
-                account.getBalance(),
-                command.amount(),
-                withdraw.getTransactionAt()
+                account.getBalanceShardCount()
         );
     }
 
+    /*
+     * 잔액 분산 계좌의 분산 잔액을 통합한다. (잠금 조회 시 통합된 잔액을 저장)
+     * 묶음마다 짧은 트랜잭션으로 잠그고, 잠그지 못한 묶음은 계좌별로 다시 시도해 잠그지 못한 계좌만 다음 주기로 넘긴다.
+     */
+    @Override
+    public int consolidateBalanceShards() {
+        List<AccountNumber> accountNumbers = accountRepository.findAllBalanceStripedAccountNumbers();
+        int chunkSize = balanceStripingProperties.consolidation().chunkSize();
+
+        int consolidated = 0;
+        for (int from = 0; from < accountNumbers.size(); from += chunkSize) {
+            List<AccountNumber> chunk = accountNumbers.subList(from, Math.min(from + chunkSize, accountNumbers.size()));
+            try {
+                consolidated += consolidateBalanceShards(chunk);
+            } catch (ConcurrencyFailureException e) {
+                for (AccountNumber accountNumber : chunk) {
+                    try {
+                        consolidated += consolidateBalanceShards(List.of(accountNumber));
+                    } catch (ConcurrencyFailureException skipped) {
+                        // 다른 트랜잭션이 잠근 계좌는 다음 주기에 통합한다.
+                    }
+                }
+            }
+        }
+        return consolidated;
+    }
+
+    private int consolidateBalanceShards(List<AccountNumber> accountNumbers) {
+        return transactionTemplate.execute(status -> {
+            List<Account> accounts = accountRepository.findAllByAccountNumbers(accountNumbers);
+            accountRepository.updateAll(accounts);
+            return accounts.size();
+        });
+    }
+
     @Override
     @Transactional(readOnly = true)
     public AccountTransactionRetrieveResponse retrieveAccountTransactions(AccountTransactionRetrieveCommand command) {
-        Account account = getAccount(command.accountNumber());
+        // 조회는 계좌를 잠그지 않는다. (캐시된 요약 정보로 식별자/상태 확인)
+        AccountSummary account = getAccountSummary(command.accountNumber());
 
-        if (account.getStatus() == AccountStatus.DESTROYED) {
+        if (account.isDestroyed()) {
             throw new AccountNotFoundException("계좌를 찾을 수 없습니다.");
         }
 
         return new AccountTransactionRetrieveResponse(
                 accountRepository.findAllTransferTransactionOrReceiveTransaction(
-                        account.getId(),
+                        account.id(),
                         command.page(),
                         command.size()
                 )
         );
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public AccountTransactionSliceRetrieveResponse retrieveAccountTransactionSlice(AccountTransactionSliceRetrieveCommand command) {
+        AccountSummary account = getAccountSummary(command.accountNumber());
+
+        if (account.isDestroyed()) {
+            throw new AccountNotFoundException("계좌를 찾을 수 없습니다.");
+        }
+
+        return accountRepository.findTransferTransactionOrReceiveTransactionSlice(
+                account.id(),
+                command.cursor(),
+                command.size()
+        );
+    }
+
+    @Override
+    public void verifyExportable(AccountNumber accountNumber) {
+        if (getAccountSummary(accountNumber).isDestroyed()) {
+            throw new AccountNotFoundException("계좌를 찾을 수 없습니다.");
+        }
+    }
+
+    /*
+     * 키셋 페이지마다 짧은 트랜잭션으로 읽고, 응답에 쓰는 동안에는 커넥션을 잡고 있지 않는다.
+     */
+    @Override
+    public long exportAccountStatement(AccountNumber accountNumber, Consumer<AccountStatementLine> consumer) {
+        AccountSummary account = getAccountSummary(accountNumber);
+
+        if (account.isDestroyed()) {
+            throw new AccountNotFoundException("계좌를 찾을 수 없습니다.");
+        }
+
+        long count = 0;
+        AccountTransactionCursor cursor = null;
+        do {
+            AccountTransactionCursor pageCursor = cursor;
+            AccountStatementSlice slice = transactionTemplate.execute(status ->
+                    accountRepository.findStatementSlice(account.id(), pageCursor, statementExportProperties.pageSize())
+            );
+            slice.lines().forEach(consumer);
+            count += slice.lines().size();
+            cursor = slice.nextCursor();
+        } while (cursor != null);
+
+        return count;
+    }
+
+    /*
+     * 신규 거래를 계좌 이벤트로 바꿔 계좌 갱신과 같은 트랜잭션에서 아웃박스에 추가한다. (상대 계좌번호는 함께 갱신하는 계좌에서 찾는다.)
+     */
+    private void updateAllWithEvents(List<Account> accounts) {
+        Map<AccountId, AccountNumber> accountNumbers = accounts.stream()
+                .collect(Collectors.toMap(Account::getId, Account::getAccountNumber));
+        List<AccountEvent> events = accounts.stream()
+                .flatMap(account -> account.getNewTransactions().stream()
+                        .map(transaction -> AccountEvent.of(account.getAccountNumber(), transaction, accountNumbers.get(counterpartyAccountId(transaction)))))
+                .toList();
+
+        accountRepository.updateAll(accounts);
+        accountEventOutboxRepository.appendAll(events);
+    }
+
+    private AccountId counterpartyAccountId(AccountTransaction transaction) {
+        if (transaction instanceof TransferTransaction transferTransaction) {
+            return transferTransaction.getReceiverAccountId();
+        } else if (transaction instanceof ReceiveTransaction receiveTransaction) {
+            return receiveTransaction.getSenderAccountId();
+        }
+
+        return null;
+    }
+
+    private DepositTransaction depositWithLock(DepositMoneyCommand command) {
+        Account account = getAccount(command.accountNumber());
+        DepositTransaction transaction = account.deposit(command.amount());
+
+        accountRepository.update(account);
+
+        return transaction;
+    }
+
+    private WithdrawalTransaction withdrawWithLock(WithdrawMoneyCommand command) {
+        Account account = getAccount(command.accountNumber());
+        WithdrawalTransaction transaction = account.withdraw(command.amount(), clock);
+
+        accountRepository.update(account);
+
+        return transaction;
+    }
+
+    private BatchTransferResponse.ItemResult transferItem(Account senderAccount, Account receiverAccount, BatchTransferCommand.Item item, FeeSchedule feeSchedule) {
+        if (receiverAccount == null) {
+            return BatchTransferResponse.ItemResult.failed(item.receiverAccountNumber(), item.amount(), "계좌를 찾을 수 없습니다.");
+        }
+
+        try {
+            // 송금 계좌를 변경하기 전에 수취 가능 여부부터 확인한다.
+            receiverAccount.verifyReceivable();
+            TransferTransaction transferTransaction = senderAccount.transfer(receiverAccount.getId(), item.amount(), feeSchedule, clock);
+            receiverAccount.receive(transferTransaction);
+
+            return BatchTransferResponse.ItemResult.succeeded(
+                    item.receiverAccountNumber(),
+                    item.amount(),
+                    transferTransaction.getTransferFee(),
+                    transferTransaction.getTransactionAt()
+            );
+        } catch (AccountDomainException e) {
+            return BatchTransferResponse.ItemResult.failed(item.receiverAccountNumber(), item.amount(), e.getMessage());
+        }
+    }
+
     private Account getAccount(AccountNumber accountNumber) {
         return accountRepository.findByAccountNumber(accountNumber)
                 .orElseThrow(() -> new AccountNotFoundException("계좌를 찾을 수 없습니다."));
     }
+
+    private AccountSummary getAccountSummary(AccountNumber accountNumber) {
+        return accountSummaryRepository.findByAccountNumber(accountNumber)
+                .orElseThrow(() -> new AccountNotFoundException("계좌를 찾을 수 없습니다."));
+    }
+
+    private Map<AccountNumber, Account> getAccountsForTransfer(Collection<AccountNumber> debitAccountNumbers, Collection<AccountNumber> creditAccountNumbers) {
+        return accountRepository.findAllForTransfer(debitAccountNumbers, creditAccountNumbers).stream()
+                .collect(Collectors.toMap(Account::getAccountNumber, Function.identity()));
+    }
 }
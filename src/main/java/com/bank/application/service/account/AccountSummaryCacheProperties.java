@@ -0,0 +1,15 @@
+package com.bank.application.service.account;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "bank.account-summary-cache")
+public record AccountSummaryCacheProperties(
+        @DefaultValue("100000")
+        long maximumSize,
+        @DefaultValue("10m")
+        Duration ttl
+) {
+}
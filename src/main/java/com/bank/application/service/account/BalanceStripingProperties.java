@@ -0,0 +1,27 @@
+package com.bank.application.service.account;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "bank.balance-striping")
+public record BalanceStripingProperties(
+        @DefaultValue
+        Consolidation consolidation
+) {
+    /*
+     * enabled: 주기 통합 사용 여부 (테스트에서는 끈다.)
+     * interval: 통합 주기
+     * chunkSize: 한 트랜잭션에서 잠가 통합하는 계좌 수
+     */
+    public record Consolidation(
+            @DefaultValue("true")
+            boolean enabled,
+            @DefaultValue("1s")
+            Duration interval,
+            @DefaultValue("100")
+            int chunkSize
+    ) {
+    }
+}
@@ -0,0 +1,16 @@
+package com.bank.application.service.account;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/*
+ * 이벤트 저장 모드: 거래 행을 추가 전용 이벤트 로그로 쓰고, 계좌는 최근 스냅샷 + 이후 거래로 복원한다. (스냅샷 간격: 거래 수)
+ */
+@ConfigurationProperties(prefix = "bank.event-sourcing")
+public record EventSourcingProperties(
+        @DefaultValue("false")
+        boolean enabled,
+        @DefaultValue("100")
+        int snapshotInterval
+) {
+}
@@ -0,0 +1,19 @@
+package com.bank.application.service.account;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/*
+ * timeout: 거래명세 내보내기 요청의 비동기 처리 제한 시간 (다른 비동기 요청에는 적용하지 않음)
+ * pageSize: 한 번에(짧은 트랜잭션 하나로) 읽는 거래 수
+ */
+@ConfigurationProperties(prefix = "bank.statement-export")
+public record StatementExportProperties(
+        @DefaultValue("30m")
+        Duration timeout,
+        @DefaultValue("1000")
+        int pageSize
+) {
+}
@@ -0,0 +1,67 @@
+package com.bank.application.service.concurrency;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/*
+ * 트랜잭션 바깥에서 유스케이스를 감싸 낙관적 잠금 충돌 시 지수 백오프(+지터)로 재시도한다. (메트릭 기록 바로 안쪽)
+ * 비관적 잠금 획득 실패는 이미 잠금 대기 시간만큼 기다린 뒤이므로 재시도하지 않고 그대로 전파한다.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@RequiredArgsConstructor
+public class ConcurrencyConflictRetryAspect {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConcurrencyConflictRetryAspect.class);
+
+    private final ConcurrencyProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    @Around("@annotation(com.bank.application.service.concurrency.RetryOnConcurrencyConflict)")
+    public Object retry(ProceedingJoinPoint joinPoint) throws Throwable {
+        // 바깥 트랜잭션에 참여한 경우 재시도해도 이미 롤백 전용이므로 그대로 전파한다.
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return joinPoint.proceed();
+        }
+
+        String useCase = joinPoint.getSignature().getName();
+        int maxAttempts = Math.max(1, properties.retry().maxAttempts());
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return joinPoint.proceed();
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= maxAttempts) {
+                    meterRegistry.counter("bank.concurrency.retry.exhausted", "use_case", useCase).increment();
+                    throw e;
+                }
+
+                meterRegistry.counter("bank.concurrency.retry", "use_case", useCase).increment();
+                logger.debug("Concurrency conflict on {} (attempt {}/{}): {}", useCase, attempt, maxAttempts, e.getMessage());
+                backoff(attempt);
+            }
+        }
+    }
+
+    private void backoff(int attempt) throws InterruptedException {
+        long initial = properties.retry().initialBackoff().toMillis();
+        long max = properties.retry().maxBackoff().toMillis();
+        long ceiling = Math.min(max, initial << Math.min(attempt - 1, 20));
+
+        // full jitter: [0, ceiling] 사이에서 무작위로 대기해 재시도가 몰리지 않도록 한다.
+        Thread.sleep(ThreadLocalRandom.current().nextLong(ceiling + 1));
+    }
+}
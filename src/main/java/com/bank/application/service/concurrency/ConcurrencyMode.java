@@ -0,0 +1,12 @@
+package com.bank.application.service.concurrency;
+
+public enum ConcurrencyMode {
+    /*
+     * 계좌 조회 시 행 잠금(SELECT ... FOR UPDATE)
+     */
+    PESSIMISTIC,
+    /*
+     * 잠금 없이 조회하고 갱신 시 버전 검사, 충돌 시 재시도
+     */
+    OPTIMISTIC
+}
@@ -0,0 +1,41 @@
+package com.bank.application.service.concurrency;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "bank.concurrency")
+public record ConcurrencyProperties(
+        @DefaultValue("PESSIMISTIC")
+        ConcurrencyMode mode,
+        @DefaultValue
+        Retry retry,
+        @DefaultValue
+        LockContention lockContention
+) {
+    public record Retry(
+            @DefaultValue("5")
+            int maxAttempts,
+            @DefaultValue("10ms")
+            Duration initialBackoff,
+            @DefaultValue("200ms")
+            Duration maxBackoff
+    ) {
+    }
+
+    /*
+     * 잠금 대기 시간이 긴 계좌 추적 (추적하는 최대 계좌 수)
+     */
+    public record LockContention(
+            @DefaultValue("true")
+            boolean enabled,
+            @DefaultValue("100")
+            int capacity
+    ) {
+    }
+
+    public boolean isOptimistic() {
+        return mode == ConcurrencyMode.OPTIMISTIC;
+    }
+}
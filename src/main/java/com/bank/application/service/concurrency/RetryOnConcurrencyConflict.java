@@ -0,0 +1,14 @@
+package com.bank.application.service.concurrency;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/*
+ * 낙관적 잠금의 버전 충돌로 트랜잭션이 실패하면 처음부터 다시 수행한다. (잠금 획득 실패는 재시도하지 않음)
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RetryOnConcurrencyConflict {
+}
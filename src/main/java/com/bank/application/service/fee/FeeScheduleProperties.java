@@ -0,0 +1,17 @@
+package com.bank.application.service.fee;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/*
+ * location: 수수료 구간 규칙 JSON 위치 (file:, classpath:), 비어 있으면 계좌의 기본 수수료율만 적용한다.
+ */
+@ConfigurationProperties(prefix = "bank.fee-schedule")
+public record FeeScheduleProperties(
+        String location,
+        @DefaultValue("PT30S")
+        Duration reloadInterval
+) {
+}
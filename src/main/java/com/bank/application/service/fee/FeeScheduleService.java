@@ -0,0 +1,60 @@
+package com.bank.application.service.fee;
+
+import com.bank.application.port.input.ReloadFeeScheduleUseCase;
+import com.bank.application.port.output.config.FeeScheduleSource;
+import com.bank.domain.account.valueobject.FeeSchedule;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+/*
+ * 수수료 구간 규칙을 불러와 컴파일하고 현재 수수료 체계를 교체한다. (이체 시 현재 체계를 계좌에 전달)
+ * 시작 시 잘못된 규칙은 기동을 실패시키고, 실행 중 바뀐 규칙이 잘못되었으면 기존 체계를 유지한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class FeeScheduleService implements ReloadFeeScheduleUseCase {
+
+    private static final Logger logger = LoggerFactory.getLogger(FeeScheduleService.class);
+
+    private final FeeScheduleSource feeScheduleSource;
+
+    private volatile FeeSchedule current = FeeSchedule.flat();
+    private volatile long loadedVersion = Long.MIN_VALUE;
+
+    @PostConstruct
+    public void initialize() {
+        reload(feeScheduleSource.lastModified());
+    }
+
+    public FeeSchedule current() {
+        return current;
+    }
+
+    @Override
+    public synchronized boolean reloadFeeSchedule() {
+        long version = feeScheduleSource.lastModified();
+        if (version == loadedVersion) {
+            return false;
+        }
+
+        try {
+            reload(version);
+            return true;
+        } catch (RuntimeException e) {
+            logger.warn("Fee schedule reload failed, keeping the current schedule: {}", e.getMessage());
+            // 같은 잘못된 규칙을 반복해서 불러오지 않는다.
+            loadedVersion = version;
+            return false;
+        }
+    }
+
+    private void reload(long version) {
+        FeeSchedule schedule = FeeSchedule.compile(feeScheduleSource.load());
+        current = schedule;
+        loadedVersion = version;
+        logger.info("Fee schedule loaded: {} tiers", schedule.tierCount());
+    }
+}
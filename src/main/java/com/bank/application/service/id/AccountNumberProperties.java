@@ -0,0 +1,13 @@
+package com.bank.application.service.id;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "bank.account-number")
+public record AccountNumberProperties(
+        @DefaultValue("0")
+        int nodeId,
+        @DefaultValue("1000")
+        int blockSize
+) {
+}
@@ -0,0 +1,49 @@
+package com.bank.application.service.id;
+
+import com.bank.application.port.output.persistence.AccountNumberBlockRepository;
+import com.bank.domain.account.valueobject.AccountNumber;
+import com.bank.domain.account.valueobject.AccountNumberGenerator;
+import com.bank.domain.common.valueobject.BaseId;
+import com.bank.domain.common.valueobject.UuidV7Generator;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/*
+ * 설정(bank.id, bank.account-number)에 따라 도메인 식별자/계좌번호 생성기를 교체한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class IdGeneratorInitializer {
+
+    private final IdGeneratorProperties properties;
+    private final AccountNumberProperties accountNumberProperties;
+    private final AccountNumberBlockRepository accountNumberBlockRepository;
+
+    @PostConstruct
+    public void initialize() {
+        BaseId.useIdGenerator(properties.generator().create(properties.nodeId()));
+
+        // 순번 시작 = 블록 번호 * 블록 크기이므로, 이미 임대한 블록과 크기가 다르면 순번이 겹친다.
+        int blockSize = accountNumberProperties.blockSize();
+        int registeredBlockSize = accountNumberBlockRepository.registerBlockSize(blockSize);
+        if (registeredBlockSize != blockSize) {
+            throw new IllegalStateException("계좌번호 순번 블록 크기(" + blockSize + ")가 기록된 블록 크기(" + registeredBlockSize + ")와 다릅니다.");
+        }
+        AccountNumber.useGenerator(new AccountNumberGenerator(
+                accountNumberProperties.nodeId(),
+                blockSize,
+                accountNumberBlockRepository::leaseBlock
+        ));
+    }
+
+    /*
+     * 컨텍스트가 닫힌 뒤 닫힌 DB 에서 순번을 임대하지 않도록 기본 생성기로 되돌린다.
+     */
+    @PreDestroy
+    public void reset() {
+        BaseId.useIdGenerator(new UuidV7Generator());
+        AccountNumber.useGenerator(AccountNumber.defaultGenerator());
+    }
+}
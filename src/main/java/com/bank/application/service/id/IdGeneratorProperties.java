@@ -0,0 +1,13 @@
+package com.bank.application.service.id;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "bank.id")
+public record IdGeneratorProperties(
+        @DefaultValue("UUID_V7")
+        IdGeneratorStrategy generator,
+        @DefaultValue("0")
+        int nodeId
+) {
+}
@@ -0,0 +1,28 @@
+package com.bank.application.service.id;
+
+import com.bank.domain.common.valueobject.IdGenerator;
+import com.bank.domain.common.valueobject.SnowflakeIdGenerator;
+import com.bank.domain.common.valueobject.UuidV7Generator;
+
+public enum IdGeneratorStrategy {
+    /*
+     * 시간순 UUID(v7)
+     */
+    UUID_V7,
+    /*
+     * 무작위 UUID(v4)
+     */
+    RANDOM,
+    /*
+     * 64비트 스노우플레이크 (노드 번호 필요)
+     */
+    SNOWFLAKE;
+
+    public IdGenerator create(int nodeId) {
+        return switch (this) {
+            case UUID_V7 -> new UuidV7Generator();
+            case RANDOM -> IdGenerator.random();
+            case SNOWFLAKE -> new SnowflakeIdGenerator(nodeId);
+        };
+    }
+}
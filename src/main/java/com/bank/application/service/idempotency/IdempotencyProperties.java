@@ -0,0 +1,22 @@
+package com.bank.application.service.idempotency;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "bank.idempotency")
+public record IdempotencyProperties(
+        @DefaultValue("P1D")
+        Duration retention,
+        @DefaultValue
+        Cache cache
+) {
+    public record Cache(
+            @DefaultValue("10000")
+            long maximumSize,
+            @DefaultValue("10m")
+            Duration ttl
+    ) {
+    }
+}
@@ -0,0 +1,133 @@
+package com.bank.application.service.idempotency;
+
+import com.bank.application.exception.IdempotencyKeyConflictException;
+import com.bank.application.port.input.IdempotentExecutionUseCase;
+import com.bank.application.port.input.PurgeIdempotencyRecordsUseCase;
+import com.bank.application.port.output.persistence.IdempotencyRecord;
+import com.bank.application.port.output.persistence.IdempotencyRepository;
+import com.bank.application.service.concurrency.RetryOnConcurrencyConflict;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.ZonedDateTime;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+@Service
+@RequiredArgsConstructor
+public class IdempotencyService implements IdempotentExecutionUseCase, PurgeIdempotencyRecordsUseCase {
+
+    private static final int MAX_IDEMPOTENCY_KEY_LENGTH = 255;
+
+    private final IdempotencyRepository idempotencyRepository;
+    private final IdempotencyProperties properties;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    /*
+     * 키를 먼저 선점한 뒤 유스케이스를 같은 트랜잭션에서 실행하므로, 결과 저장과 계좌 변경은 함께 커밋되거나 함께 롤백된다.
+     * (실패한 요청은 저장하지 않으므로 같은 키로 다시 시도할 수 있다.)
+     */
+    @Override
+    @RetryOnConcurrencyConflict
+    public <T> T execute(String idempotencyKey, String operation, Object command, Class<T> responseType, Supplier<T> action) {
+        if (idempotencyKey == null) {
+            return action.get();
+        } else if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_IDEMPOTENCY_KEY_LENGTH) {
+            throw new IllegalArgumentException("Idempotency-Key 는 1자 이상 " + MAX_IDEMPOTENCY_KEY_LENGTH + "자 이하여야 합니다.");
+        }
+
+        String requestHash = hash(operation, command);
+        // 이미 처리된 요청은 계좌를 잠그지 않고 저장된 응답을 반환한다.
+        Optional<T> storedResponse = findStoredResponse(idempotencyKey, requestHash, responseType);
+        if (storedResponse.isPresent()) {
+            return storedResponse.get();
+        }
+
+        try {
+            return transactionTemplate.execute(status -> {
+                claim(new IdempotencyRecord(idempotencyKey, operation, requestHash, null, ZonedDateTime.now()));
+                T response = action.get();
+                idempotencyRepository.complete(idempotencyKey, serialize(response));
+
+                return response;
+            });
+        } catch (KeyAlreadyClaimedException e) {
+            // 같은 키의 요청이 동시에 들어와 먼저 커밋된 경우
+            return findStoredResponse(idempotencyKey, requestHash, responseType)
+                    .orElseThrow(() -> new IdempotencyKeyConflictException("같은 Idempotency-Key 의 요청이 처리 중입니다.", e.getCause()));
+        }
+    }
+
+    @Override
+    @Transactional
+    public void purgeExpiredIdempotencyRecords() {
+        idempotencyRepository.deleteAllCreatedBefore(ZonedDateTime.now().minus(properties.retention()));
+    }
+
+    /*
+     * 키 선점 INSERT 의 제약 위반만 키 충돌로 본다. (유스케이스에서 난 제약 위반은 그대로 전파)
+     */
+    private void claim(IdempotencyRecord record) {
+        try {
+            idempotencyRepository.claim(record);
+        } catch (DataIntegrityViolationException e) {
+            throw new KeyAlreadyClaimedException(e);
+        }
+    }
+
+    private <T> Optional<T> findStoredResponse(String idempotencyKey, String requestHash, Class<T> responseType) {
+        return idempotencyRepository.findByKey(idempotencyKey)
+                .filter(IdempotencyRecord::isCompleted)
+                .map(record -> {
+                    if (! record.requestHash().equals(requestHash)) {
+                        throw new IdempotencyKeyConflictException("같은 Idempotency-Key 로 다른 요청을 보낼 수 없습니다.");
+                    }
+
+                    return deserialize(record.responseBody(), responseType);
+                });
+    }
+
+    private String hash(String operation, Object command) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(operation.getBytes(StandardCharsets.UTF_8));
+            digest.update(serialize(command).getBytes(StandardCharsets.UTF_8));
+
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("요청 해시를 계산할 수 없습니다.", e);
+        }
+    }
+
+    private String serialize(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("멱등 응답을 저장할 수 없습니다.", e);
+        }
+    }
+
+    private <T> T deserialize(String value, Class<T> type) {
+        try {
+            return objectMapper.readValue(value, type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("저장된 멱등 응답을 읽을 수 없습니다.", e);
+        }
+    }
+
+    private static class KeyAlreadyClaimedException extends RuntimeException {
+        private KeyAlreadyClaimedException(DataIntegrityViolationException cause) {
+            super(cause);
+        }
+    }
+}
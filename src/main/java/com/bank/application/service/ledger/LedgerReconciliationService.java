@@ -0,0 +1,32 @@
+package com.bank.application.service.ledger;
+
+import com.bank.application.port.input.ReconcileLedgerUseCase;
+import com.bank.application.port.input.dto.LedgerReconciliationResponse;
+import com.bank.application.port.output.persistence.LedgerRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class LedgerReconciliationService implements ReconcileLedgerUseCase {
+
+    private final LedgerRepository ledgerRepository;
+
+    /*
+     * 집계 쿼리만으로 대사한다. (계좌/거래를 불러오지 않음)
+     * 기본 격리 수준(READ COMMITTED)에서는 쿼리마다 그 사이에 커밋된 이체가 보여 합계가 어긋날 수 있으므로,
+     * SERIALIZABLE 트랜잭션으로 네 집계가 같은 시점의 데이터를 읽게 한다.
+     */
+    @Override
+    @Transactional(readOnly = true, isolation = Isolation.SERIALIZABLE)
+    public LedgerReconciliationResponse reconcileLedger() {
+        return new LedgerReconciliationResponse(
+                ledgerRepository.sumLedgerBalance(),
+                ledgerRepository.sumAccountBalance(),
+                ledgerRepository.sumTransferFee(),
+                ledgerRepository.countUnbalancedJournalEntries()
+        );
+    }
+}
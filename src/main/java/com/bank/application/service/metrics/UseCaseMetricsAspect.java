@@ -0,0 +1,73 @@
+package com.bank.application.service.metrics;
+
+import com.bank.application.exception.IdempotencyKeyConflictException;
+import com.bank.application.exception.NotFoundException;
+import com.bank.domain.account.exception.AccountDomainException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.stereotype.Component;
+
+/*
+ * 유스케이스별 처리 시간/결과를 기록한다. (재시도를 포함한 전체 시간이 잡히도록 재시도보다 바깥에서 감싼다.)
+ * - bank.use_case: use_case, outcome(success, rejected, not_found, conflict, error), exception 태그
+ * - bank.account.rejections: 도메인 규칙(잔액 부족, 한도 초과 등)으로 거절된 요청 수
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class UseCaseMetricsAspect {
+
+    private static final String NONE = "none";
+
+    private final MeterRegistry meterRegistry;
+
+    @Around("execution(public * com.bank.application.service.BankService.*(..))")
+    public Object record(ProceedingJoinPoint joinPoint) throws Throwable {
+        String useCase = joinPoint.getSignature().getName();
+        Timer.Sample sample = Timer.start(meterRegistry);
+
+        try {
+            Object result = joinPoint.proceed();
+            sample.stop(timer(useCase, "success", NONE));
+            return result;
+        } catch (Throwable e) {
+            String outcome = outcome(e);
+            String exception = e.getClass().getSimpleName();
+            sample.stop(timer(useCase, outcome, exception));
+
+            if (e instanceof AccountDomainException) {
+                meterRegistry.counter("bank.account.rejections", "use_case", useCase, "exception", exception).increment();
+            }
+            throw e;
+        }
+    }
+
+    private Timer timer(String useCase, String outcome, String exception) {
+        return Timer.builder("bank.use_case")
+                .description("유스케이스 처리 시간")
+                .tag("use_case", useCase)
+                .tag("outcome", outcome)
+                .tag("exception", exception)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private static String outcome(Throwable e) {
+        if (e instanceof AccountDomainException) {
+            return "rejected";
+        } else if (e instanceof NotFoundException) {
+            return "not_found";
+        } else if (e instanceof ConcurrencyFailureException || e instanceof IdempotencyKeyConflictException) {
+            return "conflict";
+        }
+        return "error";
+    }
+}
@@ -0,0 +1,40 @@
+package com.bank.application.service.outbox;
+
+import com.bank.application.port.input.RelayAccountEventsUseCase;
+import com.bank.application.port.output.event.AccountEventSink;
+import com.bank.application.port.output.event.OutboxEvent;
+import com.bank.application.port.output.persistence.AccountEventOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class AccountEventRelayService implements RelayAccountEventsUseCase {
+
+    private final AccountEventOutboxRepository outboxRepository;
+    private final AccountEventSink sink;
+    private final OutboxProperties properties;
+
+    /*
+     * 남아 있는 이벤트를 순번 순으로 한 묶음 읽어 전달하고, 전달한 이벤트만 삭제한다.
+     * 순번은 추가 시점에 매겨져 커밋 순서와 다를 수 있지만, 늦게 커밋된 이벤트도 삭제 전까지 남아 있으므로 다음 묶음에서 전달된다.
+     * 전달 후 커밋 전에 실패하면 같은 묶음을 다시 전달한다. (최소 한 번 전달)
+     */
+    @Override
+    @Transactional
+    public int relayAccountEvents() {
+        outboxRepository.lockRelay();
+        List<OutboxEvent> events = outboxRepository.findAllPending(properties.relay().batchSize());
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        sink.publish(events);
+        outboxRepository.deleteAll(events);
+
+        return events.size();
+    }
+}
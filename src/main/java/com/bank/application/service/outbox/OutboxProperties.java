@@ -0,0 +1,40 @@
+package com.bank.application.service.outbox;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "bank.outbox")
+public record OutboxProperties(
+        @DefaultValue
+        Relay relay,
+        @DefaultValue
+        Sink sink
+) {
+    /*
+     * enabled: 주기 릴레이 사용 여부 (테스트에서는 끄고 직접 릴레이)
+     * interval: 릴레이 주기
+     * batchSize: 한 번에 전달하는 이벤트 수
+     */
+    public record Relay(
+            @DefaultValue("true")
+            boolean enabled,
+            @DefaultValue("1s")
+            Duration interval,
+            @DefaultValue("500")
+            int batchSize
+    ) {
+    }
+
+    /*
+     * type: file(JSON Lines 파일에 추가) 또는 memory(메모리 큐, 테스트용)
+     */
+    public record Sink(
+            @DefaultValue("file")
+            String type,
+            @DefaultValue("outbox/account-events.jsonl")
+            String path
+    ) {
+    }
+}
@@ -2,10 +2,16 @@ package com.bank.domain.account.entity;
 
 import com.bank.domain.account.exception.AccountStatusInvalidException;
 import com.bank.domain.account.exception.InsufficientBalanceException;
+import com.bank.domain.account.exception.InvalidBalanceShardCountException;
 import com.bank.domain.account.exception.InvalidTransferException;
+import com.bank.domain.account.exception.TransferLimitExceededException;
+import com.bank.domain.account.exception.WithdrawalLimitExceededException;
 import com.bank.domain.account.valueobject.AccountId;
 import com.bank.domain.account.valueobject.AccountNumber;
+import com.bank.domain.account.valueobject.AccountTransactionId;
+import com.bank.domain.account.valueobject.DailyLimitUsage;
 import com.bank.domain.account.valueobject.FeeRate;
+import com.bank.domain.account.valueobject.FeeSchedule;
 import com.bank.domain.account.valueobject.Money;
 import com.bank.domain.common.entity.BaseEntity;
 import lombok.Builder;
@@ -13,6 +19,9 @@ import lombok.Getter;
 import lombok.ToString;
 
 import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalTime;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -24,31 +33,47 @@ public class Account extends BaseEntity<AccountId> {
     public static final Money DEFAULT_WITHDRAW_LIMIT_AMOUNT = Money.of(new BigDecimal(1_000_000));
     public static final Money DEFAULT_TRANSFER_LIMIT_AMOUNT = Money.of(new BigDecimal(3_000_000));
     public static final FeeRate DEFAULT_TRANSFER_FEE_RATE = FeeRate.of(new BigDecimal("0.01"));
+    public static final int MAX_BALANCE_SHARD_COUNT = 64;
 
     private AccountNumber accountNumber;
     private String accountHolderName;
     private Money balance;
     private AccountStatus status;
+    // 계좌 등급: 수수료 체계의 등급별 구간 선택
+    private AccountClass accountClass;
     private Money withdrawLimitAmount;
     private Money transferLimitAmount;
     private FeeRate transferFeeRate;
     private ZonedDateTime createdAt;
     private ZonedDateTime destroyedAt;
+    private DailyLimitUsage dailyLimitUsage;
+    // 잔액 분산 수: 0 보다 크면 수취 금액을 분산 잔액에 적재하고 통합 시점에 잔액에 반영한다.
+    private int balanceShardCount;
     private List<AccountTransaction> transactions;
+    // 이벤트 저장 모드: 마지막으로 반영된 거래(이벤트) 순번 (다음 거래는 이 순번 다음으로 추가된다.)
+    private long eventSequence;
+    // 이번 작업 단위에서 새로 기록되어 아직 저장되지 않은 거래
+    private List<AccountTransaction> newTransactions;
 
     @Builder
-    public Account(AccountId id, AccountNumber accountNumber, String accountHolderName, Money balance, AccountStatus status, Money withdrawLimitAmount, Money transferLimitAmount, FeeRate transferFeeRate, ZonedDateTime createdAt, ZonedDateTime destroyedAt, List<AccountTransaction> transactions) {
+    public Account(AccountId id, AccountNumber accountNumber, String accountHolderName, Money balance, AccountStatus status, AccountClass accountClass, Money withdrawLimitAmount, Money transferLimitAmount, FeeRate transferFeeRate, ZonedDateTime createdAt, ZonedDateTime destroyedAt, DailyLimitUsage dailyLimitUsage, Integer balanceShardCount, List<AccountTransaction> transactions, Long eventSequence) {
         this.id = id;
         this.accountNumber = accountNumber;
         this.accountHolderName = accountHolderName;
-        this.balance = Optional.ofNullable(balance).map(Money::amount).map(Money::of).orElse(Money.ZERO);
+        this.balance = Optional.ofNullable(balance).orElse(Money.ZERO);
         this.status = Optional.ofNullable(status).orElse(AccountStatus.ACTIVE);
-        this.withdrawLimitAmount = Optional.ofNullable(withdrawLimitAmount).map(Money::amount).map(Money::of).orElse(new Money(DEFAULT_WITHDRAW_LIMIT_AMOUNT.amount()));
-        this.transferLimitAmount = Optional.ofNullable(transferLimitAmount).map(Money::amount).map(Money::of).orElse(new Money(DEFAULT_TRANSFER_LIMIT_AMOUNT.amount()));
-        this.transferFeeRate = Optional.ofNullable(transferFeeRate).map(FeeRate::percentage).map(FeeRate::of).orElse(new FeeRate(DEFAULT_TRANSFER_FEE_RATE.percentage()));
+        this.accountClass = Optional.ofNullable(accountClass).orElse(AccountClass.STANDARD);
+        this.withdrawLimitAmount = Optional.ofNullable(withdrawLimitAmount).orElse(DEFAULT_WITHDRAW_LIMIT_AMOUNT);
+        this.transferLimitAmount = Optional.ofNullable(transferLimitAmount).orElse(DEFAULT_TRANSFER_LIMIT_AMOUNT);
+        this.transferFeeRate = Optional.ofNullable(transferFeeRate).orElse(DEFAULT_TRANSFER_FEE_RATE);
         this.createdAt = createdAt;
         this.destroyedAt = destroyedAt;
+        this.balanceShardCount = Optional.ofNullable(balanceShardCount).orElse(0);
         this.transactions = Optional.ofNullable(transactions).map(ArrayList::new).orElse(new ArrayList<>());
+        this.newTransactions = new ArrayList<>();
+        this.eventSequence = Optional.ofNullable(eventSequence).orElse(0L);
+        // 사용량이 주어지지 않은 경우에만 거래 내역으로부터 한 번 집계한다.
+        this.dailyLimitUsage = Optional.ofNullable(dailyLimitUsage).orElseGet(() -> replayDailyLimitUsage(this.transactions, LocalDate.now()));
     }
 
     public static Account createAccount(String accountHolderName) {
@@ -58,10 +83,12 @@ public class Account extends BaseEntity<AccountId> {
                 .accountHolderName(accountHolderName)
                 .balance(Money.ZERO)
                 .status(AccountStatus.ACTIVE)
+                .accountClass(AccountClass.STANDARD)
                 .transactions(new ArrayList<>())
-                .withdrawLimitAmount(Money.of(DEFAULT_WITHDRAW_LIMIT_AMOUNT.amount()))
-                .transferLimitAmount(Money.of(DEFAULT_TRANSFER_LIMIT_AMOUNT.amount()))
-                .transferFeeRate(FeeRate.of(DEFAULT_TRANSFER_FEE_RATE.percentage()))
+                .withdrawLimitAmount(DEFAULT_WITHDRAW_LIMIT_AMOUNT)
+                .transferLimitAmount(DEFAULT_TRANSFER_LIMIT_AMOUNT)
+                .transferFeeRate(DEFAULT_TRANSFER_FEE_RATE)
+                .dailyLimitUsage(DailyLimitUsage.empty(LocalDate.now()))
                 .createdAt(ZonedDateTime.now())
                 .build();
     }
@@ -77,6 +104,22 @@ public class Account extends BaseEntity<AccountId> {
         this.status = AccountStatus.DESTROYED;
         this.destroyedAt = ZonedDateTime.now();
     }
+    /*
+     * 잔액 분산 설정 (분산 수는 늘리기만 할 수 있다.)
+     */
+    public void enableBalanceStriping(int balanceShardCount) {
+        if (! status.canDeposit()) {
+            throw new AccountStatusInvalidException("잔액 분산 설정 실패: 계좌 상태가 설정 변경을 허용하지 않습니다.");
+        } else if (balanceShardCount <= this.balanceShardCount || balanceShardCount > MAX_BALANCE_SHARD_COUNT) {
+            throw new InvalidBalanceShardCountException("잔액 분산 설정 실패: 분산 수는 현재 값보다 크고 " + MAX_BALANCE_SHARD_COUNT + " 이하여야 합니다.");
+        }
+
+        this.balanceShardCount = balanceShardCount;
+    }
+
+    public boolean isBalanceStriped() {
+        return this.balanceShardCount > 0;
+    }
     /*
      * 예금
      */
@@ -92,7 +135,7 @@ public class Account extends BaseEntity<AccountId> {
                 this.balance
         );
 
-        this.transactions.add(transaction);
+        recordTransaction(transaction);
 
         return transaction;
     }
@@ -100,42 +143,63 @@ public class Account extends BaseEntity<AccountId> {
      * 출금
      */
     public WithdrawalTransaction withdraw(Money amount) {
+        return withdraw(amount, Clock.systemDefaultZone());
+    }
+
+    /*
+     * 출금: 일일 한도 기준일은 clock 의 오늘 날짜로 정한다.
+     */
+    public WithdrawalTransaction withdraw(Money amount, Clock clock) {
+        DailyLimitUsage todayUsage = this.dailyLimitUsage.on(LocalDate.now(clock));
+
         if (! status.canWithdraw()) {
             throw new AccountStatusInvalidException("출금 실패: 계좌 상태가 출금을 허용하지 않습니다.");
         } else if (amount.isGreaterThan(this.balance)) {
             throw new InsufficientBalanceException("출금 실패: 잔액이 부족합니다.");
-        } else if (getTotalWithdrawalAmountToday().add(amount).isGreaterThan(withdrawLimitAmount)) {
-            throw new InsufficientBalanceException("출금 실패: 출금 한도를 초과했습니다.");
+        } else if (todayUsage.withdrawalAmount().add(amount).isGreaterThan(withdrawLimitAmount)) {
+            throw new WithdrawalLimitExceededException("출금 실패: 출금 한도를 초과했습니다.");
         }
 
         this.balance = this.balance.subtract(amount);
+        this.dailyLimitUsage = todayUsage.addWithdrawal(amount);
         WithdrawalTransaction transaction = WithdrawalTransaction.recordWithdrawalTransaction(
                 getId(),
                 amount,
                 this.balance
         );
 
-        this.transactions.add(transaction);
+        recordTransaction(transaction);
 
         return transaction;
     }
     /*
-     * 송금
+     * 송금 (수수료 구간 없이 계좌의 기본 수수료율 적용)
      */
     public TransferTransaction transfer(AccountId receiverAccountId, Money amount) {
+        return transfer(receiverAccountId, amount, FeeSchedule.flat(), Clock.systemDefaultZone());
+    }
+
+    /*
+     * 송금: 수수료 시간대와 일일 한도 기준일은 같은 clock 으로 정한다.
+     */
+    public TransferTransaction transfer(AccountId receiverAccountId, Money amount, FeeSchedule feeSchedule, Clock clock) {
+        DailyLimitUsage todayUsage = this.dailyLimitUsage.on(LocalDate.now(clock));
+        // 수수료 적용
+        Money transferFee = applyTransferFee(amount, feeSchedule, LocalTime.now(clock));
+        Money debitAmount = amount.add(transferFee);
+
         if (! status.canTransfer()) {
             throw new AccountStatusInvalidException("이체 실패: 계좌 상태가 출금을 허용하지 않습니다.");
         } else if (this.id.equals(receiverAccountId)) {
             throw new InvalidTransferException("이체 실패: 본인 계좌로 이체할 수 없습니다.");
-        } else if (applyTransferFee(amount).add(amount).isGreaterThan(this.balance)) {
+        } else if (debitAmount.isGreaterThan(this.balance)) {
             throw new InsufficientBalanceException("이체 실패: 잔액이 부족합니다.");
-        } else if (getTotalTransferAmountToday().add(amount).isGreaterThan(transferLimitAmount)) {
-            throw new InsufficientBalanceException("이체 실패: 이체 한도를 초과했습니다.");
+        } else if (todayUsage.transferAmount().add(amount).isGreaterThan(transferLimitAmount)) {
+            throw new TransferLimitExceededException("이체 실패: 이체 한도를 초과했습니다.");
         }
 
-        // 수수료 적용
-        Money transferFee = applyTransferFee(amount);
-        this.balance = this.balance.subtract(amount.add(transferFee));
+        this.balance = this.balance.subtract(debitAmount);
+        this.dailyLimitUsage = todayUsage.addTransfer(amount);
 
         TransferTransaction transaction = TransferTransaction.recordTransferTransaction(
                 getId(),
@@ -145,48 +209,94 @@ public class Account extends BaseEntity<AccountId> {
                 this.balance
         );
 
-        this.transactions.add(transaction);
+        recordTransaction(transaction);
 
         return transaction;
     }
     /*
      * 수취
      */
-    public void receive(AccountId senderAccountId, Money amount) {
-        if (! status.canTransfer()) {
-            throw new AccountStatusInvalidException("수취 실패: 계좌 상태가 수취를 허용하지 않습니다.");
-        }
+    public ReceiveTransaction receive(AccountId senderAccountId, Money amount) {
+        return receive(senderAccountId, amount, null);
+    }
+    /*
+     * 이체 수취: 송금 거래와 같은 분개로 기록한다.
+     */
+    public ReceiveTransaction receive(TransferTransaction transferTransaction) {
+        return receive(transferTransaction.getAccountId(), transferTransaction.getAmount(), transferTransaction.getId());
+    }
 
-        this.balance = this.balance.add(amount);
+    private ReceiveTransaction receive(AccountId senderAccountId, Money amount, AccountTransactionId transferTransactionId) {
+        verifyReceivable();
+
+        // 잔액 분산 계좌는 잔액을 바로 바꾸지 않는다. (거래 후 잔액은 마지막 통합 시점 기준)
+        if (! isBalanceStriped()) {
+            this.balance = this.balance.add(amount);
+        }
         ReceiveTransaction transaction = ReceiveTransaction.recordReceiveTransaction(
                 getId(),
                 senderAccountId,
+                transferTransactionId,
                 amount,
                 this.balance
         );
 
-        this.transactions.add(transaction);
+        recordTransaction(transaction);
+
+        return transaction;
     }
 
-    private Money getTotalWithdrawalAmountToday() {
-        return transactions.stream()
-                .filter(transaction -> transaction instanceof WithdrawalTransaction)
-                .filter(transaction -> transaction.getTransactionAt() != null)
-                .filter(transaction -> transaction.getTransactionAt().toLocalDate().equals(ZonedDateTime.now().toLocalDate()))
-                .map(AccountTransaction::getAmount)
-                .reduce(Money.ZERO, Money::add);
+    /*
+     * 수취 가능 여부 검증 (송금 계좌를 변경하기 전에 확인할 때 사용)
+     */
+    public void verifyReceivable() {
+        if (! status.canTransfer()) {
+            throw new AccountStatusInvalidException("수취 실패: 계좌 상태가 수취를 허용하지 않습니다.");
+        }
     }
 
-    private Money getTotalTransferAmountToday() {
-        return transactions.stream()
-                .filter(transaction -> transaction instanceof TransferTransaction)
-                .filter(transaction -> transaction.getTransactionAt() != null)
-                .filter(transaction -> transaction.getTransactionAt().toLocalDate().equals(ZonedDateTime.now().toLocalDate()))
-                .map(AccountTransaction::getAmount)
-                .reduce(Money.ZERO, Money::add);
+    /*
+     * 저장된 신규 거래 비우기
+     */
+    public void clearNewTransactions() {
+        this.newTransactions.clear();
     }
 
-    private Money applyTransferFee(Money amount) {
-        return transferFeeRate.calculateFee(amount);
+    /*
+     * 이벤트로 추가된 신규 거래 비우기 (마지막 거래 순번 갱신)
+     */
+    public void clearNewTransactions(long eventSequence) {
+        this.eventSequence = eventSequence;
+        clearNewTransactions();
+    }
+
+    private void recordTransaction(AccountTransaction transaction) {
+        this.transactions.add(transaction);
+        this.newTransactions.add(transaction);
+    }
+
+    private static DailyLimitUsage replayDailyLimitUsage(List<AccountTransaction> transactions, LocalDate date) {
+        DailyLimitUsage usage = DailyLimitUsage.empty(date);
+
+        for (AccountTransaction transaction : transactions) {
+            if (transaction.getTransactionAt() == null || ! transaction.getTransactionAt().toLocalDate().equals(date)) {
+                continue;
+            }
+
+            if (transaction instanceof WithdrawalTransaction) {
+                usage = usage.addWithdrawal(transaction.getAmount());
+            } else if (transaction instanceof TransferTransaction) {
+                usage = usage.addTransfer(transaction.getAmount());
+            }
+        }
+
+        return usage;
+    }
+
+    /*
+     * 수수료 체계(등급/금액/시간대 구간)에서 찾고, 맞는 구간이 없으면 계좌의 기본 수수료율을 적용한다.
+     */
+    private Money applyTransferFee(Money amount, FeeSchedule feeSchedule, LocalTime time) {
+        return feeSchedule.calculateFee(accountClass, amount, time, transferFeeRate);
     }
 }
@@ -0,0 +1,10 @@
+package com.bank.domain.account.entity;
+
+/*
+ * 계좌 등급: 수수료 체계(FeeSchedule)의 구간 선택에 사용한다.
+ */
+public enum AccountClass {
+    STANDARD,
+    PREMIUM,
+    CORPORATE
+}
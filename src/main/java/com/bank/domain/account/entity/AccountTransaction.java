@@ -14,4 +14,11 @@ public abstract class AccountTransaction extends BaseEntity<AccountTransactionId
     protected Money balance;
     protected Money amount;
     protected ZonedDateTime transactionAt;
+
+    /*
+     * 분개 식별자: 한 번의 이체로 기록된 송금/수취 거래는 송금 거래의 식별자를 공유한다. (그 밖의 거래는 자신의 식별자)
+     */
+    public AccountTransactionId getJournalEntryId() {
+        return id;
+    }
 }
@@ -15,12 +15,15 @@ import java.util.Optional;
 public class ReceiveTransaction extends AccountTransaction {
 
     private AccountId senderAccountId;
+    // 같은 분개의 송금 거래 식별자 (분개 이전에 기록된 거래는 비어 있다.)
+    private AccountTransactionId transferTransactionId;
 
     @Builder
     public ReceiveTransaction(
             AccountTransactionId id,
             AccountId accountId,
             AccountId senderAccountId,
+            AccountTransactionId transferTransactionId,
             Money balance,
             Money amount,
             ZonedDateTime transactionAt
@@ -28,19 +31,30 @@ public class ReceiveTransaction extends AccountTransaction {
         this.id = id;
         this.accountId = accountId;
         this.senderAccountId = senderAccountId;
-        this.balance = Optional.ofNullable(balance).map(Money::amount).map(Money::of).orElse(Money.ZERO);
-        this.amount = Optional.ofNullable(amount).map(Money::amount).map(Money::of).orElse(Money.ZERO);
+        this.transferTransactionId = transferTransactionId;
+        this.balance = Optional.ofNullable(balance).orElse(Money.ZERO);
+        this.amount = Optional.ofNullable(amount).orElse(Money.ZERO);
         this.transactionAt = transactionAt;
     }
 
     public static ReceiveTransaction recordReceiveTransaction(AccountId receiverAccountId, AccountId senderAccountId, Money amount, Money balance) {
+        return recordReceiveTransaction(receiverAccountId, senderAccountId, null, amount, balance);
+    }
+
+    public static ReceiveTransaction recordReceiveTransaction(AccountId receiverAccountId, AccountId senderAccountId, AccountTransactionId transferTransactionId, Money amount, Money balance) {
         return ReceiveTransaction.builder()
                 .id(AccountTransactionId.generateId())
                 .accountId(receiverAccountId)
                 .senderAccountId(senderAccountId)
-                .amount(Money.of(amount.amount()))
-                .balance(Money.of(balance.amount()))
+                .transferTransactionId(transferTransactionId)
+                .amount(amount)
+                .balance(balance)
                 .transactionAt(ZonedDateTime.now())
                 .build();
     }
+
+    @Override
+    public AccountTransactionId getJournalEntryId() {
+        return Optional.ofNullable(transferTransactionId).orElse(id);
+    }
 }
@@ -30,9 +30,9 @@ public class TransferTransaction extends AccountTransaction {
         this.id = id;
         this.accountId = accountId;
         this.receiverAccountId = receiverAccountId;
-        this.transferFee = Optional.ofNullable(transferFee).map(Money::amount).map(Money::of).orElse(Money.ZERO);
-        this.balance = Optional.ofNullable(balance).map(Money::amount).map(Money::of).orElse(Money.ZERO);
-        this.amount = Optional.ofNullable(amount).map(Money::amount).map(Money::of).orElse(Money.ZERO);
+        this.transferFee = Optional.ofNullable(transferFee).orElse(Money.ZERO);
+        this.balance = Optional.ofNullable(balance).orElse(Money.ZERO);
+        this.amount = Optional.ofNullable(amount).orElse(Money.ZERO);
         this.transactionAt = transactionAt;
     }
 
@@ -41,9 +41,9 @@ public class TransferTransaction extends AccountTransaction {
                 .id(AccountTransactionId.generateId())
                 .accountId(senderAccountId)
                 .receiverAccountId(receiverAccountId)
-                .transferFee(Money.of(transferFee.amount()))
-                .amount(Money.of(amount.amount()))
-                .balance(Money.of(balance.amount()))
+                .transferFee(transferFee)
+                .amount(amount)
+                .balance(balance)
                 .transactionAt(ZonedDateTime.now())
                 .build();
     }
@@ -24,8 +24,8 @@ public class WithdrawalTransaction extends AccountTransaction {
     ) {
         this.id = id;
         this.accountId = accountId;
-        this.balance = Optional.ofNullable(balance).map(Money::amount).map(Money::of).orElse(Money.ZERO);
-        this.amount = Optional.ofNullable(amount).map(Money::amount).map(Money::of).orElse(Money.ZERO);
+        this.balance = Optional.ofNullable(balance).orElse(Money.ZERO);
+        this.amount = Optional.ofNullable(amount).orElse(Money.ZERO);
         this.transactionAt = transactionAt;
     }
 
@@ -33,8 +33,8 @@ public class WithdrawalTransaction extends AccountTransaction {
         return WithdrawalTransaction.builder()
                 .id(AccountTransactionId.generateId())
                 .accountId(withdrawalAccountId)
-                .amount(Money.of(amount.amount()))
-                .balance(Money.of(balance.amount()))
+                .amount(amount)
+                .balance(balance)
                 .transactionAt(ZonedDateTime.now())
                 .build();
     }
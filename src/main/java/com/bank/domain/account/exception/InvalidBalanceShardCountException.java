@@ -0,0 +1,11 @@
+package com.bank.domain.account.exception;
+
+public class InvalidBalanceShardCountException extends AccountDomainException {
+    public InvalidBalanceShardCountException(String message) {
+        super(message);
+    }
+
+    public InvalidBalanceShardCountException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
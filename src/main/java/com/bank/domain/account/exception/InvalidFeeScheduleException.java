@@ -0,0 +1,11 @@
+package com.bank.domain.account.exception;
+
+public class InvalidFeeScheduleException extends AccountDomainException {
+    public InvalidFeeScheduleException(String message) {
+        super(message);
+    }
+
+    public InvalidFeeScheduleException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
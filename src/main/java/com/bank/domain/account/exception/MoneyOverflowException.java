@@ -0,0 +1,11 @@
+package com.bank.domain.account.exception;
+
+public class MoneyOverflowException extends AccountDomainException {
+    public MoneyOverflowException(String message) {
+        super(message);
+    }
+
+    public MoneyOverflowException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
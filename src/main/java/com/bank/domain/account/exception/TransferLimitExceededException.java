@@ -0,0 +1,11 @@
+package com.bank.domain.account.exception;
+
+public class TransferLimitExceededException extends AccountDomainException {
+    public TransferLimitExceededException(String message) {
+        super(message);
+    }
+
+    public TransferLimitExceededException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -17,7 +17,7 @@ public class AccountId extends BaseId<UUID> {
     }
 
     public static AccountId generateId() {
-        return new AccountId(UUID.randomUUID());
+        return new AccountId(nextUuid());
     }
 
     @Override
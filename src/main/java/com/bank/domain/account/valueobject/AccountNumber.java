@@ -1,19 +1,30 @@
 package com.bank.domain.account.valueobject;
 
-import java.util.UUID;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
 
 public record AccountNumber(String value) {
+
+    /*
+     * 신규 계좌번호 생성기. (기본: 프로세스 내 순번, 애플리케이션에서 DB 순번 임대 생성기로 교체)
+     */
+    private static volatile AccountNumberGenerator generator = defaultGenerator();
+
     public static AccountNumber of(String value) {
         return new AccountNumber(value);
     }
 
-   public static AccountNumber generateAccountNumber() {
-       String part1 = String.format("%04d", Math.abs(UUID.randomUUID().getMostSignificantBits()) % 10000);
-       String part2 = String.format("%03d", Math.abs(UUID.randomUUID().getLeastSignificantBits()) % 1000);
-       String part3 = String.format("%06d", System.currentTimeMillis() % 1000000);
-       String accountNumber = String.format("%s-%s-%s", part1, part2, part3);
-       return new AccountNumber(accountNumber);
-   }
+    public static AccountNumber generateAccountNumber() {
+        return generator.generate();
+    }
+
+    public static void useGenerator(AccountNumberGenerator accountNumberGenerator) {
+        generator = Objects.requireNonNull(accountNumberGenerator);
+    }
+
+    public static AccountNumberGenerator defaultGenerator() {
+        return new AccountNumberGenerator(0, 1_000, new AtomicLong()::getAndIncrement);
+    }
 
     @Override
     public boolean equals(Object o) {
@@ -0,0 +1,130 @@
+package com.bank.domain.account.valueobject;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/*
+ * 계좌번호 생성기: 노드 번호(3자리) + 순번(9자리) + 검증 숫자(Luhn, 1자리) => "NNNS-SSS-SSSSSC"
+ * 순번은 블록 단위로 임대(blockLeaser: 블록 번호 0, 1, 2, ...)하므로, 노드/블록이 겹치지 않는 한 중복되지 않는다.
+ */
+public class AccountNumberGenerator {
+
+    public static final int MAX_NODE_ID = 999;
+
+    private static final long SEQUENCE_LIMIT = 1_000_000_000L;
+    private static final int PAYLOAD_DIGITS = 12;
+    private static final Block EXHAUSTED = new Block(0, 0);
+
+    private final int nodeId;
+    private final int blockSize;
+    private final LongSupplier blockLeaser;
+
+    private volatile Block block = EXHAUSTED;
+
+    public AccountNumberGenerator(int nodeId, int blockSize, LongSupplier blockLeaser) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("노드 번호는 0 이상 " + MAX_NODE_ID + " 이하여야 합니다.");
+        }
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException("순번 블록 크기는 0 보다 커야 합니다.");
+        }
+        this.nodeId = nodeId;
+        this.blockSize = blockSize;
+        this.blockLeaser = blockLeaser;
+    }
+
+    public AccountNumber generate() {
+        while (true) {
+            Block current = this.block;
+            long sequence = current.next.getAndIncrement();
+            if (sequence < current.end) {
+                return format(sequence);
+            }
+
+            // 블록을 다 쓴 경우 한 스레드만 새 블록을 임대한다.
+            synchronized (this) {
+                if (this.block == current) {
+                    this.block = leaseBlock();
+                }
+            }
+        }
+    }
+
+    public static boolean isValid(AccountNumber accountNumber) {
+        String value = accountNumber.value();
+        int[] digits = new int[PAYLOAD_DIGITS + 1];
+        int count = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '-') {
+                continue;
+            }
+            if (c < '0' || c > '9' || count == digits.length) {
+                return false;
+            }
+            digits[count++] = c - '0';
+        }
+
+        return count == digits.length && checkDigit(digits) == digits[PAYLOAD_DIGITS];
+    }
+
+    private Block leaseBlock() {
+        long start = Math.multiplyExact(blockLeaser.getAsLong(), (long) blockSize);
+        if (start < 0 || start + blockSize > SEQUENCE_LIMIT) {
+            throw new IllegalStateException("계좌번호 순번이 모두 소진되었습니다.");
+        }
+
+        return new Block(start, start + blockSize);
+    }
+
+    private AccountNumber format(long sequence) {
+        int[] digits = new int[PAYLOAD_DIGITS + 1];
+        long payload = nodeId * SEQUENCE_LIMIT + sequence;
+        for (int i = PAYLOAD_DIGITS - 1; i >= 0; i--) {
+            digits[i] = (int) (payload % 10);
+            payload /= 10;
+        }
+        digits[PAYLOAD_DIGITS] = checkDigit(digits);
+
+        // 4-3-6 자리 형식 (기존 계좌번호와 동일)
+        char[] chars = new char[digits.length + 2];
+        int position = 0;
+        for (int i = 0; i < digits.length; i++) {
+            if (i == 4 || i == 7) {
+                chars[position++] = '-';
+            }
+            chars[position++] = (char) ('0' + digits[i]);
+        }
+
+        return new AccountNumber(new String(chars));
+    }
+
+    /*
+     * Luhn: 검증 숫자 바로 왼쪽 자리부터 한 자리씩 건너 두 배로 더한다.
+     */
+    private static int checkDigit(int[] digits) {
+        int sum = 0;
+        for (int i = PAYLOAD_DIGITS - 1, doubled = 1; i >= 0; i--, doubled ^= 1) {
+            int digit = digits[i];
+            if (doubled == 1) {
+                digit *= 2;
+                if (digit > 9) {
+                    digit -= 9;
+                }
+            }
+            sum += digit;
+        }
+
+        return (10 - sum % 10) % 10;
+    }
+
+    private static final class Block {
+        private final AtomicLong next;
+        private final long end;
+
+        private Block(long start, long end) {
+            this.next = new AtomicLong(start);
+            this.end = end;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.bank.domain.account.valueobject;
+
+import com.bank.domain.account.entity.AccountTransaction;
+import com.bank.domain.account.entity.DepositTransaction;
+import com.bank.domain.account.entity.ReceiveTransaction;
+import com.bank.domain.account.entity.TransferTransaction;
+import com.bank.domain.account.entity.WithdrawalTransaction;
+
+import java.util.Optional;
+
+/*
+ * 계좌 스냅샷: 순번(eventSequence)까지의 거래(이벤트)를 반영한 잔액과 일일 한도 사용량.
+ * 스냅샷에 이후 거래를 순서대로 적용(apply)하면 현재 상태가 된다.
+ */
+public record AccountSnapshot(long eventSequence, Money balance, DailyLimitUsage dailyLimitUsage) {
+
+    public AccountSnapshot(long eventSequence, Money balance, DailyLimitUsage dailyLimitUsage) {
+        this.eventSequence = eventSequence;
+        this.balance = Optional.ofNullable(balance).orElse(Money.ZERO);
+        this.dailyLimitUsage = Optional.ofNullable(dailyLimitUsage).orElse(DailyLimitUsage.empty(null));
+    }
+
+    /*
+     * 거래 하나를 적용한 다음 상태 (송금은 수수료까지 차감, 한도 사용량은 거래 일자 기준으로 누적)
+     */
+    public AccountSnapshot apply(long eventSequence, AccountTransaction transaction) {
+        Money amount = transaction.getAmount();
+
+        if (transaction instanceof DepositTransaction || transaction instanceof ReceiveTransaction) {
+            return new AccountSnapshot(eventSequence, balance.add(amount), dailyLimitUsage);
+        } else if (transaction instanceof WithdrawalTransaction) {
+            return new AccountSnapshot(
+                    eventSequence,
+                    balance.subtract(amount),
+                    dailyLimitUsage.on(transaction.getTransactionAt().toLocalDate()).addWithdrawal(amount)
+            );
+        } else if (transaction instanceof TransferTransaction transferTransaction) {
+            return new AccountSnapshot(
+                    eventSequence,
+                    balance.subtract(amount.add(transferTransaction.getTransferFee())),
+                    dailyLimitUsage.on(transaction.getTransactionAt().toLocalDate()).addTransfer(amount)
+            );
+        }
+
+        return new AccountSnapshot(eventSequence, balance, dailyLimitUsage);
+    }
+}
@@ -15,7 +15,7 @@ public class AccountTransactionId extends BaseId<UUID> {
     }
 
     public static AccountTransactionId generateId() {
-        return new AccountTransactionId(UUID.randomUUID());
+        return new AccountTransactionId(nextUuid());
     }
 
     @Override
@@ -0,0 +1,36 @@
+package com.bank.domain.account.valueobject;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+/*
+ * 일일 한도 사용량: 기준일(usageDate)의 출금/이체 누적액.
+ * 기준일이 바뀌면 누적액은 0 부터 다시 집계된다.
+ */
+public record DailyLimitUsage(LocalDate usageDate, Money withdrawalAmount, Money transferAmount) {
+
+    public DailyLimitUsage(LocalDate usageDate, Money withdrawalAmount, Money transferAmount) {
+        this.usageDate = usageDate;
+        this.withdrawalAmount = Optional.ofNullable(withdrawalAmount).orElse(Money.ZERO);
+        this.transferAmount = Optional.ofNullable(transferAmount).orElse(Money.ZERO);
+    }
+
+    public static DailyLimitUsage empty(LocalDate usageDate) {
+        return new DailyLimitUsage(usageDate, Money.ZERO, Money.ZERO);
+    }
+
+    /*
+     * 해당 일자 기준 사용량 (기준일이 다르면 초기화된 사용량)
+     */
+    public DailyLimitUsage on(LocalDate date) {
+        return date.equals(this.usageDate) ? this : empty(date);
+    }
+
+    public DailyLimitUsage addWithdrawal(Money amount) {
+        return new DailyLimitUsage(this.usageDate, this.withdrawalAmount.add(amount), this.transferAmount);
+    }
+
+    public DailyLimitUsage addTransfer(Money amount) {
+        return new DailyLimitUsage(this.usageDate, this.withdrawalAmount, this.transferAmount.add(amount));
+    }
+}
@@ -5,28 +5,43 @@ import com.bank.domain.account.exception.InvalidFeeRateException;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 
+/*
+ * 수수료율: 비율(0.01 = 1%)을 소수점 2자리 정수(scaledRate = 비율 * 100)로 보관한다.
+ */
+public record FeeRate(long scaledRate) {
+    public static final int SCALE = 2;
 
-public record FeeRate(BigDecimal percentage) {
+    private static final long RATE_DENOMINATOR = 100L;
 
-    public FeeRate(BigDecimal percentage) {
-        if (percentage.compareTo(BigDecimal.ZERO) < 0) {
+    public FeeRate {
+        if (scaledRate < 0L) {
             throw new InvalidFeeRateException("수수료는 양수여야 합니다.");
-        } else if (percentage.compareTo(BigDecimal.ZERO) < 1) {
+        } else if (scaledRate < 1L) {
             throw new InvalidFeeRateException("수수료는 100%를 초과할 수 없습니다.");
         }
-        this.percentage = percentage.setScale(2, RoundingMode.HALF_UP);
+    }
+
+    public FeeRate(BigDecimal percentage) {
+        this(percentage.setScale(SCALE, RoundingMode.HALF_UP).unscaledValue().longValue());
     }
 
     public static FeeRate of(BigDecimal percentage) {
         return new FeeRate(percentage);
     }
 
+    /*
+     * 경계 변환용 (비율, 소수점 2자리)
+     */
+    public BigDecimal percentage() {
+        return BigDecimal.valueOf(this.scaledRate, SCALE);
+    }
+
     public Money calculateFee(Money amount) {
-        return amount.multiply(percentage);
+        return amount.multiply(this.scaledRate, RATE_DENOMINATOR);
     }
 
     @Override
     public String toString() {
-        return percentage + "%";
+        return percentage() + "%";
     }
 }
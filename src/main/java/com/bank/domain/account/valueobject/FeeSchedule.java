@@ -0,0 +1,166 @@
+package com.bank.domain.account.valueobject;
+
+import com.bank.domain.account.entity.AccountClass;
+import com.bank.domain.account.exception.InvalidFeeScheduleException;
+import com.bank.domain.account.exception.MoneyOverflowException;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.TreeSet;
+
+/*
+ * 이체 수수료 체계: 수수료 구간 규칙(FeeTier)을 불러올 때 한 번 정렬된 원시 배열 표로 컴파일한다.
+ * 이체마다 (계좌 등급 -> 시간대 -> 금액 구간) 이진 탐색만 수행하고, 맞는 구간이 없으면 계좌의 기본 수수료율을 적용한다.
+ * 설정이 바뀌면 새 표를 컴파일해 통째로 교체한다. (불변이므로 계산 중인 이체는 교체 전 표를 그대로 사용)
+ */
+public final class FeeSchedule {
+    public static final int SECONDS_PER_DAY = 86_400;
+
+    private static final FeeSchedule FLAT = compile(List.of());
+
+    // 계좌 등급(ordinal)별 표
+    private final Table[] tables;
+    private final int tierCount;
+
+    private FeeSchedule(Table[] tables, int tierCount) {
+        this.tables = tables;
+        this.tierCount = tierCount;
+    }
+
+    /*
+     * 규칙 없음: 모든 이체에 계좌의 기본 수수료율을 적용한다.
+     */
+    public static FeeSchedule flat() {
+        return FLAT;
+    }
+
+    public static FeeSchedule compile(List<FeeTier> tiers) {
+        AccountClass[] accountClasses = AccountClass.values();
+        Table[] tables = new Table[accountClasses.length];
+        for (AccountClass accountClass : accountClasses) {
+            // 등급을 지정한 규칙이 있으면 그 규칙만, 없으면 공통 규칙을 사용한다.
+            List<FeeTier> specific = tiers.stream().filter(tier -> tier.accountClass() == accountClass).toList();
+            List<FeeTier> applicable = specific.isEmpty()
+                    ? tiers.stream().filter(tier -> tier.accountClass() == null).toList()
+                    : specific;
+            tables[accountClass.ordinal()] = Table.compile(accountClass, applicable);
+        }
+
+        return new FeeSchedule(tables, tiers.size());
+    }
+
+    public int tierCount() {
+        return tierCount;
+    }
+
+    public Money calculateFee(AccountClass accountClass, Money amount, LocalTime time, FeeRate defaultFeeRate) {
+        Table table = tables[accountClass.ordinal()];
+        int index = table.find(amount.minorUnits(), time.toSecondOfDay());
+        if (index < 0) {
+            return defaultFeeRate.calculateFee(amount);
+        }
+
+        return table.fee(index, amount.minorUnits());
+    }
+
+    /*
+     * 시간대 시작(초) 배열 + 시간대별 금액 구간 배열. (구간 배열은 시간대 순서로 이어 붙이고 bandOffsets 로 나눈다.)
+     */
+    private static final class Table {
+        private final int[] segmentStarts;
+        private final int[] bandOffsets;
+        private final long[] lowerBounds;
+        private final long[] rateBasisPoints;
+        private final long[] fixedFees;
+        private final long[] minFees;
+        private final long[] maxFees;
+
+        private Table(int[] segmentStarts, int[] bandOffsets, long[] lowerBounds, long[] rateBasisPoints, long[] fixedFees, long[] minFees, long[] maxFees) {
+            this.segmentStarts = segmentStarts;
+            this.bandOffsets = bandOffsets;
+            this.lowerBounds = lowerBounds;
+            this.rateBasisPoints = rateBasisPoints;
+            this.fixedFees = fixedFees;
+            this.minFees = minFees;
+            this.maxFees = maxFees;
+        }
+
+        private static Table compile(AccountClass accountClass, List<FeeTier> tiers) {
+            // 모든 규칙의 시작/종료 시각으로 하루를 나누면, 나뉜 시간대 안에서는 적용 규칙이 바뀌지 않는다.
+            TreeSet<Integer> boundaries = new TreeSet<>();
+            boundaries.add(0);
+            for (FeeTier tier : tiers) {
+                if (tier.startTime() != null) {
+                    boundaries.add(tier.startTime().toSecondOfDay());
+                }
+                if (tier.endTime() != null) {
+                    boundaries.add(tier.endTime().toSecondOfDay());
+                }
+            }
+
+            int[] segmentStarts = boundaries.stream().mapToInt(Integer::intValue).toArray();
+            int[] bandOffsets = new int[segmentStarts.length + 1];
+            List<FeeTier> bands = new ArrayList<>();
+            for (int segment = 0; segment < segmentStarts.length; segment++) {
+                int segmentStart = segmentStarts[segment];
+                // 시간대를 지정한 규칙이 적용되는 시간대에는 그 규칙만, 아니면 하루 전체 규칙을 사용한다.
+                List<FeeTier> timed = tiers.stream()
+                        .filter(tier -> ! tier.isAllDay() && tier.coversSecondOfDay(segmentStart))
+                        .toList();
+                List<FeeTier> active = (timed.isEmpty() ? tiers.stream().filter(FeeTier::isAllDay) : timed.stream())
+                        .sorted(Comparator.comparingLong(tier -> tier.minAmount().minorUnits()))
+                        .toList();
+                for (int i = 1; i < active.size(); i++) {
+                    if (active.get(i - 1).minAmount().equals(active.get(i).minAmount())) {
+                        throw new InvalidFeeScheduleException("수수료 구간이 중복됩니다: " + accountClass + ", " + LocalTime.ofSecondOfDay(segmentStart) + ", " + active.get(i).minAmount());
+                    }
+                }
+
+                bandOffsets[segment] = bands.size();
+                bands.addAll(active);
+            }
+            bandOffsets[segmentStarts.length] = bands.size();
+
+            return new Table(
+                    segmentStarts,
+                    bandOffsets,
+                    bands.stream().mapToLong(tier -> tier.minAmount().minorUnits()).toArray(),
+                    bands.stream().mapToLong(FeeTier::rateBasisPoints).toArray(),
+                    bands.stream().mapToLong(tier -> tier.fixedFee().minorUnits()).toArray(),
+                    bands.stream().mapToLong(tier -> tier.minFee() == null ? Long.MIN_VALUE : tier.minFee().minorUnits()).toArray(),
+                    bands.stream().mapToLong(tier -> tier.maxFee() == null ? Long.MAX_VALUE : tier.maxFee().minorUnits()).toArray()
+            );
+        }
+
+        /*
+         * 적용 구간 위치 (없으면 -1)
+         */
+        private int find(long amount, int secondOfDay) {
+            int segment = floorIndex(Arrays.binarySearch(segmentStarts, secondOfDay));
+            int from = bandOffsets[segment];
+            int to = bandOffsets[segment + 1];
+            if (from == to) {
+                return -1;
+            }
+
+            int band = floorIndex(Arrays.binarySearch(lowerBounds, from, to, amount));
+            return band < from ? -1 : band;
+        }
+
+        private Money fee(int index, long amount) {
+            try {
+                long fee = Math.addExact(Money.multiplyHalfEven(amount, rateBasisPoints[index], FeeTier.BASIS_POINTS), fixedFees[index]);
+                return Money.ofMinorUnits(Math.min(Math.max(fee, minFees[index]), maxFees[index]));
+            } catch (ArithmeticException e) {
+                throw new MoneyOverflowException("금액 계산 범위를 초과했습니다.", e);
+            }
+        }
+
+        private static int floorIndex(int binarySearchResult) {
+            return binarySearchResult >= 0 ? binarySearchResult : -binarySearchResult - 2;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.bank.domain.account.valueobject;
+
+import com.bank.domain.account.entity.AccountClass;
+import com.bank.domain.account.exception.InvalidFeeScheduleException;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalTime;
+import java.util.Optional;
+
+/*
+ * 수수료 구간 규칙.
+ * - accountClass: 적용 계좌 등급 (null 이면 모든 등급, 등급을 지정한 규칙이 있으면 그 등급에는 지정 규칙만 적용)
+ * - startTime ~ endTime: 적용 시간대 [시작, 종료), endTime 이 startTime 보다 이르면 자정을 넘는 구간
+ *   (둘 다 null 이면 하루 전체, 시간대를 지정한 규칙이 적용되는 시간대에는 하루 전체 규칙보다 우선)
+ * - minAmount: 적용 금액 하한 (하한이 이체 금액 이하인 규칙 중 하한이 가장 큰 규칙이 적용된다.)
+ * - fee = clamp(이체 금액 * rate + fixedFee, minFee, maxFee)
+ */
+public record FeeTier(
+        AccountClass accountClass,
+        LocalTime startTime,
+        LocalTime endTime,
+        Money minAmount,
+        long rateBasisPoints,
+        Money fixedFee,
+        Money minFee,
+        Money maxFee
+) {
+    public static final long BASIS_POINTS = 10_000L;
+
+    public FeeTier {
+        minAmount = Optional.ofNullable(minAmount).orElse(Money.ZERO);
+        fixedFee = Optional.ofNullable(fixedFee).orElse(Money.ZERO);
+
+        if (minAmount.minorUnits() < 0) {
+            throw new InvalidFeeScheduleException("수수료 구간 하한은 0 이상이어야 합니다.");
+        } else if (rateBasisPoints < 0 || rateBasisPoints > BASIS_POINTS) {
+            throw new InvalidFeeScheduleException("수수료율은 0 ~ 100% 사이여야 합니다.");
+        } else if (fixedFee.minorUnits() < 0) {
+            throw new InvalidFeeScheduleException("고정 수수료는 0 이상이어야 합니다.");
+        } else if (minFee != null && maxFee != null && minFee.isGreaterThan(maxFee)) {
+            throw new InvalidFeeScheduleException("최소 수수료는 최대 수수료보다 클 수 없습니다.");
+        } else if (startTime != null && startTime.equals(endTime)) {
+            throw new InvalidFeeScheduleException("수수료 적용 시간대의 시작과 종료가 같을 수 없습니다.");
+        }
+    }
+
+    /*
+     * 비율(0.0025 = 0.25%)을 베이시스 포인트로 변환한다.
+     */
+    public static long toBasisPoints(BigDecimal rate) {
+        try {
+            return rate.movePointRight(4).setScale(0, RoundingMode.HALF_UP).longValueExact();
+        } catch (ArithmeticException e) {
+            throw new InvalidFeeScheduleException("수수료율 범위를 초과했습니다.", e);
+        }
+    }
+
+    public boolean isAllDay() {
+        return startTime == null && endTime == null;
+    }
+
+    /*
+     * 하루 중 초 단위 시각이 적용 시간대에 포함되는지
+     */
+    public boolean coversSecondOfDay(int secondOfDay) {
+        int start = startTime == null ? 0 : startTime.toSecondOfDay();
+        int end = endTime == null ? FeeSchedule.SECONDS_PER_DAY : endTime.toSecondOfDay();
+        if (end == 0) {
+            end = FeeSchedule.SECONDS_PER_DAY;
+        }
+
+        return start < end
+                ? secondOfDay >= start && secondOfDay < end
+                : secondOfDay >= start || secondOfDay < end;
+    }
+}
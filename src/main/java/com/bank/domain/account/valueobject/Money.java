@@ -1,44 +1,108 @@
 package com.bank.domain.account.valueobject;
 
+import com.bank.domain.account.exception.MoneyOverflowException;
+
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 
-public record Money(BigDecimal amount) {
-    public static final Money ZERO = Money.of(BigDecimal.ZERO);
+/*
+ * 금액: 최소 단위(소수점 2자리, 1/100)의 long 값으로 보관한다.
+ * 도메인 연산은 long 으로만 수행하고(오버플로 검사), BigDecimal 은 영속화/HTTP 경계에서만 변환한다.
+ */
+public record Money(long minorUnits) {
+    public static final int SCALE = 2;
+    public static final Money ZERO = new Money(0L);
+
+    public Money(BigDecimal amount) {
+        this(toMinorUnits(amount));
+    }
 
     public static Money of(BigDecimal amount) {
         return new Money(amount);
     }
 
+    public static Money ofMinorUnits(long minorUnits) {
+        return minorUnits == 0L ? ZERO : new Money(minorUnits);
+    }
+
+    /*
+     * 경계 변환용 (소수점 2자리)
+     */
+    public BigDecimal amount() {
+        return BigDecimal.valueOf(this.minorUnits, SCALE);
+    }
+
     public boolean isGreaterThanZero() {
-        return this.amount != null && this.amount.compareTo(BigDecimal.ZERO) > 0;
+        return this.minorUnits > 0L;
     }
 
     public boolean isGreaterThan(Money money) {
-        return this.amount != null && this.amount.compareTo(money.amount()) > 0;
+        return this.minorUnits > money.minorUnits;
     }
 
     public Money add(Money money) {
-        return new Money(setScale(this.amount.add(money.amount())));
+        try {
+            return ofMinorUnits(Math.addExact(this.minorUnits, money.minorUnits));
+        } catch (ArithmeticException e) {
+            throw new MoneyOverflowException("금액 계산 범위를 초과했습니다.", e);
+        }
     }
 
     public Money subtract(Money money) {
-        return new Money(setScale(this.amount.subtract(money.amount())));
+        try {
+            return ofMinorUnits(Math.subtractExact(this.minorUnits, money.minorUnits));
+        } catch (ArithmeticException e) {
+            throw new MoneyOverflowException("금액 계산 범위를 초과했습니다.", e);
+        }
     }
 
     public Money multiply(BigDecimal multiplier) {
-        return new Money(setScale(this.amount.multiply(multiplier)));
+        return Money.of(amount().multiply(multiplier));
+    }
+
+    /*
+     * 금액 * (numerator / denominator), 최소 단위에서 HALF_EVEN 반올림
+     */
+    public Money multiply(long numerator, long denominator) {
+        return ofMinorUnits(multiplyHalfEven(this.minorUnits, numerator, denominator));
+    }
+
+    /*
+     * 최소 단위 * (numerator / denominator) 를 HALF_EVEN 반올림한 최소 단위 (수수료 표 계산에서 재사용)
+     */
+    static long multiplyHalfEven(long minorUnits, long numerator, long denominator) {
+        if (denominator <= 0L) {
+            throw new IllegalArgumentException("분모는 0 보다 커야 합니다.");
+        }
+
+        long product;
+        try {
+            product = Math.multiplyExact(minorUnits, numerator);
+        } catch (ArithmeticException e) {
+            throw new MoneyOverflowException("금액 계산 범위를 초과했습니다.", e);
+        }
+
+        long quotient = Math.floorDiv(product, denominator);
+        long remainder = Math.floorMod(product, denominator);
+        long twice = remainder * 2;
+        // 나머지가 분모의 절반보다 크거나, 정확히 절반이고 몫이 홀수이면 올린다.
+        if (twice > denominator || (twice == denominator && (quotient & 1L) == 1L)) {
+            quotient++;
+        }
+
+        return quotient;
     }
 
     @Override
-    public boolean equals(Object o) {
-        if (this == o) return true;
-        if (o == null || getClass() != o.getClass()) return false;
-        Money money = (Money) o;
-        return this.amount.compareTo(money.amount) == 0;
+    public String toString() {
+        return "Money[amount=" + amount() + "]";
     }
 
-    private BigDecimal setScale(BigDecimal input) {
-        return input.setScale(2, RoundingMode.HALF_EVEN);
+    private static long toMinorUnits(BigDecimal amount) {
+        try {
+            return amount.setScale(SCALE, RoundingMode.HALF_EVEN).unscaledValue().longValueExact();
+        } catch (ArithmeticException e) {
+            throw new MoneyOverflowException("금액 범위를 초과했습니다.", e);
+        }
     }
 }
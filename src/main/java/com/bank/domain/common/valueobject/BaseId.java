@@ -3,11 +3,26 @@ package com.bank.domain.common.valueobject;
 import lombok.Getter;
 
 import java.util.Objects;
+import java.util.UUID;
 
 @Getter
 public abstract class BaseId<T> {
+
+    /*
+     * 신규 식별자 생성 전략. (기본: 시간순 UUIDv7)
+     */
+    private static volatile IdGenerator idGenerator = new UuidV7Generator();
+
     protected T value;
 
+    public static void useIdGenerator(IdGenerator generator) {
+        idGenerator = Objects.requireNonNull(generator);
+    }
+
+    protected static UUID nextUuid() {
+        return idGenerator.nextUuid();
+    }
+
     @Override
     public boolean equals(Object o) {
         if (!(o instanceof BaseId<?> baseId)) return false;
@@ -0,0 +1,19 @@
+package com.bank.domain.common.valueobject;
+
+import java.util.UUID;
+
+/*
+ * 식별자 생성 전략. (BaseId.useIdGenerator 로 교체)
+ */
+@FunctionalInterface
+public interface IdGenerator {
+
+    UUID nextUuid();
+
+    /*
+     * 기존 방식: 무작위 UUID(v4). 삽입 위치가 B-tree 전체에 흩어진다.
+     */
+    static IdGenerator random() {
+        return UUID::randomUUID;
+    }
+}
@@ -0,0 +1,44 @@
+package com.bank.domain.common.valueobject;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+ * 64비트 스노우플레이크: 41비트 밀리초(기준 시각 이후) + 10비트 노드 + 12비트 순번.
+ * 식별자 컬럼이 UUID 이므로 UUID 의 상위 64비트에 담는다. (하위 64비트는 0)
+ */
+public class SnowflakeIdGenerator implements IdGenerator {
+
+    public static final int MAX_NODE_ID = (1 << 10) - 1;
+
+    /*
+     * 2023-10-01T00:00:00Z
+     */
+    private static final long EPOCH_MILLIS = 1_696_118_400_000L;
+    private static final int NODE_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+
+    private final long nodeId;
+    private final AtomicLong lastTimestampAndSequence = new AtomicLong();
+
+    public SnowflakeIdGenerator(int nodeId) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("노드 번호는 0 이상 " + MAX_NODE_ID + " 이하여야 합니다.");
+        }
+        this.nodeId = nodeId;
+    }
+
+    public long nextId() {
+        long candidate = (System.currentTimeMillis() - EPOCH_MILLIS) << SEQUENCE_BITS;
+        long timestampAndSequence = lastTimestampAndSequence.updateAndGet(last -> Math.max(candidate, last + 1));
+        long timestamp = timestampAndSequence >>> SEQUENCE_BITS;
+        long sequence = timestampAndSequence & ((1L << SEQUENCE_BITS) - 1);
+
+        return (timestamp << (NODE_BITS + SEQUENCE_BITS)) | (nodeId << SEQUENCE_BITS) | sequence;
+    }
+
+    @Override
+    public UUID nextUuid() {
+        return new UUID(nextId(), 0L);
+    }
+}
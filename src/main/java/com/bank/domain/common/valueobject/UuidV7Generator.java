@@ -0,0 +1,36 @@
+package com.bank.domain.common.valueobject;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+ * 시간순 UUID(v7, RFC 9562): 상위 48비트 unix 밀리초 + 12비트 순번 + 62비트 난수.
+ * 같은 밀리초 안에서도 순번으로 단조 증가하므로, 새 행은 인덱스의 오른쪽 끝에 추가된다.
+ */
+public class UuidV7Generator implements IdGenerator {
+
+    private static final int SEQUENCE_BITS = 12;
+
+    /*
+     * (밀리초 << 12 | 순번): 순번이 넘치면 다음 밀리초로 넘어간다.
+     */
+    private final AtomicLong lastTimestampAndSequence = new AtomicLong();
+
+    @Override
+    public UUID nextUuid() {
+        long timestampAndSequence = nextTimestampAndSequence();
+        long timestamp = timestampAndSequence >>> SEQUENCE_BITS;
+        long sequence = timestampAndSequence & ((1L << SEQUENCE_BITS) - 1);
+
+        long mostSignificantBits = (timestamp << 16) | 0x7000L | sequence;
+        long leastSignificantBits = (ThreadLocalRandom.current().nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+
+    private long nextTimestampAndSequence() {
+        long candidate = System.currentTimeMillis() << SEQUENCE_BITS;
+        return lastTimestampAndSequence.updateAndGet(last -> Math.max(candidate, last + 1));
+    }
+}
@@ -0,0 +1,74 @@
+-- 계좌
+CREATE TABLE account
+(
+    id                      UUID                        NOT NULL,
+    balance                 NUMERIC(38, 2) DEFAULT 0    NOT NULL,
+    status                  TINYINT,
+    account_number          VARCHAR(255)                NOT NULL,
+    account_holder_name     VARCHAR(255)                NOT NULL,
+    withdraw_limit_amount   NUMERIC(38, 2)              NOT NULL,
+    transfer_limit_amount   NUMERIC(38, 2)              NOT NULL,
+    transfer_fee_rate       NUMERIC(38, 2)              NOT NULL,
+    created_at              TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    destroyed_at            TIMESTAMP(6) WITH TIME ZONE,
+    daily_usage_date        DATE,
+    daily_withdrawal_amount NUMERIC(38, 2),
+    daily_transfer_amount   NUMERIC(38, 2),
+    balance_shard_count     INTEGER        DEFAULT 0    NOT NULL,
+    version                 BIGINT,
+    CONSTRAINT pk_account PRIMARY KEY (id),
+    CONSTRAINT uk_account_account_number UNIQUE (account_number)
+);
+
+-- 계좌 거래 (단일 테이블 상속, dtype: 0 입금, 1 수취, 2 송금, 3 출금)
+CREATE TABLE account_transaction
+(
+    dtype               INTEGER                     NOT NULL,
+    id                  UUID                        NOT NULL,
+    account_id          UUID                        NOT NULL,
+    balance             NUMERIC(38, 2)              NOT NULL,
+    amount              NUMERIC(38, 2)              NOT NULL,
+    transaction_at      TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    sender_account_id   UUID,
+    receiver_account_id UUID,
+    transfer_fee        NUMERIC(38, 2),
+    CONSTRAINT pk_account_transaction PRIMARY KEY (id)
+);
+
+-- 송금/수취 내역 조회: 계좌별 최신순 (키셋 커서의 (transaction_at, id) 순서와 일치)
+CREATE INDEX ix_account_transaction_history ON account_transaction (account_id, transaction_at DESC, id DESC);
+
+-- 일일 한도 집계: 계좌/거래 유형별 기간 합계를 인덱스만으로 계산 (amount 포함)
+CREATE INDEX ix_account_transaction_limit ON account_transaction (account_id, dtype, transaction_at DESC, id, amount);
+
+ALTER TABLE account_transaction
+    ADD CONSTRAINT fk_account_transaction_account FOREIGN KEY (account_id) REFERENCES account (id);
+ALTER TABLE account_transaction
+    ADD CONSTRAINT fk_account_transaction_sender_account FOREIGN KEY (sender_account_id) REFERENCES account (id);
+ALTER TABLE account_transaction
+    ADD CONSTRAINT fk_account_transaction_receiver_account FOREIGN KEY (receiver_account_id) REFERENCES account (id);
+
+-- 잔액 분산 계좌의 분산 잔액
+CREATE TABLE account_balance_shard
+(
+    id          UUID                     NOT NULL,
+    account_id  UUID                     NOT NULL,
+    shard_index INTEGER                  NOT NULL,
+    amount      NUMERIC(38, 2) DEFAULT 0 NOT NULL,
+    CONSTRAINT pk_account_balance_shard PRIMARY KEY (id),
+    CONSTRAINT uk_account_balance_shard UNIQUE (account_id, shard_index)
+);
+
+-- Idempotency-Key 처리 결과
+CREATE TABLE idempotency_record
+(
+    id            VARCHAR(255)                NOT NULL,
+    operation     VARCHAR(255)                NOT NULL,
+    request_hash  VARCHAR(64)                 NOT NULL,
+    response_body CLOB,
+    created_at    TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    CONSTRAINT pk_idempotency_record PRIMARY KEY (id)
+);
+
+-- 보관 기간이 지난 처리 결과 삭제
+CREATE INDEX ix_idempotency_record_created_at ON idempotency_record (created_at);
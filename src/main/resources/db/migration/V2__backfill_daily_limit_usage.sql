@@ -0,0 +1,15 @@
+-- 일일 한도 사용량이 집계되지 않은 계좌는 오늘자 출금(3)/송금(2) 합계로 채운다.
+-- (조건부 단일 UPDATE 출금은 daily_usage_date 가 있는 계좌에만 적용된다.)
+UPDATE account a
+SET daily_usage_date        = CURRENT_DATE,
+    daily_withdrawal_amount = (SELECT COALESCE(SUM(t.amount), 0)
+                               FROM account_transaction t
+                               WHERE t.account_id = a.id
+                                 AND t.dtype = 3
+                                 AND t.transaction_at >= CAST(CURRENT_DATE AS TIMESTAMP WITH TIME ZONE)),
+    daily_transfer_amount   = (SELECT COALESCE(SUM(t.amount), 0)
+                               FROM account_transaction t
+                               WHERE t.account_id = a.id
+                                 AND t.dtype = 2
+                                 AND t.transaction_at >= CAST(CURRENT_DATE AS TIMESTAMP WITH TIME ZONE))
+WHERE a.daily_usage_date IS NULL;
@@ -0,0 +1,2 @@
+-- 계좌번호 순번 블록 (블록 번호 * bank.account-number.block-size 부터 블록 크기만큼 사용)
+CREATE SEQUENCE account_number_block_seq START WITH 0 MINVALUE 0 INCREMENT BY 1;
@@ -0,0 +1,2 @@
+-- 계좌 등급 (0: STANDARD, 1: PREMIUM, 2: CORPORATE): 수수료 체계의 등급별 구간 선택
+ALTER TABLE account ADD COLUMN account_class TINYINT DEFAULT 0 NOT NULL;
@@ -0,0 +1,18 @@
+-- 이벤트 저장 모드: 계좌별 거래 순번 (기존 거래는 비워 둔다. 계좌별로 같은 순번은 한 번만 추가되어 동시 추가를 충돌로 검출)
+ALTER TABLE account_transaction ADD COLUMN event_sequence BIGINT;
+
+-- 스냅샷 이후 거래 조회: 계좌별 순번 순
+CREATE UNIQUE INDEX uk_account_transaction_event_sequence ON account_transaction (account_id, event_sequence);
+
+-- 계좌별 최근 스냅샷 (순번까지 반영된 잔액/일일 한도 사용량)
+CREATE TABLE account_snapshot
+(
+    id                      UUID                        NOT NULL,
+    event_sequence          BIGINT                      NOT NULL,
+    balance                 NUMERIC(38, 2)              NOT NULL,
+    daily_usage_date        DATE,
+    daily_withdrawal_amount NUMERIC(38, 2),
+    daily_transfer_amount   NUMERIC(38, 2),
+    created_at              TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    CONSTRAINT pk_account_snapshot PRIMARY KEY (id)
+);
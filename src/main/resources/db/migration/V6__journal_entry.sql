@@ -0,0 +1,5 @@
+-- 분개 식별자: 이체의 송금/수취 거래는 송금 거래의 식별자를 공유한다. (입금/출금은 자신의 식별자, 기존 거래는 비워 둔다.)
+ALTER TABLE account_transaction ADD COLUMN journal_entry_id UUID;
+
+-- 이체 분개 대사: 분개별 송금/수취 금액 합계를 인덱스만으로 계산 (amount 포함)
+CREATE INDEX ix_account_transaction_journal_entry ON account_transaction (journal_entry_id, dtype, amount);
@@ -0,0 +1,25 @@
+-- 계좌 이벤트 아웃박스: 유스케이스와 같은 트랜잭션에서 추가하고, 릴레이가 전달한 뒤 삭제한다. (남아 있는 행 = 전달 대기)
+CREATE TABLE account_event_outbox
+(
+    id                          BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
+    event_type                  VARCHAR(32)                 NOT NULL,
+    account_number              VARCHAR(255)                NOT NULL,
+    transaction_id              UUID,
+    journal_entry_id            UUID,
+    amount                      NUMERIC(38, 2),
+    balance                     NUMERIC(38, 2),
+    transfer_fee                NUMERIC(38, 2),
+    counterparty_account_number VARCHAR(255),
+    occurred_at                 TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    created_at                  TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    CONSTRAINT pk_account_event_outbox PRIMARY KEY (id)
+);
+
+-- 릴레이 잠금: 여러 인스턴스 중 하나만 릴레이한다.
+CREATE TABLE account_event_relay_lock
+(
+    id VARCHAR(64) NOT NULL,
+    CONSTRAINT pk_account_event_relay_lock PRIMARY KEY (id)
+);
+
+INSERT INTO account_event_relay_lock (id) VALUES ('account-event');
@@ -0,0 +1,8 @@
+-- 계좌번호 순번 블록 크기: 순번은 블록 번호 * 블록 크기부터 쓰므로, 블록을 임대한 뒤 크기가 바뀌면 순번이 겹친다.
+-- 처음 시작한 인스턴스가 bank.account-number.block-size 를 기록하고, 이후 다른 크기로 시작하면 실패한다.
+CREATE TABLE account_number_block_size
+(
+    id         VARCHAR(64) NOT NULL,
+    block_size INT         NOT NULL,
+    CONSTRAINT pk_account_number_block_size PRIMARY KEY (id)
+);
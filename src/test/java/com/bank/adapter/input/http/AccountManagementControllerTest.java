@@ -3,9 +3,12 @@ package com.bank.adapter.input.http;
 import com.bank.application.exception.AccountNotFoundException;
 import com.bank.application.port.input.CreateAccountUseCase;
 import com.bank.application.port.input.DestroyAccountUseCase;
+import com.bank.application.port.input.EnableBalanceStripingUseCase;
 import com.bank.application.port.input.dto.CreateAccountCommand;
 import com.bank.application.port.input.dto.CreateAccountResponse;
 import com.bank.application.port.input.dto.DestroyAccountCommand;
+import com.bank.application.port.input.dto.EnableBalanceStripingCommand;
+import com.bank.application.port.input.dto.EnableBalanceStripingResponse;
 import com.bank.domain.account.entity.Account;
 import com.bank.domain.account.exception.AccountStatusInvalidException;
 import com.bank.domain.account.valueobject.AccountNumber;
@@ -22,6 +25,7 @@ import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doThrow;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -37,6 +41,9 @@ class AccountManagementControllerTest {
     @MockBean
     private DestroyAccountUseCase destroyAccountUseCase;
 
+    @MockBean
+    private EnableBalanceStripingUseCase enableBalanceStripingUseCase;
+
     @Test
     @DisplayName("계좌 생성 요청 성공")
     void 계좌_생성_성공() throws Exception {
@@ -143,4 +150,27 @@ class AccountManagementControllerTest {
                 .andExpect(handler().handlerType(AccountManagementController.class))
                 .andExpect(handler().methodName("deleteAccount"));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("잔액 분산 설정 요청 성공")
+    void 잔액_분산_설정_성공() throws Exception {
+        // given
+        AccountNumber accountNumber = AccountNumber.generateAccountNumber();
+        given(enableBalanceStripingUseCase.enableBalanceStriping(new EnableBalanceStripingCommand(accountNumber, 8)))
+                .willReturn(new EnableBalanceStripingResponse(accountNumber, 8));
+
+        // when
+        ResultActions actions = mockMvc.perform(
+                put("/api/v1/accounts/" + accountNumber.value() + "/balance-striping")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"balanceShardCount\": 8}"))
+                .andDo(print());
+
+        // then
+        actions.andExpect(status().isOk())
+                .andExpect(handler().handlerType(AccountManagementController.class))
+                .andExpect(handler().methodName("putAccountBalanceStriping"))
+                .andExpect(jsonPath("$.accountNumber").value(accountNumber.value()))
+                .andExpect(jsonPath("$.balanceShardCount").value(8));
+    }
+}
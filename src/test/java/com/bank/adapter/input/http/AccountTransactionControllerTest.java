@@ -1,33 +1,55 @@
 package com.bank.adapter.input.http;
 
+import com.bank.adapter.input.http.mapper.AccountTransactionCursorCodec;
 import com.bank.application.exception.AccountNotFoundException;
 import com.bank.application.port.input.AccountTransactionRetrieveUseCase;
+import com.bank.application.port.input.BatchTransferUseCase;
 import com.bank.application.port.input.DepositMoneyUseCase;
+import com.bank.application.port.input.ExportAccountStatementUseCase;
+import com.bank.application.port.input.IdempotentExecutionUseCase;
 import com.bank.application.port.input.TransferMoneyUseCase;
 import com.bank.application.port.input.WithdrawMoneyUseCase;
 import com.bank.application.port.input.dto.*;
+import com.bank.application.service.account.StatementExportProperties;
 import com.bank.domain.account.valueobject.AccountNumber;
 import com.bank.domain.account.valueobject.Money;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.data.domain.Page;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.ZonedDateTime;
-
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(AccountTransactionController.class)
+@EnableConfigurationProperties(StatementExportProperties.class)
 class AccountTransactionControllerTest {
 
     @Autowired
@@ -45,6 +67,22 @@ class AccountTransactionControllerTest {
     @MockBean
     private WithdrawMoneyUseCase withdrawMoneyUseCase;
 
+    @MockBean
+    private BatchTransferUseCase batchTransferUseCase;
+
+    @MockBean
+    private IdempotentExecutionUseCase idempotentExecutionUseCase;
+
+    @MockBean
+    private ExportAccountStatementUseCase exportAccountStatementUseCase;
+
+    @BeforeEach
+    void setUp() {
+        // 멱등 키 처리는 요청을 그대로 실행한다.
+        given(idempotentExecutionUseCase.execute(any(), any(), any(), any(), any()))
+                .willAnswer(invocation -> ((Supplier<?>) invocation.getArgument(4)).get());
+    }
+
     @Test
     @DisplayName("계좌 입금 요청 성공")
     void 계좌_입금_요청_성공() throws Exception {
@@ -77,6 +115,40 @@ class AccountTransactionControllerTest {
                 .andExpect(jsonPath("$.depositAt").exists());
     }
 
+    @Test
+    @DisplayName("계좌 입금 요청 성공 - Idempotency-Key 헤더 전달")
+    void 계좌_입금_요청_성공_멱등키() throws Exception {
+        // given
+        AccountNumber accountNumber = AccountNumber.generateAccountNumber();
+        Integer amount = 1000;
+        given(depositMoneyUseCase.deposit(new DepositMoneyCommand(accountNumber, Money.of(new BigDecimal(amount)))))
+                .willReturn(new DepositMoneyResponse(
+                        accountNumber,
+                        Money.of(new BigDecimal(amount)),
+                        Money.of(new BigDecimal(amount)),
+                        ZonedDateTime.now()
+                ));
+
+        // when
+        ResultActions actions = mockMvc.perform(
+                        post("/api/v1/accounts/deposit")
+                                .header("Idempotency-Key", "deposit-key-1")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("{\"accountNumber\": \"" + accountNumber.value() + "\", \"amount\": " + amount + "}"))
+                .andDo(print());
+
+        // then
+        actions.andExpect(status().isOk())
+                .andExpect(jsonPath("$.balance").value(amount));
+        verify(idempotentExecutionUseCase).execute(
+                eq("deposit-key-1"),
+                eq("deposit"),
+                eq(new DepositMoneyCommand(accountNumber, Money.of(new BigDecimal(amount)))),
+                eq(DepositMoneyResponse.class),
+                any()
+        );
+    }
+
     @Test
     @DisplayName("계좌 입금 요청 실패 - 계좌 번호 누락")
     void 계좌_입금_요청_실패_계좌번호누락() throws Exception {
@@ -178,6 +250,54 @@ class AccountTransactionControllerTest {
                 .andExpect(jsonPath("$.transferAt").exists());
     }
 
+    @Test
+    @DisplayName("계좌 일괄 이체 요청 성공 - 항목별 결과 반환")
+    void 계좌_일괄_이체_요청_성공() throws Exception {
+        // given
+        AccountNumber senderAccountNumber = AccountNumber.generateAccountNumber();
+        AccountNumber receiverAccountNumber = AccountNumber.generateAccountNumber();
+        AccountNumber unknownAccountNumber = AccountNumber.generateAccountNumber();
+        Money amount = Money.of(new BigDecimal(1000));
+        ZonedDateTime transferAt = ZonedDateTime.now();
+        given(batchTransferUseCase.batchTransfer(
+                new BatchTransferCommand(
+                        senderAccountNumber,
+                        List.of(
+                                new BatchTransferCommand.Item(receiverAccountNumber, amount),
+                                new BatchTransferCommand.Item(unknownAccountNumber, amount)
+                        )
+                )
+        )).willReturn(
+                new BatchTransferResponse(
+                        senderAccountNumber,
+                        Money.of(new BigDecimal(8990)),
+                        List.of(
+                                BatchTransferResponse.ItemResult.succeeded(receiverAccountNumber, amount, Money.of(new BigDecimal(10)), transferAt),
+                                BatchTransferResponse.ItemResult.failed(unknownAccountNumber, amount, "계좌를 찾을 수 없습니다.")
+                        )
+                )
+        );
+
+        // when
+        ResultActions actions = mockMvc.perform(
+                        post("/api/v1/accounts/transfer/batch")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("{\"senderAccountNumber\": \"" + senderAccountNumber.value() + "\", \"items\": ["
+                                        + "{\"receiverAccountNumber\": \"" + receiverAccountNumber.value() + "\", \"amount\": 1000},"
+                                        + "{\"receiverAccountNumber\": \"" + unknownAccountNumber.value() + "\", \"amount\": 1000}]}"))
+                .andDo(print());
+
+        // then
+        actions.andExpect(status().isOk())
+                .andExpect(handler().handlerType(AccountTransactionController.class))
+                .andExpect(handler().methodName("postAccountsTransferBatch"))
+                .andExpect(jsonPath("$.balance").value(8990))
+                .andExpect(jsonPath("$.succeededCount").value(1))
+                .andExpect(jsonPath("$.failedCount").value(1))
+                .andExpect(jsonPath("$.results[0].succeeded").value(true))
+                .andExpect(jsonPath("$.results[1].failureReason").value("계좌를 찾을 수 없습니다."));
+    }
+
     @Test
     @DisplayName("계좌 이체 요청 실패 - 송금 계좌 번호 누락")
     void 계좌_이체_요청_실패_송금계좌번호누락() throws Exception {
@@ -390,4 +510,155 @@ class AccountTransactionControllerTest {
                 .andExpect(handler().handlerType(AccountTransactionController.class))
                 .andExpect(handler().methodName("getAccountTransaction"));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("계좌 거래 내역 커서 조회 요청 성공")
+    void 계좌_거래내역_커서_조회_요청_성공() throws Exception {
+        // given
+        AccountNumber accountNumber = AccountNumber.generateAccountNumber();
+        int size = 10;
+        AccountTransactionCursor cursor = new AccountTransactionCursor(ZonedDateTime.parse("2023-10-01T10:00:00Z"), UUID.randomUUID());
+        AccountTransactionCursor nextCursor = new AccountTransactionCursor(ZonedDateTime.parse("2023-09-30T10:00:00Z"), UUID.randomUUID());
+        given(transactionRetrieveUseCase.retrieveAccountTransactionSlice(new AccountTransactionSliceRetrieveCommand(accountNumber, cursor, size)))
+                .willReturn(new AccountTransactionSliceRetrieveResponse(List.of(), nextCursor));
+
+        // when
+        ResultActions actions = mockMvc.perform(
+                        get("/api/v1/accounts/" + accountNumber.value() + "/transactions/cursor")
+                                .param("cursor", AccountTransactionCursorCodec.encode(cursor))
+                                .param("size", String.valueOf(size)))
+                .andDo(print());
+
+        // then
+        actions.andExpect(status().isOk())
+                .andExpect(handler().handlerType(AccountTransactionController.class))
+                .andExpect(handler().methodName("getAccountTransactionByCursor"))
+                .andExpect(jsonPath("$.transactions").exists())
+                .andExpect(jsonPath("$.pagination.hasNext").value(true))
+                .andExpect(jsonPath("$.pagination.nextCursor").value(AccountTransactionCursorCodec.encode(nextCursor)));
+    }
+
+    @Test
+    @DisplayName("계좌 거래 내역 커서 조회 요청 실패 - 잘못된 커서")
+    void 계좌_거래내역_커서_조회_요청_실패_잘못된커서() throws Exception {
+        // given
+        AccountNumber accountNumber = AccountNumber.generateAccountNumber();
+
+        // when
+        ResultActions actions = mockMvc.perform(
+                        get("/api/v1/accounts/" + accountNumber.value() + "/transactions/cursor")
+                                .param("cursor", "invalid-cursor"))
+                .andDo(print());
+
+        // then
+        actions.andExpect(status().isBadRequest())
+                .andExpect(handler().handlerType(AccountTransactionController.class))
+                .andExpect(handler().methodName("getAccountTransactionByCursor"));
+    }
+
+    @Test
+    @DisplayName("계좌 거래 내역 조회 요청 실패 - 페이지 사이즈 범위 초과")
+    void 계좌_거래내역_조회_요청_실패_페이지사이즈범위() throws Exception {
+        // given
+        AccountNumber accountNumber = AccountNumber.generateAccountNumber();
+
+        // when
+        ResultActions zeroSizeActions = mockMvc.perform(
+                        get("/api/v1/accounts/" + accountNumber.value() + "/transactions")
+                                .param("size", "0"))
+                .andDo(print());
+        ResultActions oversizeActions = mockMvc.perform(
+                        get("/api/v1/accounts/" + accountNumber.value() + "/transactions/cursor")
+                                .param("size", "101"))
+                .andDo(print());
+
+        // then
+        zeroSizeActions.andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("페이지 사이즈는 1 이상이어야 합니다."));
+        oversizeActions.andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("페이지 사이즈는 100 이하여야 합니다."));
+        verify(transactionRetrieveUseCase, never()).retrieveAccountTransactions(any());
+        verify(transactionRetrieveUseCase, never()).retrieveAccountTransactionSlice(any());
+    }
+
+    @Test
+    @DisplayName("계좌 거래명세 내보내기 요청 성공 - NDJSON")
+    void 계좌_거래명세_내보내기_요청_성공_NDJSON() throws Exception {
+        // given
+        AccountNumber accountNumber = AccountNumber.generateAccountNumber();
+        AccountNumber counterpartyAccountNumber = AccountNumber.generateAccountNumber();
+        ZonedDateTime transactionAt = ZonedDateTime.parse("2023-10-01T10:00:00Z");
+        given(exportAccountStatementUseCase.exportAccountStatement(eq(accountNumber), any()))
+                .willAnswer(invocation -> {
+                    Consumer<AccountStatementLine> consumer = invocation.getArgument(1);
+                    consumer.accept(new AccountStatementLine(AccountStatementLine.Type.DEPOSIT, null, Money.of(new BigDecimal(10_000)), null, Money.of(new BigDecimal(10_000)), transactionAt));
+                    consumer.accept(new AccountStatementLine(AccountStatementLine.Type.TRANSFER, counterpartyAccountNumber, Money.of(new BigDecimal(1_000)), Money.of(new BigDecimal(10)), Money.of(new BigDecimal(8_990)), transactionAt));
+                    return 2L;
+                });
+
+        // when
+        MvcResult asyncResult = mockMvc.perform(
+                        get("/api/v1/accounts/" + accountNumber.value() + "/transactions/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        ResultActions actions = mockMvc.perform(asyncDispatch(asyncResult))
+                .andDo(print());
+
+        // then
+        actions.andExpect(status().isOk())
+                .andExpect(handler().methodName("getAccountTransactionExport"))
+                .andExpect(header().string("Content-Type", "application/x-ndjson"));
+        assertEquals(Duration.ofMinutes(30).toMillis(), asyncResult.getRequest().getAsyncContext().getTimeout(), "내보내기 요청에는 내보내기 제한 시간이 적용되어야 합니다.");
+        String[] lines = asyncResult.getResponse().getContentAsString().split("\n");
+        assertEquals(2, lines.length, "거래 한 건당 한 줄이어야 합니다.");
+        assertTrue(lines[0].contains("\"type\":\"DEPOSIT\""), "첫 줄은 입금 거래여야 합니다.");
+        assertTrue(lines[1].contains("\"counterpartyAccountNumber\":\"" + counterpartyAccountNumber.value() + "\""), "송금 거래는 상대 계좌번호를 포함해야 합니다.");
+    }
+
+    @Test
+    @DisplayName("계좌 거래명세 내보내기 요청 성공 - CSV")
+    void 계좌_거래명세_내보내기_요청_성공_CSV() throws Exception {
+        // given
+        AccountNumber accountNumber = AccountNumber.generateAccountNumber();
+        ZonedDateTime transactionAt = ZonedDateTime.parse("2023-10-01T10:00:00Z");
+        given(exportAccountStatementUseCase.exportAccountStatement(eq(accountNumber), any()))
+                .willAnswer(invocation -> {
+                    Consumer<AccountStatementLine> consumer = invocation.getArgument(1);
+                    consumer.accept(new AccountStatementLine(AccountStatementLine.Type.WITHDRAWAL, null, Money.of(new BigDecimal(1_000)), null, Money.of(new BigDecimal(9_000)), transactionAt));
+                    return 1L;
+                });
+
+        // when
+        MvcResult asyncResult = mockMvc.perform(
+                        get("/api/v1/accounts/" + accountNumber.value() + "/transactions/export")
+                                .param("format", "csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(asyncResult))
+                .andDo(print())
+                .andExpect(status().isOk());
+
+        // then
+        String[] lines = asyncResult.getResponse().getContentAsString().split("\n");
+        assertEquals("transactionAt,type,counterpartyAccountNumber,amount,transferFee,balance", lines[0], "첫 줄은 헤더여야 합니다.");
+        assertEquals("2023-10-01T10:00:00Z,WITHDRAWAL,,1000,,9000", lines[1], "거래 한 건이 한 행으로 출력되어야 합니다.");
+    }
+
+    @Test
+    @DisplayName("계좌 거래명세 내보내기 요청 실패 - 계좌 없음")
+    void 계좌_거래명세_내보내기_요청_실패_계좌없음() throws Exception {
+        // given
+        AccountNumber accountNumber = AccountNumber.generateAccountNumber();
+        willThrow(new AccountNotFoundException("계좌를 찾을 수 없습니다."))
+                .given(exportAccountStatementUseCase).verifyExportable(accountNumber);
+
+        // when
+        ResultActions actions = mockMvc.perform(
+                        get("/api/v1/accounts/" + accountNumber.value() + "/transactions/export"))
+                .andDo(print());
+
+        // then
+        actions.andExpect(status().isNotFound())
+                .andExpect(handler().methodName("getAccountTransactionExport"));
+    }
+}
@@ -0,0 +1,165 @@
+package com.bank.adapter.output.persistence;
+
+import com.bank.adapter.output.persistence.entity.AccountEntity;
+import com.bank.adapter.output.persistence.entity.AccountSnapshotEntity;
+import com.bank.adapter.output.persistence.entity.AccountTransactionEntity;
+import com.bank.adapter.output.persistence.mapper.AccountEntityMapper;
+import com.bank.adapter.output.persistence.repository.AccountJpaRepository;
+import com.bank.adapter.output.persistence.repository.AccountSnapshotJpaRepository;
+import com.bank.adapter.output.persistence.repository.AccountTransactionJdbcRepository;
+import com.bank.application.service.account.EventSourcingProperties;
+import com.bank.application.service.concurrency.ConcurrencyProperties;
+import com.bank.domain.account.entity.Account;
+import com.bank.domain.account.valueobject.AccountId;
+import com.bank.domain.account.valueobject.Money;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.math.BigDecimal;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest(properties = {
+        "bank.event-sourcing.enabled=true",
+        "bank.event-sourcing.snapshot-interval=2"
+})
+@Import(AccountTransactionJdbcRepository.class)
+@EnableConfigurationProperties({ConcurrencyProperties.class, EventSourcingProperties.class})
+@ExtendWith(SpringExtension.class)
+class PersistenceAccountRepositoryServiceEventSourcingTest {
+
+    @SpyBean
+    private PersistenceAccountRepositoryService persistenceAccountRepositoryService;
+
+    @SpyBean
+    private AccountEntityMapper mapper;
+
+    @SpyBean
+    private AccountJpaRepository accountJpaRepository;
+
+    @SpyBean
+    private AccountSnapshotJpaRepository accountSnapshotJpaRepository;
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Test
+    @DisplayName("계좌 갱신 성공 - 계좌 행의 잔액은 바꾸지 않고 거래만 순번과 함께 추가한다.")
+    void 계좌_갱신_성공_거래추가() {
+        // given
+        Account account = Account.createAccount("홍길동");
+        persistenceAccountRepositoryService.create(account);
+        account.deposit(money(10_000));
+        account.withdraw(money(1_000));
+
+        // when
+        persistenceAccountRepositoryService.update(account);
+        em.flush();
+        em.clear();
+
+        // then
+        AccountEntity accountEntity = accountJpaRepository.findById(account.getId().getValue())
+                .orElseThrow(() -> new RuntimeException("계좌를 찾을 수 없습니다."));
+        List<Long> eventSequences = accountEntity.getTransactions().stream()
+                .map(AccountTransactionEntity::getEventSequence)
+                .sorted()
+                .toList();
+        assertEquals(0, BigDecimal.ZERO.compareTo(accountEntity.getBalance()), "계좌 행의 잔액은 갱신되지 않아야 합니다.");
+        assertEquals(List.of(1L, 2L), eventSequences, "거래는 계좌별 순번으로 추가되어야 합니다.");
+        assertEquals(2L, account.getEventSequence(), "마지막 거래 순번이 일치하지 않습니다.");
+    }
+
+    @Test
+    @DisplayName("계좌 조회 성공 - 최근 스냅샷과 이후 거래로 복원한다.")
+    void 계좌_조회_성공_스냅샷복원() {
+        // given
+        Account account = Account.createAccount("홍길동");
+        Account receiverAccount = Account.createAccount("임꺽정");
+        persistenceAccountRepositoryService.create(account);
+        persistenceAccountRepositoryService.create(receiverAccount);
+        for (int i = 0; i < 3; i++) {
+            Account findAccount = findAccount(account);
+            findAccount.deposit(money(10_000));
+            persistenceAccountRepositoryService.update(findAccount);
+            em.flush();
+            em.clear();
+        }
+        Account findAccount = findAccount(account);
+        findAccount.transfer(receiverAccount.getId(), money(5_000));
+        persistenceAccountRepositoryService.update(findAccount);
+        em.flush();
+        em.clear();
+
+        // when
+        Account restoredAccount = findAccount(account);
+
+        // then
+        AccountSnapshotEntity snapshotEntity = accountSnapshotJpaRepository.findById(account.getId().getValue())
+                .orElseThrow(() -> new RuntimeException("스냅샷을 찾을 수 없습니다."));
+        assertEquals(4L, snapshotEntity.getEventSequence(), "스냅샷은 간격(2)마다 갱신되어야 합니다.");
+        assertEquals(4L, restoredAccount.getEventSequence(), "마지막 거래 순번이 일치하지 않습니다.");
+        assertEquals(findAccount.getBalance(), restoredAccount.getBalance(), "복원한 잔액(수수료 차감)이 일치하지 않습니다.");
+        assertEquals(findAccount.getDailyLimitUsage(), restoredAccount.getDailyLimitUsage(), "복원한 일일 한도 사용량이 일치하지 않습니다.");
+    }
+
+    @Test
+    @DisplayName("계좌 조회 성공 - 스냅샷이 없는 기존 계좌는 계좌 행을 기준으로 복원한다.")
+    void 계좌_조회_성공_기존계좌() {
+        // given
+        Account account = Account.builder()
+                .id(AccountId.generateId())
+                .accountNumber(Account.createAccount("홍길동").getAccountNumber())
+                .accountHolderName("홍길동")
+                .balance(money(50_000))
+                .createdAt(ZonedDateTime.now())
+                .build();
+        accountJpaRepository.save(mapper.map(account));
+        em.flush();
+        em.clear();
+
+        // when
+        Account findAccount = findAccount(account);
+        findAccount.withdraw(money(10_000));
+        persistenceAccountRepositoryService.update(findAccount);
+        em.flush();
+        em.clear();
+
+        // then
+        assertEquals(money(40_000), findAccount(account).getBalance(), "계좌 잔액이 일치하지 않습니다.");
+        assertEquals(1L, accountSnapshotJpaRepository.findById(account.getId().getValue())
+                .map(AccountSnapshotEntity::getEventSequence)
+                .orElseThrow(() -> new RuntimeException("스냅샷을 찾을 수 없습니다.")), "첫 거래 추가 시 스냅샷이 남아야 합니다.");
+    }
+
+    @Test
+    @DisplayName("조건부 입금 실패 - 이벤트 저장 모드에서는 도메인 규칙으로 처리한다.")
+    void 조건부_입금_실패_이벤트저장모드() {
+        // given
+        Account account = Account.createAccount("홍길동");
+        persistenceAccountRepositoryService.create(account);
+        em.flush();
+
+        // when, then
+        assertTrue(persistenceAccountRepositoryService.tryDeposit(account.getAccountNumber(), money(10_000)).isEmpty(), "조건부 입금은 처리되지 않아야 합니다.");
+    }
+
+    private Account findAccount(Account account) {
+        return persistenceAccountRepositoryService.findByAccountNumber(account.getAccountNumber())
+                .orElseThrow(() -> new RuntimeException("계좌를 찾을 수 없습니다."));
+    }
+
+    private static Money money(long amount) {
+        return Money.of(new BigDecimal(amount));
+    }
+}
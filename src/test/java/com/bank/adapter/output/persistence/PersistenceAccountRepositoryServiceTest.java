@@ -1,27 +1,54 @@
 package com.bank.adapter.output.persistence;
 
 import com.bank.adapter.output.persistence.entity.AccountEntity;
+import com.bank.adapter.output.persistence.entity.WithdrawalTransactionEntity;
 import com.bank.adapter.output.persistence.mapper.AccountEntityMapper;
 import com.bank.adapter.output.persistence.repository.AccountJpaRepository;
+import com.bank.adapter.output.persistence.repository.AccountTransactionJdbcRepository;
+import com.bank.application.port.input.dto.AccountStatementLine;
+import com.bank.application.port.input.dto.AccountStatementSlice;
+import com.bank.application.port.input.dto.AccountTransactionRetrieveResponse;
+import com.bank.application.service.account.EventSourcingProperties;
+import com.bank.application.service.concurrency.ConcurrencyProperties;
 import com.bank.domain.account.entity.Account;
+import com.bank.domain.account.entity.AccountStatus;
+import com.bank.domain.account.entity.DepositTransaction;
+import com.bank.domain.account.entity.TransferTransaction;
 import com.bank.domain.account.entity.WithdrawalTransaction;
+import com.bank.domain.account.valueobject.AccountNumber;
 import com.bank.domain.account.valueobject.FeeRate;
 import com.bank.domain.account.valueobject.Money;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @DataJpaTest
+@Import(AccountTransactionJdbcRepository.class)
+@EnableConfigurationProperties({ConcurrencyProperties.class, EventSourcingProperties.class})
 @ExtendWith(SpringExtension.class)
 class PersistenceAccountRepositoryServiceTest {
 
@@ -90,6 +117,30 @@ class PersistenceAccountRepositoryServiceTest {
         assertEquals(account.getTransactions().size(), findAccount.getTransactions().size(), "계좌 거래 내역 수가 일치하지 않습니다.");
     }
 
+    @Test
+    @DisplayName("계좌 조회 성공 - 거래 내역은 불러오지 않는다.(쓰기 모델)")
+    void 계좌_조회_성공_쓰기모델() {
+        // given
+        Account account = Account.createAccount("홍길동");
+        accountJpaRepository.save(mapper.map(account));
+        account.deposit(Money.of(new BigDecimal(10_000)));
+        account.withdraw(Money.of(new BigDecimal(1_000)));
+        persistenceAccountRepositoryService.update(account);
+        em.flush();
+        em.clear();
+
+        // when
+        Account findAccount = persistenceAccountRepositoryService.findByAccountNumber(account.getAccountNumber())
+                .orElseThrow(() -> new RuntimeException("계좌를 찾을 수 없습니다."));
+
+        // then
+        AccountEntity accountEntity = em.find(AccountEntity.class, account.getId().getValue());
+        assertFalse(em.getEntityManagerFactory().getPersistenceUnitUtil().isLoaded(accountEntity, "transactions"), "거래 내역은 로딩되지 않아야 합니다.");
+        assertTrue(findAccount.getTransactions().isEmpty(), "쓰기 모델은 거래 내역을 포함하지 않아야 합니다.");
+        assertEquals(account.getBalance(), findAccount.getBalance(), "계좌 잔액이 일치하지 않습니다.");
+        assertEquals(account.getDailyLimitUsage(), findAccount.getDailyLimitUsage(), "일일 한도 사용량이 일치하지 않습니다.");
+    }
+
     @Test
     @DisplayName("계좌 업데이트 성공")
     void 계좌_업데이트_성공() {
@@ -107,21 +158,16 @@ class PersistenceAccountRepositoryServiceTest {
                 .withdrawLimitAmount(Money.of(new BigDecimal(2_000_000)))
                 .transferLimitAmount(Money.of(new BigDecimal(5_000_000)))
                 .transferFeeRate(FeeRate.of(new BigDecimal("0.05")))
-                .transactions(
-                        List.of(
-                                WithdrawalTransaction.recordWithdrawalTransaction(
-                                        account.getId(),
-                                        Money.of(new BigDecimal(1_000_000)),
-                                        account.getBalance().subtract(Money.of(new BigDecimal(1_000_000)))
-                                )
-                        )
-                )
                 .createdAt(account.getCreatedAt())
                 .build();
+        // 갱신 시에는 이번 작업 단위에서 발생한 거래만 추가된다.
+        updateAccount.withdraw(Money.of(new BigDecimal(1_000_000)));
 
         // when
         persistenceAccountRepositoryService.update(updateAccount);
         em.flush();
+        // 거래는 JDBC 배치로 추가되므로 영속성 컨텍스트를 비우고 다시 읽는다.
+        em.clear();
 
         // then
         AccountEntity accountEntity = accountJpaRepository.findByAccountNumber(account.getAccountNumber().value())
@@ -134,8 +180,311 @@ class PersistenceAccountRepositoryServiceTest {
         assertEquals(updateAccount.getWithdrawLimitAmount().amount(), accountEntity.getWithdrawLimitAmount(), "계좌 출금 한도가 일치하지 않습니다.");
         assertEquals(updateAccount.getTransferLimitAmount().amount(), accountEntity.getTransferLimitAmount(), "계좌 이체 한도가 일치하지 않습니다.");
         assertEquals(updateAccount.getTransferFeeRate().percentage(), accountEntity.getTransferFeeRate(), "계좌 이체 수수료 비율이 일치하지 않습니다.");
-        assertEquals(updateAccount.getCreatedAt(), accountEntity.getCreatedAt(), "계좌 생성 시간이 일치하지 않습니다.");
+        // 다시 읽은 값이므로 컬럼 정밀도(마이크로초, 반올림) 안에서 비교한다.
+        assertTrue(Duration.between(updateAccount.getCreatedAt(), accountEntity.getCreatedAt()).abs().toNanos() < 1_000, "계좌 생성 시간이 일치하지 않습니다.");
         assertEquals(updateAccount.getDestroyedAt(), accountEntity.getDestroyedAt(), "계좌 파기 시간이 일치하지 않습니다.");
         assertEquals(updateAccount.getTransactions().size(), accountEntity.getTransactions().size(), "계좌 거래 내역 수가 일치하지 않습니다.");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("계좌 업데이트 성공 - 이미 저장된 거래는 다시 저장하지 않는다.")
+    void 계좌_업데이트_성공_신규거래만저장() {
+        // given
+        Account account = Account.createAccount("홍길동");
+        persistenceAccountRepositoryService.create(account);
+        account.deposit(Money.of(new BigDecimal(10_000)));
+        persistenceAccountRepositoryService.update(account);
+        em.flush();
+        em.clear();
+
+        Account findAccount = persistenceAccountRepositoryService.findByAccountNumber(account.getAccountNumber())
+                .orElseThrow(() -> new RuntimeException("계좌를 찾을 수 없습니다."));
+        findAccount.withdraw(Money.of(new BigDecimal(1_000)));
+
+        // when
+        persistenceAccountRepositoryService.update(findAccount);
+        em.flush();
+        em.clear();
+
+        // then
+        AccountEntity accountEntity = accountJpaRepository.findById(account.getId().getValue())
+                .orElseThrow(() -> new RuntimeException("계좌를 찾을 수 없습니다."));
+        assertTrue(findAccount.getNewTransactions().isEmpty(), "저장된 신규 거래는 비워져야 합니다.");
+        assertEquals(2, accountEntity.getTransactions().size(), "계좌 거래 내역 수가 일치하지 않습니다.");
+        assertEquals(0, new BigDecimal(9_000).compareTo(accountEntity.getBalance()), "계좌 잔액이 일치하지 않습니다.");
+    }
+
+    @Test
+    @DisplayName("계좌 조회 성공 - 일일 한도 사용량이 없는 계좌는 오늘자 거래 내역으로 집계된다.")
+    void 계좌_조회_성공_일일한도_집계() {
+        // given
+        AccountEntity accountEntity = accountJpaRepository.save(
+                AccountEntity.builder()
+                        .id(UUID.randomUUID())
+                        .accountNumber("0000-000-000001")
+                        .accountHolderName("홍길동")
+                        .balance(new BigDecimal(1_000_000))
+                        .status(AccountStatus.ACTIVE)
+                        .withdrawLimitAmount(Account.DEFAULT_WITHDRAW_LIMIT_AMOUNT.amount())
+                        .transferLimitAmount(Account.DEFAULT_TRANSFER_LIMIT_AMOUNT.amount())
+                        .transferFeeRate(Account.DEFAULT_TRANSFER_FEE_RATE.percentage())
+                        .createdAt(ZonedDateTime.now())
+                        .transactions(List.of())
+                        .build()
+        );
+        accountEntity.addTransaction(
+                WithdrawalTransactionEntity.builder()
+                        .id(UUID.randomUUID())
+                        .amount(new BigDecimal(300_000))
+                        .balance(new BigDecimal(1_000_000))
+                        .transactionAt(ZonedDateTime.now())
+                        .build()
+        );
+        em.flush();
+        em.clear();
+
+        // when
+        Account findAccount = persistenceAccountRepositoryService.findByAccountNumber(AccountNumber.of("0000-000-000001"))
+                .orElseThrow(() -> new RuntimeException("계좌를 찾을 수 없습니다."));
+
+        // then
+        assertEquals(LocalDate.now(), findAccount.getDailyLimitUsage().usageDate(), "일일 한도 기준일은 오늘이어야 한다.");
+        assertEquals(0, new BigDecimal(300_000).compareTo(findAccount.getDailyLimitUsage().withdrawalAmount().amount()), "일일 출금 누적액이 일치하지 않습니다.");
+        assertEquals(0, BigDecimal.ZERO.compareTo(findAccount.getDailyLimitUsage().transferAmount().amount()), "일일 이체 누적액이 일치하지 않습니다.");
+    }
+
+    @Test
+    @DisplayName("조건부 출금 성공 - 계좌를 불러오지 않고 잔액과 일일 사용량을 갱신한다.")
+    void 조건부_출금_성공() {
+        // given
+        Account account = Account.createAccount("홍길동");
+        persistenceAccountRepositoryService.create(account);
+        account.deposit(Money.of(new BigDecimal(10_000)));
+        persistenceAccountRepositoryService.update(account);
+        em.flush();
+        em.clear();
+
+        // when
+        Optional<WithdrawalTransaction> transaction = persistenceAccountRepositoryService.tryWithdraw(account.getAccountNumber(), Money.of(new BigDecimal(1_000)));
+        em.flush();
+        em.clear();
+
+        // then
+        AccountEntity accountEntity = accountJpaRepository.findById(account.getId().getValue())
+                .orElseThrow(() -> new RuntimeException("계좌를 찾을 수 없습니다."));
+        assertTrue(transaction.isPresent(), "조건부 출금이 처리되어야 합니다.");
+        assertEquals(0, new BigDecimal(9_000).compareTo(transaction.get().getBalance().amount()), "거래 후 잔액이 일치하지 않습니다.");
+        assertEquals(0, new BigDecimal(9_000).compareTo(accountEntity.getBalance()), "계좌 잔액이 일치하지 않습니다.");
+        assertEquals(0, new BigDecimal(1_000).compareTo(accountEntity.getDailyWithdrawalAmount()), "일일 출금 누적액이 일치하지 않습니다.");
+        assertEquals(2, accountEntity.getTransactions().size(), "계좌 거래 내역 수가 일치하지 않습니다.");
+    }
+
+    @Test
+    @DisplayName("조건부 입출금 실패 - 조건을 만족하지 않으면 아무것도 변경하지 않는다.")
+    void 조건부_입출금_실패_조건불일치() {
+        // given
+        Account account = Account.createAccount("홍길동");
+        persistenceAccountRepositoryService.create(account);
+        Account destroyedAccount = Account.createAccount("임꺽정");
+        destroyedAccount.destroy();
+        persistenceAccountRepositoryService.create(destroyedAccount);
+        em.flush();
+        em.clear();
+
+        // when
+        Optional<WithdrawalTransaction> withdrawal = persistenceAccountRepositoryService.tryWithdraw(account.getAccountNumber(), Money.of(new BigDecimal(1_000)));
+        Optional<DepositTransaction> deposit = persistenceAccountRepositoryService.tryDeposit(destroyedAccount.getAccountNumber(), Money.of(new BigDecimal(1_000)));
+        em.flush();
+        em.clear();
+
+        // then
+        assertTrue(withdrawal.isEmpty(), "잔액이 부족하면 조건부 출금은 처리되지 않아야 합니다.");
+        assertTrue(deposit.isEmpty(), "해지된 계좌는 조건부 입금이 처리되지 않아야 합니다.");
+        AccountEntity accountEntity = accountJpaRepository.findById(account.getId().getValue())
+                .orElseThrow(() -> new RuntimeException("계좌를 찾을 수 없습니다."));
+        assertEquals(0, BigDecimal.ZERO.compareTo(accountEntity.getBalance()), "계좌 잔액이 일치하지 않습니다.");
+        assertTrue(accountEntity.getTransactions().isEmpty(), "거래 내역이 추가되지 않아야 합니다.");
+    }
+
+    @Test
+    @DisplayName("잔액 분산 계좌 - 수취 금액은 분산 행에 적재되고 잠금 조회 시 잔액으로 통합된다.")
+    void 잔액분산_수취_통합() {
+        // given
+        Account sender = Account.createAccount("홍길동");
+        Account receiver = Account.createAccount("임꺽정");
+        persistenceAccountRepositoryService.create(sender);
+        persistenceAccountRepositoryService.create(receiver);
+        receiver.enableBalanceStriping(4);
+        persistenceAccountRepositoryService.update(receiver);
+        em.flush();
+        em.clear();
+
+        // when
+        Account stripedReceiver = persistenceAccountRepositoryService.findAllForTransfer(List.of(sender.getAccountNumber()), List.of(receiver.getAccountNumber())).stream()
+                .filter(account -> account.getAccountNumber().equals(receiver.getAccountNumber()))
+                .findFirst()
+                .orElseThrow(() -> new RuntimeException("계좌를 찾을 수 없습니다."));
+        stripedReceiver.receive(sender.getId(), Money.of(new BigDecimal(10_000)));
+        stripedReceiver.receive(sender.getId(), Money.of(new BigDecimal(5_000)));
+        persistenceAccountRepositoryService.update(stripedReceiver);
+        em.flush();
+        em.clear();
+
+        // then
+        AccountEntity accountEntity = accountJpaRepository.findById(receiver.getId().getValue())
+                .orElseThrow(() -> new RuntimeException("계좌를 찾을 수 없습니다."));
+        assertEquals(0, BigDecimal.ZERO.compareTo(accountEntity.getBalance()), "통합 전에는 계좌 행의 잔액이 바뀌지 않아야 합니다.");
+        em.clear();
+
+        Account consolidatedAccount = persistenceAccountRepositoryService.findByAccountNumber(receiver.getAccountNumber())
+                .orElseThrow(() -> new RuntimeException("계좌를 찾을 수 없습니다."));
+        assertEquals(0, new BigDecimal(15_000).compareTo(consolidatedAccount.getBalance().amount()), "잠금 조회 시 분산 잔액이 통합되어야 합니다.");
+    }
+
+    @Test
+    @DisplayName("이체 분개 - 송금/수취 다리가 같은 분개 식별자로 한 번에 추가된다.")
+    void 이체_분개_송금수취_한번에추가() {
+        // given
+        Account sender = Account.createAccount("홍길동");
+        Account receiver = Account.createAccount("임꺽정");
+        persistenceAccountRepositoryService.create(sender);
+        persistenceAccountRepositoryService.create(receiver);
+        sender.deposit(Money.of(new BigDecimal(100_000)));
+        persistenceAccountRepositoryService.update(sender);
+        em.flush();
+        em.clear();
+
+        TransferTransaction transfer = sender.transfer(receiver.getId(), Money.of(new BigDecimal(10_000)));
+        receiver.receive(transfer);
+
+        // when
+        persistenceAccountRepositoryService.updateAll(List.of(sender, receiver));
+        em.flush();
+        em.clear();
+
+        // then
+        List<?> legs = em.createNativeQuery("""
+                        SELECT dtype
+                        FROM account_transaction
+                        WHERE journal_entry_id = ?1
+                        """)
+                .setParameter(1, transfer.getId().getValue())
+                .getResultList();
+        assertEquals(2, legs.size(), "송금/수취 다리가 같은 분개로 추가되어야 합니다.");
+        assertTrue(sender.getNewTransactions().isEmpty() && receiver.getNewTransactions().isEmpty(), "저장된 신규 거래는 비워져야 합니다.");
+        AccountEntity receiverEntity = accountJpaRepository.findById(receiver.getId().getValue())
+                .orElseThrow(() -> new RuntimeException("계좌를 찾을 수 없습니다."));
+        assertEquals(0, new BigDecimal(10_000).compareTo(receiverEntity.getBalance()), "수취 계좌 잔액이 일치하지 않습니다.");
+    }
+
+    @Test
+    @DisplayName("송금/수취 내역 조회 - 페이지 크기와 무관한 쿼리 수")
+    void 송금수취_내역조회_쿼리수_고정() {
+        // given
+        Account sender = Account.createAccount("홍길동");
+        Account receiver = Account.createAccount("임꺽정");
+        persistenceAccountRepositoryService.create(sender);
+        persistenceAccountRepositoryService.create(receiver);
+        sender.deposit(Money.of(new BigDecimal(1_000_000)));
+        for (int i = 0; i < 30; i++) {
+            sender.transfer(receiver.getId(), Money.of(new BigDecimal(1_000)));
+            receiver.receive(sender.getId(), Money.of(new BigDecimal(1_000)));
+        }
+        persistenceAccountRepositoryService.update(sender);
+        persistenceAccountRepositoryService.update(receiver);
+        em.flush();
+        em.clear();
+        Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+
+        // when
+        List<Long> pageStatementCounts = new ArrayList<>();
+        List<Long> sliceStatementCounts = new ArrayList<>();
+        Page<AccountTransactionRetrieveResponse.Transaction> receiverPage = null;
+        for (int size : new int[]{5, 20}) {
+            statistics.clear();
+            receiverPage = persistenceAccountRepositoryService.findAllTransferTransactionOrReceiveTransaction(receiver.getId(), 0, size);
+            pageStatementCounts.add(statistics.getPrepareStatementCount());
+
+            statistics.clear();
+            persistenceAccountRepositoryService.findTransferTransactionOrReceiveTransactionSlice(sender.getId(), null, size);
+            sliceStatementCounts.add(statistics.getPrepareStatementCount());
+        }
+
+        // then
+        assertEquals(List.of(2L, 2L), pageStatementCounts, "페이지 조회는 크기와 무관하게 조회 + 건수 2회여야 합니다.");
+        assertEquals(List.of(1L, 1L), sliceStatementCounts, "커서 조회는 크기와 무관하게 1회여야 합니다.");
+        AccountTransactionRetrieveResponse.Transaction receive = receiverPage.getContent().get(0);
+        assertEquals(sender.getAccountNumber(), receive.senderAccountNumber(), "수취 내역의 송금 계좌가 일치해야 합니다.");
+        assertEquals(receiver.getAccountNumber(), receive.receiverAccountNumber(), "수취 내역의 수취 계좌는 보유 계좌여야 합니다.");
+        assertEquals(30, receiverPage.getTotalElements(), "수취 내역 건수가 일치해야 합니다.");
+    }
+
+    @Test
+    @DisplayName("거래명세 조회 - 키셋 커서로 시간순 페이지를 이어서 조회")
+    void 거래명세_키셋페이지_조회() {
+        // given
+        Account account = Account.createAccount("홍길동");
+        persistenceAccountRepositoryService.create(account);
+        account.deposit(Money.of(new BigDecimal(10_000)));
+        account.withdraw(Money.of(new BigDecimal(1_000)));
+        account.withdraw(Money.of(new BigDecimal(2_000)));
+        persistenceAccountRepositoryService.update(account);
+        em.flush();
+        em.clear();
+
+        // when
+        AccountStatementSlice firstSlice = persistenceAccountRepositoryService.findStatementSlice(account.getId(), null, 2);
+        AccountStatementSlice lastSlice = persistenceAccountRepositoryService.findStatementSlice(account.getId(), firstSlice.nextCursor(), 2);
+
+        // then
+        assertTrue(firstSlice.hasNext(), "남은 거래가 있으면 다음 커서가 있어야 합니다.");
+        assertFalse(lastSlice.hasNext(), "마지막 페이지는 다음 커서가 없어야 합니다.");
+        List<AccountStatementLine> lines = new ArrayList<>(firstSlice.lines());
+        lines.addAll(lastSlice.lines());
+        assertEquals(
+                List.of(AccountStatementLine.Type.DEPOSIT, AccountStatementLine.Type.WITHDRAWAL, AccountStatementLine.Type.WITHDRAWAL),
+                lines.stream().map(AccountStatementLine::type).toList(),
+                "거래는 빠짐없이 시간순이어야 합니다."
+        );
+        assertEquals(Money.of(new BigDecimal(7_000)), lines.get(2).balance(), "마지막 거래 후 잔액이 일치해야 합니다.");
+    }
+
+    @Test
+    @DisplayName("거래 내역/한도 집계 쿼리 인덱스 사용")
+    void 거래내역_한도집계_인덱스_사용() {
+        // given
+        UUID accountId = UUID.randomUUID();
+
+        // when
+        String historyPlan = explain("""
+                SELECT id, transaction_at
+                FROM account_transaction
+                WHERE account_id = ?1
+                AND dtype IN (1, 2)
+                ORDER BY transaction_at DESC, id DESC
+                LIMIT 21
+                """, accountId);
+        String limitPlan = explain("""
+                SELECT COALESCE(SUM(amount), 0)
+                FROM account_transaction
+                WHERE account_id = ?1
+                AND dtype = 3
+                AND transaction_at >= CURRENT_DATE
+                """, accountId);
+
+        // then
+        assertTrue(historyPlan.toUpperCase().contains("IX_ACCOUNT_TRANSACTION_"), "거래 내역 조회는 거래 인덱스를 사용해야 합니다. " + historyPlan);
+        assertFalse(historyPlan.contains("tableScan"), "거래 내역 조회는 전체 스캔하지 않아야 합니다. " + historyPlan);
+        assertTrue(limitPlan.toUpperCase().contains("IX_ACCOUNT_TRANSACTION_LIMIT"), "한도 집계는 한도 인덱스를 사용해야 합니다. " + limitPlan);
+    }
+
+    private String explain(String sql, Object... parameters) {
+        Query query = em.createNativeQuery("EXPLAIN " + sql);
+        for (int i = 0; i < parameters.length; i++) {
+            query.setParameter(i + 1, parameters[i]);
+        }
+
+        return String.valueOf(query.getSingleResult());
+    }
+}
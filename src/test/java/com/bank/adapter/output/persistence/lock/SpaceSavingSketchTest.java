@@ -0,0 +1,76 @@
+package com.bank.adapter.output.persistence.lock;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpaceSavingSketchTest {
+
+    @Test
+    @DisplayName("상위 항목 집계 성공 - 추적 수 이하이면 정확한 값")
+    void 상위_항목_집계_성공_정확() {
+        // given
+        SpaceSavingSketch<String> sketch = new SpaceSavingSketch<>(10);
+
+        // when
+        sketch.add("A", 5);
+        sketch.add("B", 3);
+        sketch.add("A", 2);
+        sketch.add("C", 1);
+
+        // then
+        List<SpaceSavingSketch.Entry<String>> top = sketch.top(2);
+        assertEquals(List.of(new SpaceSavingSketch.Entry<>("A", 7, 0), new SpaceSavingSketch.Entry<>("B", 3, 0)), top, "가중치 내림차순으로 정확히 집계되어야 한다.");
+    }
+
+    @Test
+    @DisplayName("상위 항목 집계 성공 - 추적 수를 넘어도 빈발 항목 유지 및 오차 범위 보장")
+    void 상위_항목_집계_성공_빈발항목_유지() {
+        // given
+        SpaceSavingSketch<String> sketch = new SpaceSavingSketch<>(20);
+        Random random = new Random(42);
+
+        // when: 3 개의 경합 계좌 + 10,000 개의 드문 계좌
+        for (int i = 0; i < 100_000; i++) {
+            if (i % 10 == 0) {
+                sketch.add("HOT-" + (i / 10 % 3), 100);
+            } else {
+                sketch.add("COLD-" + random.nextInt(10_000), 1);
+            }
+        }
+
+        // then
+        List<SpaceSavingSketch.Entry<String>> top = sketch.top(3);
+        assertEquals(3, top.size(), "요청한 수만큼 반환해야 한다.");
+        top.forEach(entry -> {
+            assertTrue(entry.key().startsWith("HOT-"), "경합 계좌가 상위에 있어야 한다.");
+            long exact = 100L * 10_000 / 3;
+            assertTrue(entry.weight() >= exact - 100 && entry.weight() - entry.error() <= exact + 100, "실제 가중치는 [weight - error, weight] 범위에 있어야 한다.");
+        });
+        assertEquals(20, sketch.top(100).size(), "추적 항목 수는 capacity 를 넘지 않아야 한다.");
+    }
+
+    @Test
+    @DisplayName("집계 초기화 성공")
+    void 집계_초기화_성공() {
+        // given
+        SpaceSavingSketch<String> sketch = new SpaceSavingSketch<>(10);
+        sketch.add("A", 1);
+
+        // when
+        sketch.clear();
+
+        // then
+        assertTrue(sketch.top(10).isEmpty(), "초기화 후에는 비어 있어야 한다.");
+    }
+
+    @Test
+    @DisplayName("생성 실패 - 추적 수 0")
+    void 생성_실패_추적수_0() {
+        assertThrows(IllegalArgumentException.class, () -> new SpaceSavingSketch<String>(0), "추적 수는 0 보다 커야 한다.");
+    }
+}
@@ -1,26 +1,43 @@
 package com.bank.application.service;
 
 import com.bank.adapter.output.persistence.entity.AccountEntity;
+import com.bank.adapter.output.persistence.lock.AccountLockContentionMonitor;
+import com.bank.adapter.output.persistence.lock.SpaceSavingSketch;
 import com.bank.adapter.output.persistence.repository.AccountJpaRepository;
+import com.bank.application.exception.AccountNotFoundException;
+import com.bank.application.port.input.ReconcileLedgerUseCase;
 import com.bank.application.port.input.dto.*;
 import com.bank.application.port.output.persistence.AccountRepository;
 import com.bank.domain.account.entity.Account;
 import com.bank.domain.account.entity.AccountStatus;
 import com.bank.domain.account.exception.AccountStatusInvalidException;
 import com.bank.domain.account.exception.InsufficientBalanceException;
+import com.bank.domain.account.exception.TransferLimitExceededException;
 import com.bank.domain.account.valueobject.Money;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springdoc.webmvc.ui.SwaggerConfig;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.Random;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 
@@ -39,6 +56,21 @@ class BankServiceIntegrationTest {
     @Autowired
     private AccountJpaRepository accountJpaRepository;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private AccountLockContentionMonitor accountLockContentionMonitor;
+
+    @Autowired
+    private ReconcileLedgerUseCase reconcileLedgerUseCase;
+
     @Test
     @DisplayName("계좌 생성 성공")
     void 계좌_생성_성공() {
@@ -295,6 +327,113 @@ class BankServiceIntegrationTest {
         assertEquals(depositAmount.subtract(transferAmount).subtract(transferMoneyResponse.transferFee()).amount(), transferMoneyResponse.balance().amount(), "송금자 계좌 잔액이 정확해야 합니다.(수수료 계산)");
     }
 
+    @Test
+    @DisplayName("장부 대사 성공 - 이체 후에도 거래 합계와 계좌 잔액 합계의 차이가 바뀌지 않는다.")
+    void 장부_대사_성공_이체후_균형유지() {
+        // given
+        Account senderAccount = Account.createAccount("홍길동");
+        Account receiverAccount = Account.createAccount("김철수");
+        accountRepository.create(senderAccount);
+        accountRepository.create(receiverAccount);
+        LedgerReconciliationResponse before = reconcileLedgerUseCase.reconcileLedger();
+
+        // when
+        bankService.deposit(new DepositMoneyCommand(senderAccount.getAccountNumber(), Money.of(new BigDecimal(2_000_000L))));
+        TransferMoneyResponse transferMoneyResponse = bankService.transfer(
+                new TransferMoneyCommand(senderAccount.getAccountNumber(), receiverAccount.getAccountNumber(), Money.of(new BigDecimal(1_000_000L)))
+        );
+
+        // then
+        LedgerReconciliationResponse after = reconcileLedgerUseCase.reconcileLedger();
+        assertEquals(before.difference(), after.difference(), "거래 합계와 계좌 잔액 합계의 차이가 바뀌지 않아야 합니다.");
+        assertEquals(before.transferFee().add(transferMoneyResponse.transferFee()), after.transferFee(), "수수료 합계가 일치해야 합니다.");
+        assertEquals(0, after.unbalancedJournalEntryCount(), "송금/수취 다리가 맞지 않는 분개가 없어야 합니다.");
+    }
+
+    @Test
+    @DisplayName("계좌 송금 성공 - 양방향 교차 송금 동시 요청시 교착 상태(락 타임아웃) 없이 모두 성공해야 한다.")
+    void 계좌_송금_성공_교차_동시요청() {
+        // given
+        CreateAccountResponse firstAccount = bankService.createAccount(new CreateAccountCommand("홍길동"));
+        CreateAccountResponse secondAccount = bankService.createAccount(new CreateAccountCommand("김철수"));
+        Money depositAmount = Money.of(new BigDecimal(2_000_000L));
+        bankService.deposit(new DepositMoneyCommand(firstAccount.accountNumber(), depositAmount));
+        bankService.deposit(new DepositMoneyCommand(secondAccount.accountNumber(), depositAmount));
+
+        int executorCount = 2000;
+        Money transferAmount = Money.of(new BigDecimal(1_000L));
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        CompletableFuture[] futures = new CompletableFuture[executorCount];
+        AtomicInteger failCount = new AtomicInteger(0);
+
+        for (int i = 0; i < executorCount; i++) {
+            TransferMoneyCommand transferMoneyCommand = i % 2 == 0
+                    ? new TransferMoneyCommand(firstAccount.accountNumber(), secondAccount.accountNumber(), transferAmount)
+                    : new TransferMoneyCommand(secondAccount.accountNumber(), firstAccount.accountNumber(), transferAmount);
+
+            futures[i] = CompletableFuture.runAsync(() -> {
+                try {
+                    bankService.transfer(transferMoneyCommand);
+                } catch (RuntimeException e) {
+                    System.out.println("계좌 송금 실패: " + e.getMessage());
+                    failCount.incrementAndGet();
+                }
+            }, executor);
+        }
+
+        // when
+        CompletableFuture.allOf(futures).join();
+        executor.shutdown();
+
+        // then
+        // 각 계좌는 1,000건 송금(수수료 1%) 과 1,000건 수취가 상쇄되어 수수료만큼 잔액이 줄어야 한다.
+        long expectedBalance = depositAmount.amount().longValue() - (executorCount / 2) * 10L;
+        AccountEntity findFirstAccount = accountJpaRepository.findById(firstAccount.accountId().getValue()).orElseThrow();
+        AccountEntity findSecondAccount = accountJpaRepository.findById(secondAccount.accountId().getValue()).orElseThrow();
+
+        assertEquals(0, failCount.get(), "교착 상태로 실패한 송금이 없어야 합니다.");
+        assertEquals(expectedBalance, findFirstAccount.getBalance().longValue(), "계좌 잔액이 정확해야 합니다.");
+        assertEquals(expectedBalance, findSecondAccount.getBalance().longValue(), "계좌 잔액이 정확해야 합니다.");
+    }
+
+    @Test
+    @DisplayName("계좌 일괄 송금 성공 - 실패한 항목은 건너뛰고 나머지는 반영된다.")
+    void 계좌_일괄_송금_성공() {
+        // given
+        Account senderAccount = Account.createAccount("홍길동");
+        accountRepository.create(senderAccount);
+        bankService.deposit(new DepositMoneyCommand(senderAccount.getAccountNumber(), Money.of(new BigDecimal(1_000_000L))));
+        int receiverCount = 100;
+        List<BatchTransferCommand.Item> items = new ArrayList<>();
+        List<Account> receiverAccounts = new ArrayList<>();
+        for (int i = 0; i < receiverCount; i++) {
+            Account receiverAccount = Account.createAccount("수취인" + i);
+            accountRepository.create(receiverAccount);
+            receiverAccounts.add(receiverAccount);
+            items.add(new BatchTransferCommand.Item(receiverAccount.getAccountNumber(), Money.of(new BigDecimal(1_000L))));
+        }
+        // 없는 계좌, 잔액 초과 항목
+        items.add(new BatchTransferCommand.Item(Account.createAccount("없는 계좌").getAccountNumber(), Money.of(new BigDecimal(1_000L))));
+        items.add(new BatchTransferCommand.Item(receiverAccounts.get(0).getAccountNumber(), Money.of(new BigDecimal(10_000_000L))));
+
+        // when
+        BatchTransferResponse response = bankService.batchTransfer(new BatchTransferCommand(senderAccount.getAccountNumber(), items));
+
+        // then
+        assertEquals(receiverCount, response.succeededCount(), "성공 건수가 일치해야 합니다.");
+        assertFalse(response.results().get(receiverCount).succeeded(), "없는 계좌로의 이체는 실패해야 합니다.");
+        assertFalse(response.results().get(receiverCount + 1).succeeded(), "잔액을 초과한 이체는 실패해야 합니다.");
+
+        BigDecimal expectedSenderBalance = new BigDecimal(1_000_000L).subtract(new BigDecimal(1_010L * receiverCount));
+        AccountEntity senderEntity = accountJpaRepository.findById(senderAccount.getId().getValue()).orElseThrow();
+        assertEquals(0, expectedSenderBalance.compareTo(senderEntity.getBalance()), "송금자 계좌 잔액이 정확해야 합니다.(수수료 포함)");
+        assertEquals(0, expectedSenderBalance.compareTo(response.balance().amount()), "응답 잔액이 정확해야 합니다.");
+        receiverAccounts.forEach(receiverAccount -> {
+            AccountEntity receiverEntity = accountJpaRepository.findById(receiverAccount.getId().getValue()).orElseThrow();
+            assertEquals(0, new BigDecimal(1_000L).compareTo(receiverEntity.getBalance()), "수취 계좌 잔액이 정확해야 합니다.");
+        });
+    }
+
     @Test
     @DisplayName("계좌 송금/수취 조회 성공")
     void 계좌_송금_수취_조회_성공() {
@@ -316,4 +455,259 @@ class BankServiceIntegrationTest {
         // then
         assertEquals(1, retrieveResponse.accountTransactionPage().getTotalElements(), "송금/수취 내역이 1건이어야 합니다.");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("계좌 송금/수취 커서 조회 성공")
+    void 계좌_송금_수취_커서_조회_성공() {
+        // given
+        CreateAccountResponse senderAccountResponse = bankService.createAccount(new CreateAccountCommand("홍길동"));
+        CreateAccountResponse receiverAccountResponse = bankService.createAccount(new CreateAccountCommand("김철수"));
+        bankService.deposit(
+                new DepositMoneyCommand(senderAccountResponse.accountNumber(), Money.of(new BigDecimal(2_000_000L)))
+        );
+        int transferCount = 25;
+        for (int i = 0; i < transferCount; i++) {
+            bankService.transfer(
+                    new TransferMoneyCommand(senderAccountResponse.accountNumber(), receiverAccountResponse.accountNumber(), Money.of(new BigDecimal(1_000L)))
+            );
+        }
+
+        // when
+        List<AccountTransactionRetrieveResponse.Transaction> transactions = new ArrayList<>();
+        AccountTransactionCursor cursor = null;
+        int pageCount = 0;
+        do {
+            AccountTransactionSliceRetrieveResponse sliceResponse = bankService.retrieveAccountTransactionSlice(
+                    new AccountTransactionSliceRetrieveCommand(senderAccountResponse.accountNumber(), cursor, 10)
+            );
+            transactions.addAll(sliceResponse.transactions());
+            cursor = sliceResponse.nextCursor();
+            pageCount++;
+        } while (cursor != null);
+
+        // then
+        assertEquals(3, pageCount, "10건씩 3페이지로 조회되어야 합니다.");
+        assertEquals(transferCount, transactions.size(), "송금 내역이 중복/누락 없이 조회되어야 합니다.");
+        for (int i = 1; i < transactions.size(); i++) {
+            assertFalse(transactions.get(i).transactionAt().isAfter(transactions.get(i - 1).transactionAt()), "최신순으로 정렬되어야 합니다.");
+        }
+    }
+
+    @Test
+    @DisplayName("계좌 파기 후 거래 내역 조회 실패 - 계좌 요약 캐시 무효화")
+    void 계좌_파기후_조회_실패_요약캐시_무효화() {
+        // given
+        CreateAccountResponse accountResponse = bankService.createAccount(new CreateAccountCommand("홍길동"));
+        AccountTransactionRetrieveCommand retrieveCommand = new AccountTransactionRetrieveCommand(accountResponse.accountNumber(), 0, 10);
+        bankService.retrieveAccountTransactions(retrieveCommand);
+        long summaryQueryCount = summaryQueryExecutionCount();
+        bankService.retrieveAccountTransactions(retrieveCommand);
+        assertEquals(summaryQueryCount, summaryQueryExecutionCount(), "두 번째 조회는 계좌 요약 SQL 을 실행하지 않아야 합니다.");
+
+        // when
+        bankService.destroyAccount(new DestroyAccountCommand(accountResponse.accountNumber()));
+
+        // then
+        assertThrows(AccountNotFoundException.class, () -> bankService.retrieveAccountTransactions(retrieveCommand), "파기된 계좌는 캐시와 무관하게 조회되지 않아야 합니다.");
+    }
+
+    @Test
+    @DisplayName("계좌 송금/수취 조회 성공 - 이체 중 잠긴 계좌도 대기 없이 조회")
+    void 계좌_송금_수취_조회_성공_잠금대기없음() throws Exception {
+        // given
+        CreateAccountResponse senderAccountResponse = bankService.createAccount(new CreateAccountCommand("홍길동"));
+        CreateAccountResponse receiverAccountResponse = bankService.createAccount(new CreateAccountCommand("김철수"));
+        bankService.deposit(
+                new DepositMoneyCommand(senderAccountResponse.accountNumber(), Money.of(new BigDecimal(2_000_000L)))
+        );
+        bankService.transfer(
+                new TransferMoneyCommand(senderAccountResponse.accountNumber(), receiverAccountResponse.accountNumber(), Money.of(new BigDecimal(1_000L)))
+        );
+
+        // 다른 트랜잭션이 송금 계좌를 잠근 상태 유지
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        CompletableFuture<Void> lockHolder = CompletableFuture.runAsync(() -> transactionTemplate.executeWithoutResult(status -> {
+            accountRepository.findByAccountNumber(senderAccountResponse.accountNumber());
+            locked.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        assertTrue(locked.await(5, TimeUnit.SECONDS), "계좌 잠금을 획득해야 합니다.");
+
+        try {
+            // when
+            long startedAt = System.nanoTime();
+            AccountTransactionRetrieveResponse senderResponse = bankService.retrieveAccountTransactions(
+                    new AccountTransactionRetrieveCommand(senderAccountResponse.accountNumber(), 0, 10)
+            );
+            AccountTransactionSliceRetrieveResponse receiverResponse = bankService.retrieveAccountTransactionSlice(
+                    new AccountTransactionSliceRetrieveCommand(receiverAccountResponse.accountNumber(), null, 10)
+            );
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+            // then
+            assertTrue(elapsedMillis < 1_000, "조회는 계좌 잠금을 기다리지 않아야 합니다. (" + elapsedMillis + "ms)");
+            AccountTransactionRetrieveResponse.Transaction transfer = senderResponse.accountTransactionPage().getContent().get(0);
+            assertEquals(senderAccountResponse.accountNumber(), transfer.senderAccountNumber(), "송금 내역의 송금 계좌는 보유 계좌여야 합니다.");
+            assertEquals(receiverAccountResponse.accountNumber(), transfer.receiverAccountNumber(), "송금 내역의 수취 계좌가 일치해야 합니다.");
+            AccountTransactionRetrieveResponse.Transaction receive = receiverResponse.transactions().get(0);
+            assertEquals(senderAccountResponse.accountNumber(), receive.senderAccountNumber(), "수취 내역의 송금 계좌가 일치해야 합니다.");
+            assertEquals(receiverAccountResponse.accountNumber(), receive.receiverAccountNumber(), "수취 내역의 수취 계좌는 보유 계좌여야 합니다.");
+        } finally {
+            release.countDown();
+            lockHolder.join();
+        }
+    }
+
+    @Test
+    @DisplayName("계좌 거래명세 내보내기 성공 - 전체 거래 시간순")
+    void 계좌_거래명세_내보내기_성공() {
+        // given
+        CreateAccountResponse senderAccountResponse = bankService.createAccount(new CreateAccountCommand("홍길동"));
+        CreateAccountResponse receiverAccountResponse = bankService.createAccount(new CreateAccountCommand("김철수"));
+        bankService.deposit(
+                new DepositMoneyCommand(senderAccountResponse.accountNumber(), Money.of(new BigDecimal(100_000L)))
+        );
+        bankService.transfer(
+                new TransferMoneyCommand(senderAccountResponse.accountNumber(), receiverAccountResponse.accountNumber(), Money.of(new BigDecimal(10_000L)))
+        );
+        bankService.withdraw(
+                new WithdrawMoneyCommand(senderAccountResponse.accountNumber(), Money.of(new BigDecimal(5_000L)))
+        );
+
+        // when
+        List<AccountStatementLine> senderLines = new ArrayList<>();
+        long senderCount = bankService.exportAccountStatement(senderAccountResponse.accountNumber(), senderLines::add);
+        List<AccountStatementLine> receiverLines = new ArrayList<>();
+        bankService.exportAccountStatement(receiverAccountResponse.accountNumber(), receiverLines::add);
+
+        // then
+        assertEquals(3, senderCount, "송금 계좌의 모든 거래가 내보내져야 합니다.");
+        assertEquals(
+                List.of(AccountStatementLine.Type.DEPOSIT, AccountStatementLine.Type.TRANSFER, AccountStatementLine.Type.WITHDRAWAL),
+                senderLines.stream().map(AccountStatementLine::type).toList(),
+                "거래는 시간순이어야 합니다."
+        );
+        AccountStatementLine transferLine = senderLines.get(1);
+        assertEquals(receiverAccountResponse.accountNumber(), transferLine.counterpartyAccountNumber(), "송금 거래의 상대 계좌는 수취 계좌여야 합니다.");
+        assertNotNull(transferLine.transferFee(), "송금 거래는 수수료를 포함해야 합니다.");
+        assertNull(senderLines.get(0).counterpartyAccountNumber(), "입금 거래는 상대 계좌가 없어야 합니다.");
+        assertEquals(1, receiverLines.size(), "수취 계좌는 수취 거래 1건이어야 합니다.");
+        assertEquals(AccountStatementLine.Type.RECEIVE, receiverLines.get(0).type(), "수취 거래여야 합니다.");
+        assertEquals(senderAccountResponse.accountNumber(), receiverLines.get(0).counterpartyAccountNumber(), "수취 거래의 상대 계좌는 송금 계좌여야 합니다.");
+    }
+
+    @Test
+    @DisplayName("계좌 송금 실패 - 이체 한도 초과 거절 메트릭 기록")
+    void 계좌_송금_실패_한도초과_메트릭() {
+        // given
+        CreateAccountResponse senderAccountResponse = bankService.createAccount(new CreateAccountCommand("홍길동"));
+        CreateAccountResponse receiverAccountResponse = bankService.createAccount(new CreateAccountCommand("김철수"));
+        bankService.deposit(new DepositMoneyCommand(senderAccountResponse.accountNumber(), Money.of(new BigDecimal(5_000_000L))));
+        bankService.transfer(
+                new TransferMoneyCommand(senderAccountResponse.accountNumber(), receiverAccountResponse.accountNumber(), Money.of(new BigDecimal(3_000_000L)))
+        );
+        double rejectedBefore = useCaseCount("transfer", "rejected", "TransferLimitExceededException");
+        double rejectionsBefore = Optional.ofNullable(meterRegistry.find("bank.account.rejections").tag("exception", "TransferLimitExceededException").counter())
+                .map(counter -> counter.count())
+                .orElse(0.0);
+
+        // when
+        assertThrows(
+                TransferLimitExceededException.class,
+                () -> bankService.transfer(new TransferMoneyCommand(senderAccountResponse.accountNumber(), receiverAccountResponse.accountNumber(), Money.of(new BigDecimal(1_000L)))),
+                "이체 한도 초과 예외가 발생해야 합니다."
+        );
+
+        // then
+        assertEquals(rejectedBefore + 1, useCaseCount("transfer", "rejected", "TransferLimitExceededException"), "거절된 이체가 결과/예외 태그로 기록되어야 합니다.");
+        assertEquals(rejectionsBefore + 1, meterRegistry.get("bank.account.rejections").tag("exception", "TransferLimitExceededException").counter().count(), "도메인 규칙 거절 수가 증가해야 합니다.");
+        assertTrue(useCaseCount("transfer", "success", "none") >= 1, "성공한 이체도 기록되어야 합니다.");
+    }
+
+    @Test
+    @DisplayName("계좌 송금 성공 - 잠금 대기 시간 및 경합 계좌 기록")
+    void 계좌_송금_성공_잠금대기_기록() {
+        // given
+        CreateAccountResponse senderAccountResponse = bankService.createAccount(new CreateAccountCommand("홍길동"));
+        CreateAccountResponse receiverAccountResponse = bankService.createAccount(new CreateAccountCommand("김철수"));
+        bankService.deposit(new DepositMoneyCommand(senderAccountResponse.accountNumber(), Money.of(new BigDecimal(100_000L))));
+        accountLockContentionMonitor.reset();
+
+        // when
+        bankService.transfer(
+                new TransferMoneyCommand(senderAccountResponse.accountNumber(), receiverAccountResponse.accountNumber(), Money.of(new BigDecimal(10_000L)))
+        );
+
+        // then
+        assertTrue(meterRegistry.get("bank.account.lock.wait").tag("outcome", "acquired").timers().stream().anyMatch(timer -> timer.count() > 0), "잠금 획득 시간이 기록되어야 합니다.");
+        List<String> hotAccountNumbers = accountLockContentionMonitor.top(10).stream().map(SpaceSavingSketch.Entry::key).toList();
+        assertTrue(hotAccountNumbers.contains(senderAccountResponse.accountNumber().value()), "잠근 송금 계좌가 집계되어야 합니다.");
+        assertTrue(hotAccountNumbers.contains(receiverAccountResponse.accountNumber().value()), "잠근 수취 계좌가 집계되어야 합니다.");
+    }
+
+    @Test
+    @DisplayName("계좌 송금 성공 - 잠그지 않은 잔액 분산 수취 계좌는 경합 계좌로 기록하지 않음")
+    void 계좌_송금_성공_잠금대기_분산수취계좌_제외() {
+        // given
+        CreateAccountResponse senderAccountResponse = bankService.createAccount(new CreateAccountCommand("홍길동"));
+        CreateAccountResponse receiverAccountResponse = bankService.createAccount(new CreateAccountCommand("김철수"));
+        bankService.deposit(new DepositMoneyCommand(senderAccountResponse.accountNumber(), Money.of(new BigDecimal(100_000L))));
+        bankService.enableBalanceStriping(new EnableBalanceStripingCommand(receiverAccountResponse.accountNumber(), 4));
+        accountLockContentionMonitor.reset();
+
+        // when
+        bankService.transfer(
+                new TransferMoneyCommand(senderAccountResponse.accountNumber(), receiverAccountResponse.accountNumber(), Money.of(new BigDecimal(10_000L)))
+        );
+
+        // then
+        List<String> hotAccountNumbers = accountLockContentionMonitor.top(10).stream().map(SpaceSavingSketch.Entry::key).toList();
+        assertTrue(hotAccountNumbers.contains(senderAccountResponse.accountNumber().value()), "잠근 송금 계좌가 집계되어야 합니다.");
+        assertFalse(hotAccountNumbers.contains(receiverAccountResponse.accountNumber().value()), "잠그지 않은 수취 계좌는 집계하지 않아야 합니다.");
+    }
+
+    @Test
+    @DisplayName("잔액 분산 통합 성공 - 분산 잔액을 계좌 잔액으로 통합")
+    void 잔액분산_통합_성공() {
+        // given
+        CreateAccountResponse senderAccountResponse = bankService.createAccount(new CreateAccountCommand("홍길동"));
+        CreateAccountResponse receiverAccountResponse = bankService.createAccount(new CreateAccountCommand("김철수"));
+        bankService.deposit(new DepositMoneyCommand(senderAccountResponse.accountNumber(), Money.of(new BigDecimal(100_000L))));
+        bankService.enableBalanceStriping(new EnableBalanceStripingCommand(receiverAccountResponse.accountNumber(), 4));
+        bankService.transfer(
+                new TransferMoneyCommand(senderAccountResponse.accountNumber(), receiverAccountResponse.accountNumber(), Money.of(new BigDecimal(10_000L)))
+        );
+        assertEquals(0, accountJpaRepository.findById(receiverAccountResponse.accountId().getValue()).orElseThrow().getBalance().compareTo(BigDecimal.ZERO), "수취 금액은 분산 행에 적재되어야 합니다.");
+
+        // when
+        int consolidated = bankService.consolidateBalanceShards();
+
+        // then
+        assertTrue(consolidated >= 1, "잔액 분산 계좌가 통합되어야 합니다.");
+        assertEquals(0, accountJpaRepository.findById(receiverAccountResponse.accountId().getValue()).orElseThrow().getBalance().compareTo(new BigDecimal(10_000L)), "분산 잔액이 계좌 잔액으로 통합되어야 합니다.");
+    }
+
+    private double useCaseCount(String useCase, String outcome, String exception) {
+        return Optional.ofNullable(meterRegistry.find("bank.use_case").tag("use_case", useCase).tag("outcome", outcome).tag("exception", exception).timer())
+                .map(timer -> (double) timer.count())
+                .orElse(0.0);
+    }
+
+    /*
+     * 계좌 요약 조회 쿼리의 실행 횟수 (Hibernate 통계)
+     */
+    private long summaryQueryExecutionCount() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        return Arrays.stream(statistics.getQueries())
+                .filter(query -> query.contains("AccountSummaryProjection"))
+                .mapToLong(query -> statistics.getQueryStatistics(query).getExecutionCount())
+                .sum();
+    }
+}
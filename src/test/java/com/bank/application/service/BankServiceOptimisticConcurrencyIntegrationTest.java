@@ -0,0 +1,93 @@
+package com.bank.application.service;
+
+import com.bank.adapter.output.persistence.entity.AccountEntity;
+import com.bank.adapter.output.persistence.repository.AccountJpaRepository;
+import com.bank.application.port.input.dto.CreateAccountCommand;
+import com.bank.application.port.input.dto.CreateAccountResponse;
+import com.bank.application.port.input.dto.DepositMoneyCommand;
+import com.bank.application.port.input.dto.TransferMoneyCommand;
+import com.bank.application.service.concurrency.ConcurrencyProperties;
+import com.bank.domain.account.valueobject.Money;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springdoc.webmvc.ui.SwaggerConfig;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.math.BigDecimal;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = {
+        "bank.concurrency.mode=optimistic"
+})
+@ImportAutoConfiguration(exclude = { SwaggerConfig.class })
+class BankServiceOptimisticConcurrencyIntegrationTest {
+
+    @Autowired
+    private BankService bankService;
+
+    @Autowired
+    private AccountJpaRepository accountJpaRepository;
+
+    @Autowired
+    private ConcurrencyProperties concurrencyProperties;
+
+    @Test
+    @DisplayName("낙관적 동시성 모드 - 동시 송금 요청시 충돌은 재시도되고, 재시도를 다 쓴 송금만 충돌로 실패하며 잔액이 정확해야 한다.")
+    void 계좌_송금_성공_낙관적모드_동시요청() {
+        // given
+        assertTrue(concurrencyProperties.isOptimistic(), "낙관적 동시성 모드로 실행되어야 합니다.");
+
+        CreateAccountResponse senderAccount = bankService.createAccount(new CreateAccountCommand("홍길동"));
+        CreateAccountResponse receiverAccount = bankService.createAccount(new CreateAccountCommand("김철수"));
+        Money depositAmount = Money.of(new BigDecimal(2_000_000L));
+        bankService.deposit(new DepositMoneyCommand(senderAccount.accountNumber(), depositAmount));
+
+        int executorCount = 200;
+        Money transferAmount = Money.of(new BigDecimal(1_000L));
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CompletableFuture[] futures = new CompletableFuture[executorCount];
+        AtomicInteger successCount = new AtomicInteger(0);
+        AtomicInteger failCount = new AtomicInteger(0);
+        AtomicInteger unexpectedFailCount = new AtomicInteger(0);
+
+        for (int i = 0; i < executorCount; i++) {
+            TransferMoneyCommand transferMoneyCommand = new TransferMoneyCommand(senderAccount.accountNumber(), receiverAccount.accountNumber(), transferAmount);
+
+            futures[i] = CompletableFuture.runAsync(() -> {
+                try {
+                    bankService.transfer(transferMoneyCommand);
+                    successCount.incrementAndGet();
+                } catch (OptimisticLockingFailureException e) {
+                    // 한 계좌에 몰린 송금은 제한된 재시도 안에 성공하지 못할 수 있다.
+                    failCount.incrementAndGet();
+                } catch (RuntimeException e) {
+                    System.out.println("계좌 송금 실패: " + e.getMessage());
+                    unexpectedFailCount.incrementAndGet();
+                }
+            }, executor);
+        }
+
+        // when
+        CompletableFuture.allOf(futures).join();
+        executor.shutdown();
+
+        // then
+        AccountEntity findSenderAccount = accountJpaRepository.findById(senderAccount.accountId().getValue()).orElseThrow();
+        AccountEntity findReceiverAccount = accountJpaRepository.findById(receiverAccount.accountId().getValue()).orElseThrow();
+
+        assertEquals(0, unexpectedFailCount.get(), "충돌 외의 이유로 실패한 송금이 없어야 합니다.");
+        assertEquals(executorCount, successCount.get() + failCount.get(), "모든 송금은 성공하거나 충돌로 실패해야 합니다.");
+        assertTrue(successCount.get() > failCount.get(), "충돌한 송금 대부분은 재시도로 성공해야 합니다.");
+        assertEquals(2_000_000L - successCount.get() * 1_010L, findSenderAccount.getBalance().longValue(), "성공한 송금만 송금 계좌 잔액에 반영되어야 합니다.(수수료 포함)");
+        assertEquals(successCount.get() * 1_000L, findReceiverAccount.getBalance().longValue(), "성공한 송금만 수취 계좌 잔액에 반영되어야 합니다.");
+    }
+}
@@ -0,0 +1,133 @@
+package com.bank.application.service.idempotency;
+
+import com.bank.adapter.output.persistence.entity.AccountEntity;
+import com.bank.adapter.output.persistence.repository.AccountJpaRepository;
+import com.bank.application.exception.IdempotencyKeyConflictException;
+import com.bank.application.port.input.dto.DepositMoneyCommand;
+import com.bank.application.port.input.dto.DepositMoneyResponse;
+import com.bank.application.port.output.persistence.AccountRepository;
+import com.bank.application.service.BankService;
+import com.bank.domain.account.entity.Account;
+import com.bank.domain.account.valueobject.Money;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springdoc.webmvc.ui.SwaggerConfig;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ImportAutoConfiguration(exclude = { SwaggerConfig.class })
+class IdempotencyServiceIntegrationTest {
+
+    @Autowired
+    private IdempotencyService idempotencyService;
+
+    @Autowired
+    private BankService bankService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private AccountJpaRepository accountJpaRepository;
+
+    @Test
+    @DisplayName("같은 멱등 키로 재시도하면 한 번만 처리되고 저장된 응답을 반환한다.")
+    void 멱등키_재시도_한번만처리() {
+        // given
+        Account account = Account.createAccount("홍길동");
+        accountRepository.create(account);
+        DepositMoneyCommand command = new DepositMoneyCommand(account.getAccountNumber(), Money.of(new BigDecimal(10_000)));
+        String idempotencyKey = UUID.randomUUID().toString();
+
+        // when
+        DepositMoneyResponse firstResponse = idempotencyService.execute(idempotencyKey, "deposit", command, DepositMoneyResponse.class, () -> bankService.deposit(command));
+        DepositMoneyResponse retriedResponse = idempotencyService.execute(idempotencyKey, "deposit", command, DepositMoneyResponse.class, () -> bankService.deposit(command));
+
+        // then
+        AccountEntity accountEntity = accountJpaRepository.findById(account.getId().getValue()).orElseThrow();
+        assertEquals(0, new BigDecimal(10_000).compareTo(accountEntity.getBalance()), "입금은 한 번만 반영되어야 합니다.");
+        assertEquals(firstResponse.balance(), retriedResponse.balance(), "재시도 응답은 처음 응답과 같아야 합니다.");
+        assertEquals(firstResponse.depositAt().toInstant(), retriedResponse.depositAt().toInstant(), "재시도 응답은 처음 응답과 같아야 합니다.");
+    }
+
+    @Test
+    @DisplayName("같은 멱등 키로 동시에 요청해도 한 번만 처리된다.")
+    void 멱등키_동시요청_한번만처리() {
+        // given
+        Account account = Account.createAccount("홍길동");
+        accountRepository.create(account);
+        DepositMoneyCommand command = new DepositMoneyCommand(account.getAccountNumber(), Money.of(new BigDecimal(10_000)));
+        String idempotencyKey = UUID.randomUUID().toString();
+        int executorCount = 20;
+        ExecutorService executorService = Executors.newFixedThreadPool(executorCount);
+        CompletableFuture<?>[] futures = new CompletableFuture[executorCount];
+
+        // when
+        for (int i = 0; i < executorCount; i++) {
+            futures[i] = CompletableFuture.runAsync(() -> {
+                try {
+                    idempotencyService.execute(idempotencyKey, "deposit", command, DepositMoneyResponse.class, () -> bankService.deposit(command));
+                } catch (IdempotencyKeyConflictException e) {
+                    // 먼저 들어온 요청이 아직 처리 중인 경우
+                }
+            }, executorService);
+        }
+        CompletableFuture.allOf(futures).join();
+        executorService.shutdown();
+
+        // then
+        AccountEntity accountEntity = accountJpaRepository.findById(account.getId().getValue()).orElseThrow();
+        assertEquals(0, new BigDecimal(10_000).compareTo(accountEntity.getBalance()), "입금은 한 번만 반영되어야 합니다.");
+    }
+
+    @Test
+    @DisplayName("같은 멱등 키로 다른 요청을 보내면 실패한다.")
+    void 멱등키_다른요청_실패() {
+        // given
+        Account account = Account.createAccount("홍길동");
+        accountRepository.create(account);
+        DepositMoneyCommand command = new DepositMoneyCommand(account.getAccountNumber(), Money.of(new BigDecimal(10_000)));
+        DepositMoneyCommand otherCommand = new DepositMoneyCommand(account.getAccountNumber(), Money.of(new BigDecimal(20_000)));
+        String idempotencyKey = UUID.randomUUID().toString();
+        idempotencyService.execute(idempotencyKey, "deposit", command, DepositMoneyResponse.class, () -> bankService.deposit(command));
+
+        // when & then
+        assertThrows(
+                IdempotencyKeyConflictException.class,
+                () -> idempotencyService.execute(idempotencyKey, "deposit", otherCommand, DepositMoneyResponse.class, () -> bankService.deposit(otherCommand))
+        );
+    }
+
+    @Test
+    @DisplayName("유스케이스에서 난 제약 위반은 멱등 키 충돌로 바꾸지 않고 그대로 전파하며, 키는 선점되지 않는다.")
+    void 멱등키_유스케이스_제약위반_전파() {
+        // given
+        Account account = Account.createAccount("홍길동");
+        accountRepository.create(account);
+        DepositMoneyCommand command = new DepositMoneyCommand(account.getAccountNumber(), Money.of(new BigDecimal(10_000)));
+        String idempotencyKey = UUID.randomUUID().toString();
+
+        // when
+        assertThrows(
+                DataIntegrityViolationException.class,
+                () -> idempotencyService.execute(idempotencyKey, "deposit", command, DepositMoneyResponse.class, () -> {
+                    throw new DataIntegrityViolationException("유스케이스 제약 위반");
+                })
+        );
+        DepositMoneyResponse retriedResponse = idempotencyService.execute(idempotencyKey, "deposit", command, DepositMoneyResponse.class, () -> bankService.deposit(command));
+
+        // then
+        assertEquals(0, new BigDecimal(10_000).compareTo(retriedResponse.balance().amount()), "실패한 요청은 같은 키로 다시 처리되어야 합니다.");
+    }
+}
@@ -0,0 +1,172 @@
+package com.bank.application.service.outbox;
+
+import com.bank.adapter.output.event.InMemoryAccountEventSink;
+import com.bank.application.port.input.RelayAccountEventsUseCase;
+import com.bank.application.port.input.dto.CreateAccountCommand;
+import com.bank.application.port.input.dto.CreateAccountResponse;
+import com.bank.application.port.input.dto.DepositMoneyCommand;
+import com.bank.application.port.input.dto.TransferMoneyCommand;
+import com.bank.application.port.input.dto.WithdrawMoneyCommand;
+import com.bank.application.port.output.event.AccountEvent;
+import com.bank.application.port.output.event.AccountEventType;
+import com.bank.application.port.output.event.OutboxEvent;
+import com.bank.application.port.output.persistence.AccountEventOutboxRepository;
+import com.bank.application.service.BankService;
+import com.bank.domain.account.exception.InsufficientBalanceException;
+import com.bank.domain.account.valueobject.AccountNumber;
+import com.bank.domain.account.valueobject.Money;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springdoc.webmvc.ui.SwaggerConfig;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+ * 주기 릴레이는 꺼 두고(테스트 설정) 직접 릴레이한다. (다른 테스트 컨텍스트와 아웃박스를 나누지 않도록 별도 DB 사용)
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:outbox",
+        "bank.outbox.sink.type=memory"
+})
+@ImportAutoConfiguration(exclude = { SwaggerConfig.class })
+class AccountEventRelayIntegrationTest {
+
+    @Autowired
+    private BankService bankService;
+
+    @Autowired
+    private RelayAccountEventsUseCase relayAccountEventsUseCase;
+
+    @Autowired
+    private InMemoryAccountEventSink sink;
+
+    @Autowired
+    private AccountEventOutboxRepository outboxRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("이체 이벤트 전달 - 송금/수취 이벤트가 같은 분개 식별자와 상대 계좌번호로 순번 순으로 전달된다.")
+    void 이체_이벤트_전달() {
+        // given
+        CreateAccountResponse sender = bankService.createAccount(new CreateAccountCommand("홍길동"));
+        CreateAccountResponse receiver = bankService.createAccount(new CreateAccountCommand("김철수"));
+        bankService.deposit(new DepositMoneyCommand(sender.accountNumber(), Money.of(new BigDecimal(100_000L))));
+        bankService.transfer(new TransferMoneyCommand(sender.accountNumber(), receiver.accountNumber(), Money.of(new BigDecimal(10_000L))));
+
+        // when
+        List<OutboxEvent> outboxEvents = relayAll();
+
+        // then
+        for (int i = 1; i < outboxEvents.size(); i++) {
+            assertTrue(outboxEvents.get(i - 1).sequence() < outboxEvents.get(i).sequence(), "순번 순으로 전달되어야 합니다.");
+        }
+        List<AccountEvent> events = eventsOf(outboxEvents, sender.accountNumber(), receiver.accountNumber());
+        assertEquals(
+                List.of(AccountEventType.ACCOUNT_CREATED, AccountEventType.ACCOUNT_CREATED, AccountEventType.DEPOSITED, AccountEventType.TRANSFERRED, AccountEventType.RECEIVED),
+                events.stream().map(AccountEvent::type).toList(),
+                "유스케이스 순서대로 전달되어야 합니다."
+        );
+        AccountEvent transferred = events.get(3);
+        AccountEvent received = events.get(4);
+        assertEquals(transferred.journalEntryId(), received.journalEntryId(), "송금/수취 이벤트는 같은 분개 식별자를 가져야 합니다.");
+        assertEquals(receiver.accountNumber(), transferred.counterpartyAccountNumber(), "송금 이벤트의 상대 계좌번호가 일치해야 합니다.");
+        assertEquals(sender.accountNumber(), received.counterpartyAccountNumber(), "수취 이벤트의 상대 계좌번호가 일치해야 합니다.");
+        assertEquals(Money.of(new BigDecimal(100L)), transferred.transferFee(), "송금 이벤트의 수수료가 일치해야 합니다.");
+        assertEquals(0, relayAccountEventsUseCase.relayAccountEvents(), "전달한 이벤트는 다시 전달하지 않아야 합니다.");
+    }
+
+    @Test
+    @DisplayName("실패한 유스케이스의 이벤트는 전달되지 않는다.")
+    void 실패한_유스케이스_이벤트_미전달() {
+        // given
+        CreateAccountResponse account = bankService.createAccount(new CreateAccountCommand("홍길동"));
+        bankService.deposit(new DepositMoneyCommand(account.accountNumber(), Money.of(new BigDecimal(1_000L))));
+
+        // when
+        assertThrows(InsufficientBalanceException.class, () -> bankService.withdraw(new WithdrawMoneyCommand(account.accountNumber(), Money.of(new BigDecimal(10_000L)))));
+        List<OutboxEvent> outboxEvents = relayAll();
+
+        // then
+        assertEquals(
+                List.of(AccountEventType.ACCOUNT_CREATED, AccountEventType.DEPOSITED),
+                eventsOf(outboxEvents, account.accountNumber()).stream().map(AccountEvent::type).toList(),
+                "실패한 출금 이벤트는 기록되지 않아야 합니다."
+        );
+    }
+
+    @Test
+    @DisplayName("늦게 커밋된 이벤트 전달 - 낮은 순번이 나중에 커밋되어도 다음 릴레이에서 전달된다.")
+    void 늦게_커밋된_이벤트_전달() throws Exception {
+        // given
+        AccountNumber lateAccountNumber = AccountNumber.generateAccountNumber();
+        AccountNumber earlyAccountNumber = AccountNumber.generateAccountNumber();
+        CountDownLatch appended = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        // 먼저 순번을 받고 커밋은 늦게 하는 트랜잭션
+        Future<?> lateTransaction = executorService.submit(() -> new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            outboxRepository.appendAll(List.of(depositEvent(lateAccountNumber)));
+            appended.countDown();
+            try {
+                commit.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        assertTrue(appended.await(5, TimeUnit.SECONDS), "이벤트가 추가되어야 합니다.");
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> outboxRepository.appendAll(List.of(depositEvent(earlyAccountNumber))));
+
+        // when
+        List<AccountEvent> beforeCommit = eventsOf(relayAll(), lateAccountNumber, earlyAccountNumber);
+        commit.countDown();
+        lateTransaction.get(10, TimeUnit.SECONDS);
+        executorService.shutdown();
+        List<AccountEvent> afterCommit = eventsOf(relayAll(), lateAccountNumber, earlyAccountNumber);
+
+        // then
+        assertEquals(List.of(earlyAccountNumber), beforeCommit.stream().map(AccountEvent::accountNumber).toList(), "커밋된 이벤트만 전달되어야 합니다.");
+        assertEquals(List.of(lateAccountNumber), afterCommit.stream().map(AccountEvent::accountNumber).toList(), "늦게 커밋된 이벤트도 전달되어야 합니다.");
+    }
+
+    private List<OutboxEvent> relayAll() {
+        List<OutboxEvent> events = new ArrayList<>();
+        while (relayAccountEventsUseCase.relayAccountEvents() > 0) {
+            events.addAll(sink.drain());
+        }
+
+        return events;
+    }
+
+    private List<AccountEvent> eventsOf(List<OutboxEvent> outboxEvents, AccountNumber... accountNumbers) {
+        Set<AccountNumber> accountNumberSet = Set.of(accountNumbers);
+
+        return outboxEvents.stream()
+                .map(OutboxEvent::event)
+                .filter(event -> accountNumberSet.contains(event.accountNumber()))
+                .toList();
+    }
+
+    private AccountEvent depositEvent(AccountNumber accountNumber) {
+        Money amount = Money.of(new BigDecimal(1_000L));
+
+        return new AccountEvent(AccountEventType.DEPOSITED, accountNumber, null, null, amount, amount, null, null, ZonedDateTime.now());
+    }
+}
@@ -1,11 +1,19 @@
 package com.bank.domain.account.entity;
 
 import com.bank.domain.account.exception.AccountDomainException;
+import com.bank.domain.account.valueobject.AccountId;
+import com.bank.domain.account.valueobject.DailyLimitUsage;
+import com.bank.domain.account.valueobject.FeeSchedule;
+import com.bank.domain.account.valueobject.FeeTier;
 import com.bank.domain.account.valueobject.Money;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.Random;
@@ -205,6 +213,71 @@ class AccountTest {
         }
     }
 
+    @Test
+    @DisplayName("출금 성공(출금 후 일일 출금 누적액 증가)")
+    void 출금_성공_일일누적() {
+        // given
+        Account account = Account.createAccount("홍길동");
+        account.deposit(Money.of(BigDecimal.valueOf(10_000)));
+        Money withdrawAmount = Money.of(BigDecimal.valueOf(1_000));
+
+        // when
+        account.withdraw(withdrawAmount);
+        account.withdraw(withdrawAmount);
+
+        // then
+        assertEquals(LocalDate.now(), account.getDailyLimitUsage().usageDate(), "일일 한도 기준일은 오늘이어야 한다.");
+        assertEquals(Money.of(BigDecimal.valueOf(2_000)), account.getDailyLimitUsage().withdrawalAmount(), "일일 출금 누적액이 일치하지 않습니다.");
+        assertEquals(Money.ZERO, account.getDailyLimitUsage().transferAmount(), "일일 이체 누적액은 변하지 않아야 한다.");
+    }
+
+    @Test
+    @DisplayName("출금 성공(전일 출금 누적액은 한도에 포함되지 않는다)")
+    void 출금_성공_전일누적초기화() {
+        // given
+        Account account = Account.builder()
+                .status(AccountStatus.ACTIVE)
+                .balance(Money.of(BigDecimal.valueOf(1_000)))
+                .dailyLimitUsage(
+                        new DailyLimitUsage(
+                                LocalDate.now().minusDays(1),
+                                Account.DEFAULT_WITHDRAW_LIMIT_AMOUNT,
+                                Money.ZERO
+                        )
+                )
+                .build();
+        Money withdrawAmount = Money.of(BigDecimal.valueOf(1_000));
+
+        // when
+        account.withdraw(withdrawAmount);
+
+        // then
+        assertEquals(Money.ZERO, account.getBalance(), "출금 후 잔액이 일치하지 않습니다.");
+        assertEquals(withdrawAmount, account.getDailyLimitUsage().withdrawalAmount(), "일일 출금 누적액은 오늘 출금액만 포함해야 한다.");
+    }
+
+    @Test
+    @DisplayName("출금 실패(일일 한도 기준일은 전달받은 시계 기준)")
+    void 출금_실패_시계기준일() {
+        // given
+        LocalDate usageDate = LocalDate.of(2024, 1, 2);
+        Clock clock = Clock.fixed(usageDate.atTime(12, 0).atZone(ZoneId.systemDefault()).toInstant(), ZoneId.systemDefault());
+        Account account = Account.builder()
+                .status(AccountStatus.ACTIVE)
+                .balance(Money.of(BigDecimal.valueOf(1_000)))
+                .dailyLimitUsage(new DailyLimitUsage(usageDate, Account.DEFAULT_WITHDRAW_LIMIT_AMOUNT, Money.ZERO))
+                .build();
+
+        // when
+        try {
+            account.withdraw(Money.of(BigDecimal.valueOf(1_000)), clock);
+            fail("출금 한도 초과 예외가 발생해야 한다.");
+        } catch (AccountDomainException e) {
+            // then
+            assertEquals("출금 실패: 출금 한도를 초과했습니다.", e.getMessage(), "시계의 오늘 누적액이 한도에 포함되어야 한다.");
+        }
+    }
+
     @Test
     @DisplayName("이체 성공")
     void 이체_성공() {
@@ -224,6 +297,74 @@ class AccountTest {
         assertEquals(2, transferAccount.getTransactions().size(), "이체 후 거래 내역이 추가되어야 한다.");
     }
 
+    @Test
+    @DisplayName("이체 성공 - 수수료 체계의 계좌 등급 구간 적용")
+    void 이체_성공_수수료체계() {
+        // given
+        Account transferAccount = Account.builder()
+                .id(AccountId.generateId())
+                .accountClass(AccountClass.PREMIUM)
+                .balance(Money.of(BigDecimal.valueOf(100_000)))
+                .dailyLimitUsage(DailyLimitUsage.empty(LocalDate.now()))
+                .build();
+        Account receiveAccount = Account.createAccount("김철수");
+        FeeSchedule feeSchedule = FeeSchedule.compile(List.of(
+                new FeeTier(AccountClass.PREMIUM, null, null, Money.ZERO, FeeTier.toBasisPoints(new BigDecimal("0.001")), Money.ZERO, Money.of(BigDecimal.valueOf(50)), null)
+        ));
+
+        // when
+        TransferTransaction transaction = transferAccount.transfer(receiveAccount.getId(), Money.of(BigDecimal.valueOf(10_000)), feeSchedule, Clock.systemDefaultZone());
+
+        // then
+        assertEquals(Money.of(BigDecimal.valueOf(50)), transaction.getTransferFee(), "등급 구간의 최소 수수료가 적용되어야 한다.");
+        assertEquals(Money.of(BigDecimal.valueOf(89_950)), transferAccount.getBalance(), "이체 후 잔액이 일치해야 한다.");
+    }
+
+    @Test
+    @DisplayName("이체 성공 - 수수료 체계의 시간대 구간은 전달받은 시계 기준으로 적용")
+    void 이체_성공_수수료체계_시간대() {
+        // given
+        Account transferAccount = Account.builder()
+                .id(AccountId.generateId())
+                .accountClass(AccountClass.PREMIUM)
+                .balance(Money.of(BigDecimal.valueOf(100_000)))
+                .dailyLimitUsage(DailyLimitUsage.empty(LocalDate.now()))
+                .build();
+        Account receiveAccount = Account.createAccount("김철수");
+        FeeSchedule feeSchedule = FeeSchedule.compile(List.of(
+                new FeeTier(AccountClass.PREMIUM, LocalTime.of(22, 0), LocalTime.of(6, 0), Money.ZERO, 0, Money.ZERO, null, null)
+        ));
+        Clock night = Clock.fixed(LocalDate.now().atTime(23, 0).atZone(ZoneId.systemDefault()).toInstant(), ZoneId.systemDefault());
+
+        // when
+        TransferTransaction transaction = transferAccount.transfer(receiveAccount.getId(), Money.of(BigDecimal.valueOf(10_000)), feeSchedule, night);
+
+        // then
+        assertEquals(Money.ZERO, transaction.getTransferFee(), "야간 구간은 수수료가 없어야 한다.");
+    }
+
+    @Test
+    @DisplayName("이체 성공 - 일일 한도 기준일은 수수료 시간대와 같은 시계 기준으로 정한다")
+    void 이체_성공_시계기준일() {
+        // given
+        LocalDate today = LocalDate.of(2024, 1, 2);
+        Clock clock = Clock.fixed(today.atTime(0, 5).atZone(ZoneId.systemDefault()).toInstant(), ZoneId.systemDefault());
+        Account transferAccount = Account.builder()
+                .id(AccountId.generateId())
+                .balance(Money.of(BigDecimal.valueOf(100_000)))
+                .dailyLimitUsage(new DailyLimitUsage(today.minusDays(1), Money.ZERO, Account.DEFAULT_TRANSFER_LIMIT_AMOUNT))
+                .build();
+        Account receiveAccount = Account.createAccount("김철수");
+        Money transferAmount = Money.of(BigDecimal.valueOf(10_000));
+
+        // when
+        transferAccount.transfer(receiveAccount.getId(), transferAmount, FeeSchedule.flat(), clock);
+
+        // then
+        assertEquals(today, transferAccount.getDailyLimitUsage().usageDate(), "일일 한도 기준일은 시계의 오늘이어야 한다.");
+        assertEquals(transferAmount, transferAccount.getDailyLimitUsage().transferAmount(), "전일 이체 누적액은 한도에 포함되지 않아야 한다.");
+    }
+
     @Test
     @DisplayName("이체 실패(파기된 계좌)")
     void 이체_실패1() {
@@ -341,4 +482,61 @@ class AccountTest {
             assertEquals("수취 실패: 계좌 상태가 수취를 허용하지 않습니다.", e.getMessage(), "수신 실패 예외 메시지가 일치해야 한다.");
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("수신 성공(잔액 분산 계좌는 잔액을 바로 바꾸지 않는다.)")
+    void 수신_성공_잔액분산() {
+        // given
+        Account transferAccount = Account.createAccount("홍길동");
+        Account receiveAccount = Account.builder()
+                .status(AccountStatus.ACTIVE)
+                .balance(Money.of(BigDecimal.valueOf(1_000)))
+                .balanceShardCount(4)
+                .build();
+        Money transferAmount = Money.of(BigDecimal.valueOf(1_000));
+
+        // when
+        ReceiveTransaction transaction = receiveAccount.receive(transferAccount.getId(), transferAmount);
+
+        // then
+        assertEquals(Money.of(BigDecimal.valueOf(1_000)), receiveAccount.getBalance(), "분산 계좌의 잔액은 통합 전까지 바뀌지 않아야 한다.");
+        assertEquals(transferAmount, transaction.getAmount(), "수신 금액이 일치하지 않습니다.");
+        assertEquals(1, receiveAccount.getNewTransactions().size(), "수신 거래가 기록되어야 한다.");
+    }
+
+    @Test
+    @DisplayName("수신 성공(송금 거래로 수신하면 같은 분개 식별자를 공유한다.)")
+    void 수신_성공_분개식별자_공유() {
+        // given
+        Account transferAccount = Account.createAccount("홍길동");
+        transferAccount.deposit(Money.of(BigDecimal.valueOf(100_000)));
+        Account receiveAccount = Account.createAccount("김철수");
+        TransferTransaction transferTransaction = transferAccount.transfer(receiveAccount.getId(), Money.of(BigDecimal.valueOf(10_000)));
+
+        // when
+        ReceiveTransaction transaction = receiveAccount.receive(transferTransaction);
+
+        // then
+        assertEquals(transferTransaction.getId(), transaction.getJournalEntryId(), "수신 거래는 송금 거래의 분개 식별자를 공유해야 한다.");
+        assertEquals(transferTransaction.getJournalEntryId(), transaction.getJournalEntryId(), "송금/수신 분개 식별자가 일치하지 않습니다.");
+        assertEquals(transferAccount.getId(), transaction.getSenderAccountId(), "송금 계좌가 일치하지 않습니다.");
+        assertEquals(transferTransaction.getAmount(), transaction.getAmount(), "수신 금액이 일치하지 않습니다.");
+    }
+
+    @Test
+    @DisplayName("잔액 분산 설정 실패(분산 수 감소)")
+    void 잔액_분산_설정_실패() {
+        // given
+        Account account = Account.createAccount("홍길동");
+        account.enableBalanceStriping(8);
+
+        // when
+        try {
+            account.enableBalanceStriping(4);
+            fail("잔액 분산 설정 실패 예외가 발생해야 한다.");
+        } catch (AccountDomainException e) {
+            // then
+            assertEquals(8, account.getBalanceShardCount(), "분산 수가 바뀌지 않아야 한다.");
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.bank.domain.account.valueobject;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AccountNumberGeneratorTest {
+
+    @Test
+    @DisplayName("계좌번호 생성 성공 - 형식 및 검증 숫자")
+    void 계좌번호_생성_성공() {
+        // given
+        AccountNumberGenerator generator = new AccountNumberGenerator(123, 10, new AtomicLong(5)::getAndIncrement);
+
+        // when
+        AccountNumber accountNumber = generator.generate();
+
+        // then
+        // 노드 123, 순번 50 (블록 5 * 크기 10), 검증 숫자 7
+        assertEquals("1230-000-000507", accountNumber.value(), "노드 번호, 순번, 검증 숫자로 구성되어야 한다.");
+        assertTrue(AccountNumberGenerator.isValid(accountNumber), "검증 숫자가 일치해야 한다.");
+        assertFalse(AccountNumberGenerator.isValid(AccountNumber.of("1230-000-000501")), "검증 숫자가 다르면 유효하지 않아야 한다.");
+    }
+
+    @Test
+    @DisplayName("계좌번호 생성 실패 - 순번 소진")
+    void 계좌번호_생성_실패_순번소진() {
+        // given
+        AccountNumberGenerator generator = new AccountNumberGenerator(0, 1_000, () -> 1_000_000L);
+
+        // when & then
+        assertThrows(IllegalStateException.class, generator::generate, "순번이 소진되면 실패해야 한다.");
+    }
+
+    @Test
+    @DisplayName("계좌번호 동시 생성 성공 - 백만 건 이상 중복 없음")
+    void 계좌번호_동시생성_중복없음() throws Exception {
+        // given
+        // 두 노드가 같은 블록 시퀀스를 공유하는 상황
+        AtomicLong blockSequence = new AtomicLong();
+        List<AccountNumberGenerator> generators = List.of(
+                new AccountNumberGenerator(1, 1_000, blockSequence::getAndIncrement),
+                new AccountNumberGenerator(2, 1_000, blockSequence::getAndIncrement)
+        );
+        int threadCount = 8;
+        int countPerThread = 250_000;
+
+        // when
+        List<long[]> results = new ArrayList<>();
+        try (ExecutorService executorService = Executors.newFixedThreadPool(threadCount)) {
+            List<Future<long[]>> futures = new ArrayList<>();
+            for (int i = 0; i < threadCount; i++) {
+                AccountNumberGenerator generator = generators.get(i % generators.size());
+                futures.add(executorService.submit(() -> {
+                    long[] numbers = new long[countPerThread];
+                    for (int j = 0; j < countPerThread; j++) {
+                        numbers[j] = Long.parseLong(generator.generate().value().replace("-", ""));
+                    }
+                    return numbers;
+                }));
+            }
+            for (Future<long[]> future : futures) {
+                results.add(future.get());
+            }
+        }
+
+        // then
+        long[] all = results.stream().flatMapToLong(Arrays::stream).sorted().toArray();
+        assertEquals((long) threadCount * countPerThread, all.length, "요청한 만큼 생성되어야 한다.");
+        for (int i = 1; i < all.length; i++) {
+            assertNotEquals(all[i - 1], all[i], "계좌번호가 중복되지 않아야 한다.");
+        }
+    }
+}
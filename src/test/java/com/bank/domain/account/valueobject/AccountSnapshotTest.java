@@ -0,0 +1,61 @@
+package com.bank.domain.account.valueobject;
+
+import com.bank.domain.account.entity.DepositTransaction;
+import com.bank.domain.account.entity.ReceiveTransaction;
+import com.bank.domain.account.entity.TransferTransaction;
+import com.bank.domain.account.entity.WithdrawalTransaction;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class AccountSnapshotTest {
+
+    private final AccountId accountId = AccountId.generateId();
+    private final AccountId counterpartAccountId = AccountId.generateId();
+
+    @Test
+    @DisplayName("스냅샷 적용 성공 - 입금/수취는 더하고, 출금/송금(수수료 포함)은 뺀다.")
+    void 스냅샷_적용_성공() {
+        // given
+        AccountSnapshot snapshot = new AccountSnapshot(0L, Money.ZERO, DailyLimitUsage.empty(LocalDate.now()));
+
+        // when
+        snapshot = snapshot.apply(1L, DepositTransaction.recordDepositTransaction(accountId, money(100_000), money(100_000)));
+        snapshot = snapshot.apply(2L, ReceiveTransaction.recordReceiveTransaction(accountId, counterpartAccountId, money(50_000), money(150_000)));
+        snapshot = snapshot.apply(3L, WithdrawalTransaction.recordWithdrawalTransaction(accountId, money(10_000), money(140_000)));
+        snapshot = snapshot.apply(4L, TransferTransaction.recordTransferTransaction(accountId, counterpartAccountId, money(200), money(20_000), money(119_800)));
+
+        // then
+        assertEquals(4L, snapshot.eventSequence(), "마지막 거래 순번이어야 한다.");
+        assertEquals(money(119_800), snapshot.balance(), "잔액이 일치해야 한다.");
+        assertEquals(money(10_000), snapshot.dailyLimitUsage().withdrawalAmount(), "출금 사용량이 일치해야 한다.");
+        assertEquals(money(20_000), snapshot.dailyLimitUsage().transferAmount(), "이체 사용량(수수료 제외)이 일치해야 한다.");
+    }
+
+    @Test
+    @DisplayName("스냅샷 적용 성공 - 기준일이 지난 한도 사용량은 거래 일자부터 다시 집계한다.")
+    void 스냅샷_적용_성공_한도사용량_초기화() {
+        // given
+        AccountSnapshot snapshot = new AccountSnapshot(
+                7L,
+                money(100_000),
+                new DailyLimitUsage(LocalDate.now().minusDays(1), money(900_000), money(2_000_000))
+        );
+
+        // when
+        snapshot = snapshot.apply(8L, WithdrawalTransaction.recordWithdrawalTransaction(accountId, money(1_000), money(99_000)));
+
+        // then
+        assertEquals(LocalDate.now(), snapshot.dailyLimitUsage().usageDate(), "기준일이 거래 일자여야 한다.");
+        assertEquals(money(1_000), snapshot.dailyLimitUsage().withdrawalAmount(), "출금 사용량은 다시 집계되어야 한다.");
+        assertEquals(Money.ZERO, snapshot.dailyLimitUsage().transferAmount(), "이체 사용량은 초기화되어야 한다.");
+    }
+
+    private static Money money(long amount) {
+        return Money.of(new BigDecimal(amount));
+    }
+}
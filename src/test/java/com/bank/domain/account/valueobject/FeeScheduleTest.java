@@ -0,0 +1,106 @@
+package com.bank.domain.account.valueobject;
+
+import com.bank.domain.account.entity.AccountClass;
+import com.bank.domain.account.exception.InvalidFeeScheduleException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FeeScheduleTest {
+
+    private static final FeeRate DEFAULT_FEE_RATE = FeeRate.of(new BigDecimal("0.01"));
+    private static final LocalTime NOON = LocalTime.NOON;
+
+    @Test
+    @DisplayName("수수료 계산 성공 - 규칙 없으면 계좌 기본 수수료율")
+    void 수수료_계산_성공_기본수수료율() {
+        // given
+        FeeSchedule schedule = FeeSchedule.flat();
+
+        // when
+        Money fee = schedule.calculateFee(AccountClass.STANDARD, won(10_000), NOON, DEFAULT_FEE_RATE);
+
+        // then
+        assertEquals(won(100), fee, "기본 수수료율(1%)이 적용되어야 한다.");
+    }
+
+    @Test
+    @DisplayName("수수료 계산 성공 - 금액 구간별 수수료율 및 상한")
+    void 수수료_계산_성공_금액구간() {
+        // given
+        FeeSchedule schedule = FeeSchedule.compile(List.of(
+                tier(null, null, null, 0, "0.01", 0, null, null),
+                tier(null, null, null, 1_000_000, "0.005", 0, null, 10_000),
+                tier(null, null, null, 100_000, "0.008", 500, null, null)
+        ));
+
+        // when, then
+        assertEquals(won(500), schedule.calculateFee(AccountClass.STANDARD, won(50_000), NOON, DEFAULT_FEE_RATE), "10만원 미만은 1% 여야 한다.");
+        assertEquals(won(1_300), schedule.calculateFee(AccountClass.STANDARD, won(100_000), NOON, DEFAULT_FEE_RATE), "10만원 이상은 0.8% + 500원이어야 한다.");
+        assertEquals(won(5_000), schedule.calculateFee(AccountClass.STANDARD, won(1_000_000), NOON, DEFAULT_FEE_RATE), "100만원 이상은 0.5% 여야 한다.");
+        assertEquals(won(10_000), schedule.calculateFee(AccountClass.STANDARD, won(3_000_000), NOON, DEFAULT_FEE_RATE), "상한을 넘지 않아야 한다.");
+    }
+
+    @Test
+    @DisplayName("수수료 계산 성공 - 계좌 등급 및 자정을 넘는 시간대")
+    void 수수료_계산_성공_등급_시간대() {
+        // given
+        FeeSchedule schedule = FeeSchedule.compile(List.of(
+                tier(null, null, null, 0, "0.01", 0, null, null),
+                tier(AccountClass.PREMIUM, null, null, 0, "0.002", 0, won(100), null),
+                tier(AccountClass.PREMIUM, LocalTime.of(22, 0), LocalTime.of(6, 0), 0, "0", 0, null, null)
+        ));
+
+        // when, then
+        assertEquals(won(100), schedule.calculateFee(AccountClass.STANDARD, won(10_000), LocalTime.of(23, 0), DEFAULT_FEE_RATE), "등급 규칙이 없는 계좌는 공통 규칙이어야 한다.");
+        assertEquals(won(100), schedule.calculateFee(AccountClass.PREMIUM, won(10_000), NOON, DEFAULT_FEE_RATE), "최소 수수료가 적용되어야 한다.");
+        assertEquals(won(200), schedule.calculateFee(AccountClass.PREMIUM, won(100_000), NOON, DEFAULT_FEE_RATE), "등급 수수료율이 적용되어야 한다.");
+        assertEquals(Money.ZERO, schedule.calculateFee(AccountClass.PREMIUM, won(100_000), LocalTime.of(23, 30), DEFAULT_FEE_RATE), "야간 구간은 수수료가 없어야 한다.");
+        assertEquals(Money.ZERO, schedule.calculateFee(AccountClass.PREMIUM, won(100_000), LocalTime.of(5, 59), DEFAULT_FEE_RATE), "자정 이후 야간 구간도 수수료가 없어야 한다.");
+        assertEquals(won(200), schedule.calculateFee(AccountClass.PREMIUM, won(100_000), LocalTime.of(6, 0), DEFAULT_FEE_RATE), "야간 구간 종료 시각부터는 일반 구간이어야 한다.");
+    }
+
+    @Test
+    @DisplayName("수수료 계산 성공 - 구간 하한 미만은 계좌 기본 수수료율")
+    void 수수료_계산_성공_하한미만() {
+        // given
+        FeeSchedule schedule = FeeSchedule.compile(List.of(
+                tier(null, LocalTime.of(9, 0), LocalTime.of(18, 0), 1_000_000, "0.005", 0, null, null)
+        ));
+
+        // when, then
+        assertEquals(won(100), schedule.calculateFee(AccountClass.STANDARD, won(10_000), NOON, DEFAULT_FEE_RATE), "하한 미만은 기본 수수료율이어야 한다.");
+        assertEquals(won(10_000), schedule.calculateFee(AccountClass.STANDARD, won(1_000_000), LocalTime.of(20, 0), DEFAULT_FEE_RATE), "시간대 밖은 기본 수수료율이어야 한다.");
+    }
+
+    @Test
+    @DisplayName("수수료 체계 컴파일 실패 - 같은 시간대/하한의 중복 구간")
+    void 수수료_체계_컴파일_실패_중복구간() {
+        assertThrows(InvalidFeeScheduleException.class, () -> FeeSchedule.compile(List.of(
+                tier(null, LocalTime.of(9, 0), LocalTime.of(18, 0), 0, "0.01", 0, null, null),
+                tier(null, LocalTime.of(17, 0), LocalTime.of(20, 0), 0, "0.005", 0, null, null)
+        )), "겹치는 시간대에 하한이 같은 구간은 허용되지 않아야 한다.");
+    }
+
+    private static FeeTier tier(AccountClass accountClass, LocalTime startTime, LocalTime endTime, long minAmount, String rate, long fixedFee, Money minFee, Integer maxFee) {
+        return new FeeTier(
+                accountClass,
+                startTime,
+                endTime,
+                won(minAmount),
+                FeeTier.toBasisPoints(new BigDecimal(rate)),
+                won(fixedFee),
+                minFee,
+                maxFee == null ? null : won(maxFee)
+        );
+    }
+
+    private static Money won(long amount) {
+        return Money.of(BigDecimal.valueOf(amount));
+    }
+}
@@ -0,0 +1,59 @@
+package com.bank.domain.account.valueobject;
+
+import com.bank.domain.account.exception.MoneyOverflowException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MoneyTest {
+
+    @Test
+    @DisplayName("금액 변환 성공 - 최소 단위(소수점 2자리) HALF_EVEN 반올림")
+    void 금액_변환_성공() {
+        assertEquals(1_000_000L, Money.of(new BigDecimal(10_000)).minorUnits(), "1원은 100 최소 단위여야 한다.");
+        assertEquals(2L, Money.of(new BigDecimal("0.015")).minorUnits(), "0.015 는 0.02 로 반올림되어야 한다.");
+        assertEquals(2L, Money.of(new BigDecimal("0.025")).minorUnits(), "0.025 는 0.02 로 반올림되어야 한다.");
+        assertEquals(new BigDecimal("10000.00"), Money.of(new BigDecimal(10_000)).amount(), "경계 변환 값은 소수점 2자리여야 한다.");
+        assertEquals(Money.of(new BigDecimal("1.0")), Money.of(new BigDecimal("1.00")), "자릿수와 무관하게 같은 금액이어야 한다.");
+    }
+
+    @Test
+    @DisplayName("금액 연산 성공")
+    void 금액_연산_성공() {
+        // given
+        Money balance = Money.of(new BigDecimal("1000.50"));
+        Money amount = Money.of(new BigDecimal("0.75"));
+
+        // when, then
+        assertEquals(Money.of(new BigDecimal("1001.25")), balance.add(amount), "더한 금액이 일치해야 한다.");
+        assertEquals(Money.of(new BigDecimal("999.75")), balance.subtract(amount), "뺀 금액이 일치해야 한다.");
+        assertTrue(balance.isGreaterThan(amount), "큰 금액 비교가 일치해야 한다.");
+        assertFalse(Money.ZERO.isGreaterThanZero(), "0 은 양수가 아니어야 한다.");
+    }
+
+    @Test
+    @DisplayName("수수료 계산 성공 - BigDecimal 계산과 동일한 HALF_EVEN 반올림")
+    void 수수료_계산_성공() {
+        FeeRate feeRate = FeeRate.of(new BigDecimal("0.01"));
+
+        for (long minorUnits = 0; minorUnits < 10_000; minorUnits++) {
+            Money amount = Money.ofMinorUnits(minorUnits);
+            assertEquals(amount.multiply(feeRate.percentage()), feeRate.calculateFee(amount), "BigDecimal 계산 결과와 같아야 한다: " + amount);
+        }
+        assertEquals(Money.ofMinorUnits(-2), Money.ofMinorUnits(-150).multiply(1, 100), "음수도 HALF_EVEN 으로 반올림되어야 한다.");
+    }
+
+    @Test
+    @DisplayName("금액 연산 실패 - 범위 초과")
+    void 금액_연산_실패_범위초과() {
+        Money max = Money.ofMinorUnits(Long.MAX_VALUE);
+
+        assertThrows(MoneyOverflowException.class, () -> max.add(Money.ofMinorUnits(1)), "덧셈 범위 초과 예외가 발생해야 한다.");
+        assertThrows(MoneyOverflowException.class, () -> Money.ofMinorUnits(Long.MIN_VALUE).subtract(Money.ofMinorUnits(1)), "뺄셈 범위 초과 예외가 발생해야 한다.");
+        assertThrows(MoneyOverflowException.class, () -> max.multiply(2, 1), "곱셈 범위 초과 예외가 발생해야 한다.");
+        assertThrows(MoneyOverflowException.class, () -> Money.of(new BigDecimal("1e30")), "변환 범위 초과 예외가 발생해야 한다.");
+    }
+}
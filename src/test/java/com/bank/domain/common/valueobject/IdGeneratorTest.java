@@ -0,0 +1,86 @@
+package com.bank.domain.common.valueobject;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdGeneratorTest {
+
+    @Test
+    @DisplayName("UUIDv7 생성 성공 - 버전/변형 비트 및 시간순 정렬")
+    void UUIDv7_생성_성공() {
+        // given
+        UuidV7Generator generator = new UuidV7Generator();
+        long before = System.currentTimeMillis();
+
+        // when
+        List<UUID> uuids = IntStream.range(0, 10_000)
+                .mapToObj(i -> generator.nextUuid())
+                .toList();
+
+        // then
+        UUID first = uuids.get(0);
+        assertEquals(7, first.version(), "UUID 버전은 7이어야 한다.");
+        assertEquals(2, first.variant(), "UUID 변형은 RFC 9562 변형이어야 한다.");
+        assertTrue((first.getMostSignificantBits() >>> 16) >= before, "상위 48비트는 생성 시각(밀리초)이어야 한다.");
+        for (int i = 1; i < uuids.size(); i++) {
+            assertTrue(Long.compareUnsigned(uuids.get(i - 1).getMostSignificantBits(), uuids.get(i).getMostSignificantBits()) < 0, "생성 순서대로 증가해야 한다.");
+        }
+    }
+
+    @Test
+    @DisplayName("스노우플레이크 생성 성공 - 노드 번호 포함 및 증가")
+    void 스노우플레이크_생성_성공() {
+        // given
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(42);
+
+        // when
+        long first = generator.nextId();
+        long second = generator.nextId();
+
+        // then
+        assertEquals(42, (first >>> 12) & SnowflakeIdGenerator.MAX_NODE_ID, "노드 번호가 포함되어야 한다.");
+        assertTrue(first > 0, "식별자는 양수여야 한다.");
+        assertTrue(second > first, "생성 순서대로 증가해야 한다.");
+        assertThrows(IllegalArgumentException.class, () -> new SnowflakeIdGenerator(SnowflakeIdGenerator.MAX_NODE_ID + 1), "노드 번호 범위를 벗어나면 실패해야 한다.");
+    }
+
+    @Test
+    @DisplayName("식별자 동시 생성 성공 - 중복 없음")
+    void 식별자_동시생성_중복없음() throws Exception {
+        // given
+        List<IdGenerator> generators = List.of(new UuidV7Generator(), new SnowflakeIdGenerator(1));
+        int threadCount = 8;
+        int countPerThread = 10_000;
+
+        for (IdGenerator generator : generators) {
+            Set<UUID> uuids = ConcurrentHashMap.newKeySet();
+            try (ExecutorService executorService = Executors.newFixedThreadPool(threadCount)) {
+                // when
+                List<Future<?>> futures = IntStream.range(0, threadCount)
+                        .<Future<?>>mapToObj(i -> executorService.submit(() -> {
+                            for (int j = 0; j < countPerThread; j++) {
+                                uuids.add(generator.nextUuid());
+                            }
+                        }))
+                        .toList();
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+            }
+
+            // then
+            assertEquals(threadCount * countPerThread, uuids.size(), "동시에 생성한 식별자는 중복되지 않아야 한다.");
+        }
+    }
+}